@@ -0,0 +1,69 @@
+package com.wikia.webdriver.common.core;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Copy of the page DOM, taken with one getPageSource call and parsed with jsoup. Read only
+ * questions about the page, like counts, texts, links or attributes, are answered locally instead
+ * of with a findElements call each.
+ *
+ * Snapshot isn't updated when the page changes. Get it with
+ * {@link WikiaWebDriver#getDomSnapshot()}, which takes a new one after navigation, a click, typing
+ * or a script, and invalidate it with {@link WikiaWebDriver#invalidateDomSnapshot()} after other
+ * changes.
+ *
+ * Queries use jsoup CSS selectors and jsoup text, which unlike WebElement.getText() includes text
+ * of hidden elements.
+ */
+public class DomSnapshot {
+
+  private final Document document;
+
+  private DomSnapshot(Document document) {
+    this.document = document;
+  }
+
+  public static DomSnapshot of(WebDriver driver) {
+    return new DomSnapshot(Jsoup.parse(driver.getPageSource(), driver.getCurrentUrl()));
+  }
+
+  public Elements select(String cssSelector) {
+    return document.select(cssSelector);
+  }
+
+  public int count(String cssSelector) {
+    return select(cssSelector).size();
+  }
+
+  public boolean isPresent(String cssSelector) {
+    return select(cssSelector).first() != null;
+  }
+
+  public List<String> getTexts(String cssSelector) {
+    return select(cssSelector).stream().map(Element::text).collect(Collectors.toList());
+  }
+
+  public List<String> getAttributes(String cssSelector, String attribute) {
+    return select(cssSelector).stream().map(element -> element.attr(attribute))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return absolute urls from href attributes of matching elements
+   */
+  public List<String> getLinks(String cssSelector) {
+    return select(cssSelector).stream().map(element -> element.absUrl("href"))
+        .collect(Collectors.toList());
+  }
+
+  public boolean containsText(String text) {
+    return document.body() != null && document.body().text().contains(text);
+  }
+}
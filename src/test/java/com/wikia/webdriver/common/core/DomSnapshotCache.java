@@ -0,0 +1,55 @@
+package com.wikia.webdriver.common.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Keeps the last {@link DomSnapshot} until the browser navigates, an element is clicked or typed
+ * into, or a script is executed, all of these often load a new page or change the current one
+ */
+class DomSnapshotCache extends AbstractWebDriverEventListener {
+
+  private DomSnapshot snapshot;
+
+  DomSnapshot get(WebDriver driver) {
+    if (snapshot == null) {
+      snapshot = DomSnapshot.of(driver);
+    }
+    return snapshot;
+  }
+
+  void invalidate() {
+    snapshot = null;
+  }
+
+  @Override
+  public void afterNavigateTo(String url, WebDriver driver) {
+    invalidate();
+  }
+
+  @Override
+  public void afterNavigateBack(WebDriver driver) {
+    invalidate();
+  }
+
+  @Override
+  public void afterNavigateForward(WebDriver driver) {
+    invalidate();
+  }
+
+  @Override
+  public void afterClickOn(WebElement element, WebDriver driver) {
+    invalidate();
+  }
+
+  @Override
+  public void afterChangeValueOf(WebElement element, WebDriver driver) {
+    invalidate();
+  }
+
+  @Override
+  public void afterScript(String script, WebDriver driver) {
+    invalidate();
+  }
+}
@@ -0,0 +1,190 @@
+package com.wikia.webdriver.common.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+/**
+ * State of an element read by one script call together with all other elements of a list: text,
+ * chosen attributes and computed styles, position, size and visibility. Lists of elements can be
+ * searched and filtered in Java without a remote call per element.
+ *
+ * Text is textContent of displayed elements with whitespace collapsed and empty for hidden ones,
+ * like WebElement.getText(). Position and size are rounded down, like WebDriver does.
+ * Snapshot isn't updated, take a new one after the page changes. Elements of snapshots are the ones
+ * found by the driver, so actions on them are seen by driver listeners.
+ */
+@Getter
+public class ElementSnapshot {
+
+  private static final String SCRIPT = ScriptLocator.LOCATE_FUNCTION
+      + ScriptLocator.ATTRIBUTE_FUNCTION
+      + ScriptLocator.TEXT_FUNCTION
+      + "var q = arguments[1];"
+      + "return locateAll(arguments[0]).map(function(e) {"
+      + "  var r = e.getBoundingClientRect(), st = window.getComputedStyle(e), a = {}, c = {};"
+      + "  q.attributes.forEach(function(n) { a[n] = attr(e, n); });"
+      + "  q.styles.forEach(function(n) { c[n] = st.getPropertyValue(n); });"
+      + "  var child = q.child ? locateAll(q.child, e)[0] : null;"
+      + "  return {text: text(e) || '', attributes: a, styles: c, displayed: displayed(e),"
+      + "    x: Math.floor(r.left + window.pageXOffset), y: Math.floor(r.top + window.pageYOffset),"
+      + "    width: Math.floor(r.width), height: Math.floor(r.height),"
+      + "    childFound: !!child, childText: text(child) || ''}; });";
+
+  @Getter(AccessLevel.NONE)
+  private final Supplier<WebElement> element;
+  private final String text;
+  private final Map<String, String> attributes;
+  private final Map<String, String> styles;
+  private final Point location;
+  private final Dimension size;
+  private final boolean displayed;
+  /**
+   * Text of the first child located by {@link Query#childText(By)}, null when there is no child
+   */
+  private final String childText;
+
+  private ElementSnapshot(Map<String, Object> values, Supplier<WebElement> element) {
+    this.element = element;
+    this.text = (String) values.get("text");
+    this.attributes = toStrings(values.get("attributes"));
+    this.styles = toStrings(values.get("styles"));
+    this.location = new Point(toInt(values.get("x")), toInt(values.get("y")));
+    this.size = new Dimension(toInt(values.get("width")), toInt(values.get("height")));
+    this.displayed = Boolean.TRUE.equals(values.get("displayed"));
+    this.childText =
+        Boolean.TRUE.equals(values.get("childFound")) ? (String) values.get("childText") : null;
+  }
+
+  /**
+   * @return query taking snapshots with text, position, size and visibility only
+   */
+  public static Query query() {
+    return new Query();
+  }
+
+  /**
+   * @return element of this snapshot, elements of snapshots taken by a By are found on the first
+   * call, by one driver call for the whole list
+   */
+  public WebElement getElement() {
+    return element.get();
+  }
+
+  public String getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  public String getCssValue(String name) {
+    return styles.get(name);
+  }
+
+  private static Map<String, String> toStrings(Object values) {
+    Map<String, String> strings = new HashMap<>();
+    if (values instanceof Map) {
+      ((Map<?, ?>) values).forEach((key, value) -> strings.put(String.valueOf(key),
+          value == null ? null : String.valueOf(value)));
+    }
+    return Collections.unmodifiableMap(strings);
+  }
+
+  private static int toInt(Object value) {
+    return value instanceof Number ? ((Number) value).intValue() : 0;
+  }
+
+  /**
+   * What snapshots should contain besides text, position, size and visibility
+   */
+  public static class Query {
+
+    private final List<String> attributes = new ArrayList<>();
+    private final List<String> styles = new ArrayList<>();
+    private By child;
+
+    private Query() {}
+
+    public Query attributes(String... names) {
+      attributes.addAll(Arrays.asList(names));
+      return this;
+    }
+
+    public Query styles(String... names) {
+      styles.addAll(Arrays.asList(names));
+      return this;
+    }
+
+    /**
+     * Read text of the first child of every element located by given By. Only locators which
+     * scripts can resolve are supported, like css selectors and xpaths.
+     */
+    public Query childText(By by) {
+      if (!ScriptLocator.isSupported(by)) {
+        throw new IllegalArgumentException("Locator can't be resolved by a script: " + by);
+      }
+      child = by;
+      return this;
+    }
+
+    /**
+     * @return snapshots of all elements located by given By, in document order
+     */
+    public List<ElementSnapshot> take(WebDriver driver, By by) {
+      return take(driver, ScriptLocator.specAll(by, driver),
+          Suppliers.memoize(() -> driver.findElements(by)));
+    }
+
+    /**
+     * @return snapshots of given elements, in the same order
+     */
+    public List<ElementSnapshot> take(WebDriver driver, List<WebElement> elements) {
+      if (elements.isEmpty()) {
+        return Collections.emptyList();
+      }
+      return take(driver, ScriptLocator.spec(elements), () -> elements);
+    }
+
+    private List<ElementSnapshot> take(WebDriver driver, Map<String, Object> spec,
+        Supplier<List<WebElement>> elements) {
+      Map<String, Object> query = new HashMap<>();
+      query.put("attributes", attributes);
+      query.put("styles", styles);
+      query.put("child", child == null ? null : ScriptLocator.specAll(child, driver));
+      // the script returns an array of objects, which the driver converts to a list of maps
+      @SuppressWarnings("unchecked")
+      List<Map<String, Object>> results = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+          .executeScript(SCRIPT, spec, query);
+      List<ElementSnapshot> snapshots = new ArrayList<>();
+      for (int i = 0; i < results.size(); i++) {
+        snapshots.add(new ElementSnapshot(results.get(i), element(elements, i)));
+      }
+      return snapshots;
+    }
+
+    private static Supplier<WebElement> element(Supplier<List<WebElement>> elements, int index) {
+      return () -> {
+        List<WebElement> found = elements.get();
+        if (index >= found.size()) {
+          throw new NoSuchElementException(String.format(
+              "Element %d of snapshot is no longer on the page, %d found", index, found.size()));
+        }
+        return found.get(index);
+      };
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.wikia.webdriver.common.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * State of a single test execution: current test method, first load flag, configuration overrides
+ * taken from annotations and verification results. A new context is created by CoreTestTemplate
+ * for every test method and is visible only to the thread running that test, so tests running in
+ * parallel can't overwrite each other's browser, wiki or user overrides.
+ */
+public class ExecutionContext {
+
+  private static final ThreadLocal<ExecutionContext> CURRENT =
+      ThreadLocal.withInitial(ExecutionContext::new);
+
+  private final Method testMethod;
+  private final String methodName;
+  private boolean firstLoad;
+  private final Map<String, String> testConfig = new HashMap<>();
+  private final List<Boolean> logsResults = new ArrayList<>();
+
+  private ExecutionContext() {
+    this.testMethod = null;
+    this.methodName = null;
+    this.firstLoad = false;
+  }
+
+  private ExecutionContext(Method method) {
+    this.testMethod = method;
+    this.methodName =
+        method.getDeclaringClass().getSimpleName() + StringUtils.capitalize(method.getName());
+    this.firstLoad = true;
+  }
+
+  /**
+   * Create a new context for given test method and bind it to the current thread
+   */
+  public static ExecutionContext create(Method method) {
+    ExecutionContext context = new ExecutionContext(method);
+    CURRENT.set(context);
+    return context;
+  }
+
+  /**
+   * Bind given context to the current thread, used by helper threads working on behalf of a test
+   */
+  public static void attach(ExecutionContext context) {
+    CURRENT.set(context);
+  }
+
+  public static void detach() {
+    CURRENT.remove();
+  }
+
+  /**
+   * @return context of the test running on the current thread
+   */
+  public static ExecutionContext current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * @return copy of test method and configuration overrides, without results
+   */
+  public ExecutionContext copy() {
+    ExecutionContext context =
+        testMethod == null ? new ExecutionContext() : new ExecutionContext(testMethod);
+    context.firstLoad = firstLoad;
+    context.testConfig.putAll(testConfig);
+    return context;
+  }
+
+  public Method getTestMethod() {
+    return testMethod;
+  }
+
+  public String getMethodName() {
+    return methodName;
+  }
+
+  public boolean isFirstLoad() {
+    return firstLoad;
+  }
+
+  public void setFirstLoad(boolean value) {
+    firstLoad = value;
+  }
+
+  public String getTestValue(String key) {
+    return testConfig.get(key);
+  }
+
+  public void setTestValue(String key, String value) {
+    testConfig.put(key, value);
+  }
+
+  public void clearTestValues() {
+    testConfig.clear();
+  }
+
+  public List<Boolean> getLogsResults() {
+    return logsResults;
+  }
+}
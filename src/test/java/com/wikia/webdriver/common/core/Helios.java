@@ -3,8 +3,8 @@ package com.wikia.webdriver.common.core;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -31,7 +31,11 @@ import com.wikia.webdriver.common.properties.HeliosConfig;
 
 public class Helios {
 
-  private static final Map<String, String> tokenCache = new HashMap<>();
+  /**
+   * Tokens are shared by all tests, environment and credentials are resolved through Configuration
+   * from the execution context of the calling test
+   */
+  private static final Map<String, String> tokenCache = new ConcurrentHashMap<>();
   private static final String IOEXCEPTION_ERROR_MESSAGE = "PLEASE CHECK IF YOUR VPN IS ENABLED";
   private static final String IOEXCEPTION_COMMAND = "IO EXCEPTION";
   private static final String X_WIKIA_INTERNAL_REQUEST = "X-Wikia-Internal-Request";
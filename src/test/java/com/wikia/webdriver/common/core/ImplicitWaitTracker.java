@@ -0,0 +1,154 @@
+package com.wikia.webdriver.common.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Keeps implicit wait requested by tests and sends it to the browser only when it matters, right
+ * before an element is searched for and only if the browser has a different value set. Waits which
+ * change implicit wait and restore it, without searching for elements in between, don't send any
+ * command to the browser.
+ */
+class ImplicitWaitTracker extends AbstractWebDriverEventListener {
+
+  private final WebDriver browser;
+  private final Deque<Long> scopes = new ArrayDeque<>();
+  // browsers start with implicit wait disabled
+  private long requestedMillis = 0;
+  private long appliedMillis = 0;
+
+  ImplicitWaitTracker(WebDriver browser) {
+    this.browser = browser;
+  }
+
+  void set(long time, TimeUnit unit) {
+    requestedMillis = unit.toMillis(time);
+  }
+
+  /**
+   * Change implicit wait until matching {@link #pop()} is called
+   */
+  void push(long time, TimeUnit unit) {
+    scopes.push(requestedMillis);
+    set(time, unit);
+  }
+
+  /**
+   * Restore implicit wait which was used before last {@link #push(long, TimeUnit)}
+   */
+  void pop() {
+    if (!scopes.isEmpty()) {
+      requestedMillis = scopes.pop();
+    }
+  }
+
+  @Override
+  public void beforeFindBy(By by, WebElement element, WebDriver driver) {
+    if (requestedMillis != appliedMillis) {
+      browser.manage().timeouts().implicitlyWait(requestedMillis, TimeUnit.MILLISECONDS);
+      appliedMillis = requestedMillis;
+    }
+  }
+
+  /**
+   * @return options which pass implicit wait changes to this tracker instead of the browser
+   */
+  WebDriver.Options wrap(WebDriver.Options options) {
+    return new TrackingOptions(options);
+  }
+
+  private class TrackingOptions implements WebDriver.Options {
+
+    private final WebDriver.Options options;
+
+    TrackingOptions(WebDriver.Options options) {
+      this.options = options;
+    }
+
+    @Override
+    public void addCookie(Cookie cookie) {
+      options.addCookie(cookie);
+    }
+
+    @Override
+    public void deleteCookieNamed(String name) {
+      options.deleteCookieNamed(name);
+    }
+
+    @Override
+    public void deleteCookie(Cookie cookie) {
+      options.deleteCookie(cookie);
+    }
+
+    @Override
+    public void deleteAllCookies() {
+      options.deleteAllCookies();
+    }
+
+    @Override
+    public Set<Cookie> getCookies() {
+      return options.getCookies();
+    }
+
+    @Override
+    public Cookie getCookieNamed(String name) {
+      return options.getCookieNamed(name);
+    }
+
+    @Override
+    public WebDriver.Timeouts timeouts() {
+      return new TrackingTimeouts(options.timeouts());
+    }
+
+    @Override
+    public WebDriver.ImeHandler ime() {
+      return options.ime();
+    }
+
+    @Override
+    public WebDriver.Window window() {
+      return options.window();
+    }
+
+    @Override
+    public Logs logs() {
+      return options.logs();
+    }
+  }
+
+  private class TrackingTimeouts implements WebDriver.Timeouts {
+
+    private final WebDriver.Timeouts timeouts;
+
+    TrackingTimeouts(WebDriver.Timeouts timeouts) {
+      this.timeouts = timeouts;
+    }
+
+    @Override
+    public WebDriver.Timeouts implicitlyWait(long time, TimeUnit unit) {
+      set(time, unit);
+      return this;
+    }
+
+    @Override
+    public WebDriver.Timeouts setScriptTimeout(long time, TimeUnit unit) {
+      timeouts.setScriptTimeout(time, unit);
+      return this;
+    }
+
+    @Override
+    public WebDriver.Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+      timeouts.pageLoadTimeout(time, unit);
+      return this;
+    }
+  }
+}
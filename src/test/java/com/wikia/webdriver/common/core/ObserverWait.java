@@ -0,0 +1,140 @@
+package com.wikia.webdriver.common.core;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Waits which don't poll the browser. Condition is checked in the page whenever DOM changes, using
+ * MutationObserver, or the element moves in or out of the viewport, using IntersectionObserver.
+ * Whole wait is a single executeAsyncScript call, which returns as soon as the condition is true or
+ * the timeout passes.
+ *
+ * Changes which don't touch the DOM, like CSS transitions, are caught by a check repeated in the
+ * page every {@link #RECHECK_MILLIS} ms, it doesn't send any command to the driver.
+ *
+ * Only locators which can be resolved by a script are supported, see {@link #supports(By)}.
+ *
+ * Script timeout is extended for the wait and set back to {@link #DEFAULT_SCRIPT_TIMEOUT_MILLIS}
+ * afterwards, scripts run by other code don't wait longer because of it.
+ */
+public class ObserverWait {
+
+  private static final long RECHECK_MILLIS = 1000;
+  private static final long SCRIPT_TIMEOUT_MARGIN_MILLIS = 10000;
+  private static final long DEFAULT_SCRIPT_TIMEOUT_MILLIS = 30000;
+
+  private static final String SCRIPT = ScriptLocator.LOCATE_FUNCTION
+      + ScriptLocator.TEXT_FUNCTION
+      + "var s = arguments[0], check = arguments[1], a = arguments[2], timeout = arguments[3],"
+      + "  recheck = arguments[4], done = arguments[arguments.length - 1];"
+      + "var checks = {"
+      + "  visible: function(e) { return !!e && displayed(e); },"
+      + "  notPresent: function(e) { return !e; },"
+      + "  text: function(e) { var t = text(e); return t === null ? null : t.indexOf(a[0]) > -1; }"
+      + "};"
+      + "var finished = false, observed = null, intersections = null, timer, interval;"
+      + "var mutations = new MutationObserver(evaluate);"
+      + "function finish(result) {"
+      + "  if (finished) { return; }"
+      + "  finished = true;"
+      + "  clearTimeout(timer); clearInterval(interval); mutations.disconnect();"
+      + "  if (intersections) { intersections.disconnect(); }"
+      + "  done(result); }"
+      + "function evaluate() {"
+      + "  if (finished) { return; }"
+      + "  var e = locate(s), ok = checks[check](e);"
+      + "  if (ok === null) { finish(null); return; }"
+      + "  if (ok) { finish(check === 'visible' ? e : true); return; }"
+      + "  if (e && e !== observed && window.IntersectionObserver) {"
+      + "    if (intersections) { intersections.disconnect(); }"
+      + "    observed = e;"
+      + "    intersections = new IntersectionObserver(evaluate);"
+      + "    intersections.observe(e); } }"
+      + "mutations.observe(document.documentElement,"
+      + "  {childList: true, subtree: true, attributes: true, characterData: true});"
+      + "timer = setTimeout(function() { finish(false); }, timeout);"
+      + "interval = setInterval(evaluate, recheck);"
+      + "evaluate();";
+
+  private final WebDriver driver;
+
+  public ObserverWait(WebDriver driver) {
+    this.driver = driver;
+  }
+
+  /**
+   * @return true if element located by given By can be waited for by this class
+   */
+  public static boolean supports(By by) {
+    return ScriptLocator.isSupported(by);
+  }
+
+  /**
+   * Wait for element to be displayed and to have a size
+   *
+   * @return visible element
+   */
+  public WebElement forElementVisible(By by, long timeoutMillis) {
+    Object result = await(by, "visible", timeoutMillis);
+    if (!(result instanceof WebElement)) {
+      throw timeout("visibility of element located by " + by, timeoutMillis);
+    }
+    return (WebElement) result;
+  }
+
+  /**
+   * Wait for element to not be present in DOM
+   */
+  public boolean forElementNotPresent(By by, long timeoutMillis) {
+    if (!Boolean.TRUE.equals(await(by, "notPresent", timeoutMillis))) {
+      throw timeout("element located by " + by + " to not be present", timeoutMillis);
+    }
+    return true;
+  }
+
+  /**
+   * Wait for text to be present in text of the element, read like {@link ScriptCondition} does
+   *
+   * @throws WebDriverException when the script can't read text of the element, it has to be
+   * waited for by polling
+   */
+  public boolean forTextInElement(By by, String text, long timeoutMillis) {
+    Object result = await(by, "text", timeoutMillis, text);
+    if (result == null) {
+      throw new WebDriverException("Text of element located by " + by + " can't be observed");
+    }
+    if (!Boolean.TRUE.equals(result)) {
+      throw timeout(String.format("text ('%s') to be present in element %s", text, by),
+          timeoutMillis);
+    }
+    return true;
+  }
+
+  private Object await(By by, String check, long timeoutMillis, Object... args) {
+    if (!supports(by)) {
+      throw new IllegalArgumentException("Locator can't be observed by a script: " + by);
+    }
+    WebDriver.Timeouts timeouts = driver.manage().timeouts();
+    timeouts.setScriptTimeout(timeoutMillis + SCRIPT_TIMEOUT_MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+    try {
+      return ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT,
+          ScriptLocator.spec(by, 0, driver), check, Arrays.asList(args), timeoutMillis,
+          RECHECK_MILLIS);
+    } finally {
+      timeouts.setScriptTimeout(DEFAULT_SCRIPT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static TimeoutException timeout(String condition, long timeoutMillis) {
+    return new TimeoutException(String.format(
+        "Expected condition failed: waiting for %s (observed for %d ms)", condition,
+        timeoutMillis));
+  }
+}
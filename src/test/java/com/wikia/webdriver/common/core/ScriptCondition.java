@@ -0,0 +1,244 @@
+package com.wikia.webdriver.common.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import com.wikia.webdriver.common.core.elemnt.ElementProvenance;
+
+/**
+ * Condition checked in the browser by a single script call. Element is located and checked by the
+ * same script, so every check costs one command instead of separate findElement, getText,
+ * getAttribute or getSize calls. Conditions joined with {@link #allOf(ScriptCondition...)} are also
+ * checked by one script call.
+ *
+ * Text conditions use textContent of displayed elements with whitespace collapsed, and empty text
+ * for hidden ones, like WebElement.getText(). Text of elements the script can't read is checked by
+ * the driver. Size and position are rounded down, like WebDriver does. Elements which go stale
+ * during the wait are found again when {@link ElementProvenance} knows how they were found.
+ */
+public class ScriptCondition implements ExpectedCondition<Boolean> {
+
+  private static final String SCRIPT = "var checks = {"
+      + "  text: function(e, a) {"
+      + "    var t = text(e); return [t === null ? null : t.indexOf(a[0]) > -1, t]; },"
+      + "  noText: function(e, a) {"
+      + "    var t = text(e); return [t === null ? null : t.indexOf(a[0]) === -1, t]; },"
+      + "  attribute: function(e, a) {"
+      + "    var v = attr(e, a[0]); return [v !== null && v.indexOf(a[1]) > -1, v]; },"
+      + "  noAttribute: function(e, a) {"
+      + "    var v = attr(e, a[0]); return [v === null || v.indexOf(a[1]) === -1, v]; },"
+      + "  size: function(e, a) {"
+      + "    var r = e.getBoundingClientRect(), w = Math.floor(r.width), h = Math.floor(r.height);"
+      + "    return [w === a[0] && h === a[1], w + 'x' + h]; },"
+      + "  inViewPort: function(e) {"
+      + "    var r = e.getBoundingClientRect();"
+      + "    var x = r.left + window.pageXOffset, y = r.top + window.pageYOffset;"
+      + "    return [r.height + y > -1 && r.width + x > -1, Math.floor(x) + ',' + Math.floor(y)]; }"
+      + "};"
+      + ScriptLocator.ATTRIBUTE_FUNCTION
+      + ScriptLocator.TEXT_FUNCTION
+      + ScriptLocator.LOCATE_FUNCTION
+      + "return arguments[0].map(function(s) {"
+      + "  var e = locate(s);"
+      + "  if (!e) { return {ok: false, found: false, actual: null}; }"
+      + "  var r = checks[s.check](e, s.args);"
+      + "  return {ok: r[0], found: true, actual: r[1]}; });";
+
+  private final List<Check> checks;
+  private List<Map<String, Object>> lastResults = Collections.emptyList();
+
+  private ScriptCondition(List<Check> checks) {
+    this.checks = checks;
+  }
+
+  private static ScriptCondition of(Check check) {
+    return new ScriptCondition(Collections.singletonList(check));
+  }
+
+  public static ScriptCondition textPresent(By by, String text) {
+    return textPresent(by, 0, text);
+  }
+
+  public static ScriptCondition textPresent(By by, int index, String text) {
+    return of(new Check(by, index, null, "text", String.format("text ('%s') to be present", text),
+        text));
+  }
+
+  public static ScriptCondition textPresent(WebElement element, String text) {
+    return of(new Check(null, 0, element, "text",
+        String.format("text ('%s') to be present", text), text));
+  }
+
+  public static ScriptCondition textNotPresent(By by, String text) {
+    return of(new Check(by, 0, null, "noText",
+        String.format("text ('%s') to not be present", text), text));
+  }
+
+  public static ScriptCondition textNotPresent(WebElement element, String text) {
+    return of(new Check(null, 0, element, "noText",
+        String.format("text ('%s') to not be present", text), text));
+  }
+
+  public static ScriptCondition attributeContains(By by, String attribute, String value) {
+    return of(new Check(by, 0, null, "attribute",
+        String.format("value ('%s') to be present in attribute %s", value, attribute), attribute,
+        value));
+  }
+
+  public static ScriptCondition attributeContains(WebElement element, String attribute,
+      String value) {
+    return of(new Check(null, 0, element, "attribute",
+        String.format("value ('%s') to be present in attribute %s", value, attribute), attribute,
+        value));
+  }
+
+  public static ScriptCondition attributeNotContains(WebElement element, String attribute,
+      String value) {
+    return of(new Check(null, 0, element, "noAttribute",
+        String.format("value ('%s') to not be present in attribute %s", value, attribute),
+        attribute, value));
+  }
+
+  public static ScriptCondition size(WebElement element, int width, int height) {
+    return of(new Check(null, 0, element, "size",
+        String.format("size to be [%s, %s]", width, height), width, height));
+  }
+
+  public static ScriptCondition inViewPort(WebElement element) {
+    return of(new Check(null, 0, element, "inViewPort", "element to be in viewport"));
+  }
+
+  /**
+   * @return condition fulfilled when all given conditions are, checked by one script call
+   */
+  public static ScriptCondition allOf(ScriptCondition... conditions) {
+    List<Check> joined = new ArrayList<>();
+    for (ScriptCondition condition : conditions) {
+      joined.addAll(condition.checks);
+    }
+    return new ScriptCondition(joined);
+  }
+
+  @Override
+  public Boolean apply(WebDriver driver) {
+    List<Map<String, Object>> specs = new ArrayList<>();
+    for (Check check : checks) {
+      specs.add(check.toScriptArgument(driver));
+    }
+    try {
+      // the script returns an array of objects, which the driver converts to a list of maps
+      @SuppressWarnings("unchecked")
+      List<Map<String, Object>> results = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+          .executeScript(SCRIPT, specs);
+      lastResults = new ArrayList<>(results);
+      for (int i = 0; i < lastResults.size(); i++) {
+        if (lastResults.get(i).get("ok") == null && Boolean.TRUE.equals(
+            lastResults.get(i).get("found"))) {
+          lastResults.set(i, checks.get(i).checkByDriver(driver));
+        }
+      }
+    } catch (StaleElementReferenceException e) {
+      checks.forEach(Check::reResolve);
+      return false;
+    }
+    return lastResults.stream().allMatch(result -> Boolean.TRUE.equals(result.get("ok")));
+  }
+
+  /**
+   * @return results of the last check, one for every joined condition, with "ok", "found" and
+   * "actual" values
+   */
+  public List<Map<String, Object>> getLastResults() {
+    return lastResults;
+  }
+
+  /**
+   * @return names of checks done by this condition, used to group wait statistics
+   */
+  public String getName() {
+    return checks.stream().map(check -> check.check).collect(Collectors.joining("+"));
+  }
+
+  @Override
+  public String toString() {
+    List<String> descriptions = new ArrayList<>();
+    for (int i = 0; i < checks.size(); i++) {
+      String description = checks.get(i).toString();
+      if (i < lastResults.size()) {
+        Map<String, Object> result = lastResults.get(i);
+        description += Boolean.TRUE.equals(result.get("found"))
+            ? String.format(" (actual: '%s')", result.get("actual")) : " (element not found)";
+      }
+      descriptions.add(description);
+    }
+    return String.join(" and ", descriptions);
+  }
+
+  private static class Check {
+
+    private final By by;
+    private final int index;
+    private WebElement element;
+    private final String check;
+    private final String description;
+    private final List<Object> args;
+
+    Check(By by, int index, WebElement element, String check, String description,
+        Object... args) {
+      this.by = by;
+      this.index = index;
+      this.element = element;
+      this.check = check;
+      this.description = description;
+      this.args = Arrays.asList(args);
+    }
+
+    void reResolve() {
+      if (element != null) {
+        element = ElementProvenance.resolve(element).orElse(element);
+      }
+    }
+
+    /**
+     * Text check done with WebElement.getText(), for elements the script can't read text of
+     */
+    Map<String, Object> checkByDriver(WebDriver driver) {
+      WebElement target = element;
+      if (target == null) {
+        List<WebElement> found = driver.findElements(by);
+        target = found.size() > index ? found.get(index) : null;
+      }
+      String text = target == null ? null : target.getText();
+      Map<String, Object> result = new HashMap<>();
+      result.put("found", target != null);
+      result.put("actual", text);
+      result.put("ok", text != null && "text".equals(check) == text.contains((String) args.get(0)));
+      return result;
+    }
+
+    Map<String, Object> toScriptArgument(WebDriver driver) {
+      Map<String, Object> spec = element != null ? ScriptLocator.spec(element)
+          : ScriptLocator.spec(by, index, driver);
+      spec.put("check", check);
+      spec.put("args", args);
+      return spec;
+    }
+
+    @Override
+    public String toString() {
+      return by != null ? description + " in element " + by : description;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.wikia.webdriver.common.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Finds elements inside scripts run in the browser. Locator is passed to the script as a spec
+ * object, which is resolved by {@link #LOCATE_FUNCTION}, so a script can find and check an element
+ * in one command.
+ */
+class ScriptLocator {
+
+  /**
+   * Script functions locateAll(spec, root) returning all elements described by the spec, searched
+   * in root or in the document, and locate(spec) returning element at spec.index or null
+   */
+  static final String LOCATE_FUNCTION = "function locateAll(s, root) {"
+      + "  if (s.elements) { return s.elements; }"
+      + "  if (s.element) { return [s.element]; }"
+      + "  var d = document, r = root || d, v = s.value;"
+      + "  function list(l) { return Array.prototype.slice.call(l); }"
+      + "  function byAttr(a) {"
+      + "    var quoted = '\"' + v.replace(/\"/g, '\\\\\"') + '\"';"
+      + "    return list(r.querySelectorAll('[' + a + '=' + quoted + ']')); }"
+      + "  switch (s.locator) {"
+      + "    case 'id':"
+      + "      if (r === d) { var e = d.getElementById(v); return e ? [e] : []; }"
+      + "      return byAttr('id');"
+      + "    case 'cssSelector': return list(r.querySelectorAll(v));"
+      + "    case 'className': return list(r.getElementsByClassName(v));"
+      + "    case 'tagName': return list(r.getElementsByTagName(v));"
+      + "    case 'name': return byAttr('name');"
+      + "    case 'xpath':"
+      + "      var x = d.evaluate(v, r, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+      + "      var all = [];"
+      + "      for (var i = 0; i < x.snapshotLength; i++) { all.push(x.snapshotItem(i)); }"
+      + "      return all;"
+      + "    case 'linkText': case 'partialLinkText':"
+      + "      return list(r.getElementsByTagName('a')).filter(function(a) {"
+      + "        var t = (a.innerText || a.textContent || '').trim();"
+      + "        return s.locator === 'linkText' ? t === v : t.indexOf(v) > -1; });"
+      + "    default: return [];"
+      + "  } }"
+      + "function locate(s) { return locateAll(s)[s.index || 0] || null; }";
+
+  /**
+   * Script function attr(element, name) reading attribute the way WebElement.getAttribute does,
+   * property of the element first, "true" or null for boolean attributes
+   */
+  static final String ATTRIBUTE_FUNCTION = "function attr(e, name) {"
+      + "  var p = e[name];"
+      + "  if (typeof p === 'boolean' && /^(async|autofocus|autoplay|checked|compact|complete"
+      + "|controls|declare|default|defaultchecked|defaultselected|defer|disabled|ended"
+      + "|formnovalidate|hidden|indeterminate|iscontenteditable|ismap|itemscope|loop|multiple"
+      + "|muted|nohref|noresize|noshade|novalidate|nowrap|open|paused|pubdate|readonly|required"
+      + "|reversed|scoped|seamless|seeking|selected|spellcheck|truespeed|willvalidate)$/"
+      + "    .test(name.toLowerCase())) {"
+      + "    return p ? 'true' : null; }"
+      + "  if (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function') {"
+      + "    return String(p); }"
+      + "  return e.getAttribute(name); }";
+
+  /**
+   * Script functions displayed(element), true when the element is rendered and has a size, and
+   * text(element) returning textContent with whitespace collapsed, empty for missing and hidden
+   * elements like WebElement.getText(), null when the element has no text the script can read
+   */
+  static final String TEXT_FUNCTION = "function displayed(e) {"
+      + "  var st = window.getComputedStyle(e), r = e.getBoundingClientRect();"
+      + "  return st.display !== 'none' && st.visibility !== 'hidden' && st.opacity !== '0'"
+      + "    && r.width > 0 && r.height > 0; }"
+      + "function text(e) {"
+      + "  if (!e || !displayed(e)) { return ''; }"
+      + "  var t = e.textContent;"
+      + "  return typeof t === 'string' ? t.replace(/\\s+/g, ' ').trim() : null; }";
+
+  private static final List<String> SCRIPT_LOCATORS = Arrays.asList("id", "cssSelector",
+      "className", "tagName", "name", "xpath", "linkText", "partialLinkText");
+
+  private ScriptLocator() {}
+
+  /**
+   * @return true if element located by given By can be found by the script itself
+   */
+  static boolean isSupported(By by) {
+    String[] locator = by.toString().split(": ", 2);
+    return locator.length == 2 && SCRIPT_LOCATORS.contains(type(locator[0]));
+  }
+
+  static Map<String, Object> spec(WebElement element) {
+    Map<String, Object> spec = new HashMap<>();
+    spec.put("element", element);
+    spec.put("index", 0);
+    return spec;
+  }
+
+  static Map<String, Object> spec(List<WebElement> elements) {
+    Map<String, Object> spec = new HashMap<>();
+    spec.put("elements", elements);
+    return spec;
+  }
+
+  /**
+   * Locators which can't be translated to a script are resolved by the driver
+   */
+  static Map<String, Object> spec(By by, int index, WebDriver driver) {
+    Map<String, Object> spec = new HashMap<>();
+    spec.put("index", index);
+    if (isSupported(by)) {
+      String[] locator = by.toString().split(": ", 2);
+      spec.put("locator", type(locator[0]));
+      spec.put("value", locator[1]);
+    } else {
+      List<WebElement> found = driver.findElements(by);
+      spec.put("element", found.size() > index ? found.get(index) : null);
+    }
+    return spec;
+  }
+
+  /**
+   * Spec of all elements located by given By, locators which can't be translated to a script are
+   * resolved by the driver
+   */
+  static Map<String, Object> specAll(By by, WebDriver driver) {
+    if (!isSupported(by)) {
+      return spec(driver.findElements(by));
+    }
+    return spec(by, 0, driver);
+  }
+
+  private static String type(String byName) {
+    return byName.replaceFirst("^By\\.", "");
+  }
+}
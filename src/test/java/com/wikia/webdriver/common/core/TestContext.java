@@ -1,35 +1,29 @@
 package com.wikia.webdriver.common.core;
 
-import org.apache.commons.lang3.StringUtils;
-
 import java.lang.reflect.Method;
 
+/**
+ * Static access to the {@link ExecutionContext} of the test running on the current thread
+ */
 public class TestContext {
-  private static String methodName;
-  private static Method testMethod;
-  private static boolean isFirstLoad = false;
 
   public static void writeMethodName(Method method) {
-    methodName =
-        method.getDeclaringClass().getSimpleName() + StringUtils.capitalize(method.getName());
-
-    testMethod = method;
-    isFirstLoad = true;
+    ExecutionContext.create(method);
   }
 
   public static String getCurrentMethodName() {
-    return methodName;
+    return ExecutionContext.current().getMethodName();
   }
 
   public static Method getCurrentTestMethod(){
-    return testMethod;
+    return ExecutionContext.current().getTestMethod();
   }
 
   public static void setFirstLoad(boolean value){
-    isFirstLoad = value;
+    ExecutionContext.current().setFirstLoad(value);
   }
 
   public static boolean isFirstLoad(){
-    return isFirstLoad;
+    return ExecutionContext.current().isFirstLoad();
   }
 }
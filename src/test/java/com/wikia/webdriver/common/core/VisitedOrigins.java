@@ -0,0 +1,55 @@
+package com.wikia.webdriver.common.core;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Origins (scheme, host and port) of pages the browser navigated to, used to clear cookies and
+ * storage of every one of them before the browser is reused by another test
+ */
+class VisitedOrigins extends AbstractWebDriverEventListener {
+
+  private final Set<String> origins = new LinkedHashSet<>();
+
+  @Override
+  public void afterNavigateTo(String url, WebDriver driver) {
+    add(url);
+  }
+
+  /**
+   * Record origin of given url, urls other than http and https are ignored
+   */
+  void add(String url) {
+    String origin = origin(url);
+    if (origin != null) {
+      origins.add(origin);
+    }
+  }
+
+  Set<String> get() {
+    return new LinkedHashSet<>(origins);
+  }
+
+  void clear() {
+    origins.clear();
+  }
+
+  private static String origin(String url) {
+    try {
+      URI uri = new URI(url);
+      if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())
+          || uri.getHost() == null) {
+        return null;
+      }
+      String port = uri.getPort() < 0 ? "" : ":" + uri.getPort();
+      return uri.getScheme() + "://" + uri.getHost() + port;
+    } catch (URISyntaxException | NullPointerException e) {
+      return null;
+    }
+  }
+}
@@ -1,11 +1,19 @@
 package com.wikia.webdriver.common.core;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 import org.openqa.selenium.support.events.EventFiringWebDriver;
 
+import com.wikia.webdriver.common.core.elemnt.ElementLookupCache;
+import com.wikia.webdriver.common.core.elemnt.ElementProvenance;
 import com.wikia.webdriver.common.core.networktrafficinterceptor.NetworkTrafficInterceptor;
 
 import io.appium.java_client.android.AndroidDriver;
@@ -15,12 +23,13 @@ public class WikiaWebDriver extends EventFiringWebDriver {
   private WebDriver webDriver;
   private boolean isMobile;
   private NetworkTrafficInterceptor proxy = null;
+  private final ImplicitWaitTracker implicitWait;
+  private final DomSnapshotCache domSnapshot = new DomSnapshotCache();
+  private final ElementLookupCache elementLookupCache = new ElementLookupCache();
+  private final VisitedOrigins visitedOrigins = new VisitedOrigins();
 
   public WikiaWebDriver(WebDriver webdriver, boolean isMobile) {
-    super(webdriver);
-
-    this.webDriver = webdriver;
-    this.isMobile = isMobile;
+    this(webdriver, null, isMobile);
   }
 
   public WikiaWebDriver(WebDriver webdriver, NetworkTrafficInterceptor proxy, boolean isMobile) {
@@ -29,6 +38,92 @@ public class WikiaWebDriver extends EventFiringWebDriver {
     this.webDriver = webdriver;
     this.isMobile = isMobile;
     this.proxy = proxy;
+    this.implicitWait = new ImplicitWaitTracker(webdriver);
+    register(implicitWait);
+    register(domSnapshot);
+    register(elementLookupCache);
+    register(visitedOrigins);
+  }
+
+  /**
+   * Found elements are recorded, so they can be found again when they go stale, see
+   * {@link ElementProvenance}
+   */
+  @Override
+  public WebElement findElement(By by) {
+    WebElement element = super.findElement(by);
+    ElementProvenance.record(this, by, element);
+    return element;
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    List<WebElement> elements = super.findElements(by);
+    ElementProvenance.record(this, by, elements);
+    return elements;
+  }
+
+  /**
+   * Implicit wait set through returned options is sent to the browser only before the next element
+   * search, and only if it differs from the value browser already has
+   */
+  @Override
+  public Options manage() {
+    return implicitWait.wrap(super.manage());
+  }
+
+  /**
+   * Change implicit wait for a scope ended with {@link #popImplicitWait()}, scopes can be nested
+   */
+  public void pushImplicitWait(long time, TimeUnit unit) {
+    implicitWait.push(time, unit);
+  }
+
+  /**
+   * Restore implicit wait used before the last {@link #pushImplicitWait(long, TimeUnit)}
+   */
+  public void popImplicitWait() {
+    implicitWait.pop();
+  }
+
+  /**
+   * @return snapshot of the page DOM, taken again only after navigation, a click, typing, a script
+   * or {@link #invalidateDomSnapshot()}
+   */
+  public DomSnapshot getDomSnapshot() {
+    return domSnapshot.get(this);
+  }
+
+  /**
+   * Take a new DOM snapshot on the next {@link #getDomSnapshot()}, call after the page changed
+   */
+  public void invalidateDomSnapshot() {
+    domSnapshot.invalidate();
+  }
+
+  /**
+   * @return navigation tracker deciding when page object elements have to be found again
+   */
+  public ElementLookupCache getElementLookupCache() {
+    return elementLookupCache;
+  }
+
+  /**
+   * @return origins of pages opened by navigation since the last {@link #clearVisitedOrigins()}
+   */
+  public Set<String> getVisitedOrigins() {
+    return visitedOrigins.get();
+  }
+
+  /**
+   * Record origin of a page the browser got to without navigation, like after a click
+   */
+  public void addVisitedOrigin(String url) {
+    visitedOrigins.add(url);
+  }
+
+  public void clearVisitedOrigins() {
+    visitedOrigins.clear();
   }
 
   public NetworkTrafficInterceptor getProxy() {
@@ -1,6 +1,6 @@
 package com.wikia.webdriver.common.core.configuration;
 
-import com.wikia.webdriver.common.core.TestContext;
+import com.wikia.webdriver.common.core.ExecutionContext;
 import com.wikia.webdriver.common.core.annotations.InBrowser;
 import com.wikia.webdriver.common.core.exceptions.TestEnvInitFailedException;
 import com.wikia.webdriver.common.core.helpers.Emulator;
@@ -14,8 +14,8 @@ import org.yaml.snakeyaml.Yaml;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,7 +24,8 @@ import java.util.logging.Logger;
  * Configuration handler. This Class should handle run configuration and global properties.
  * Configuration handling:
  * <ol>
- * <li>Look for the property key in testConfig map, if key is present, return the value</li>
+ * <li>Look for the property key in test values of the current {@link ExecutionContext}, if key is
+ * present, return the value</li>
  * <li>Look for the property key in system properties - return value of this property if key present
  * </li>
  * <li>If no System Property is found - value is provided from configuration files
@@ -38,14 +39,13 @@ public class Configuration {
   private static final String LOCAL_CONFIG_FILE_NAME = "config.yml";
   private static final Logger LOGGER = Logger.getLogger(Configuration.class.getName());
   private static Map<String, String> defaultConfig;
-  private static Map<String, String> testConfig = new HashMap<>();
 
   @Getter(lazy = true)
   private static final String wikiaDomain = getEnvType().getWikiaDomain();
 
   private Configuration() {}
 
-  private static Map<String, String> readConfiguration() {
+  private static synchronized Map<String, String> readConfiguration() {
     if (defaultConfig == null) {
       Yaml yaml = new Yaml();
 
@@ -79,11 +79,12 @@ public class Configuration {
   }
 
   private static String getProp(String propertyName) {
-    if (testConfig.get(propertyName) == null) {
+    String testValue = ExecutionContext.current().getTestValue(propertyName);
+    if (testValue == null) {
       return System.getProperty(propertyName) != null ? System.getProperty(propertyName)
           : getPropertyFromFile(propertyName);
     } else {
-      return testConfig.get(propertyName);
+      return testValue;
     }
   }
 
@@ -140,14 +141,17 @@ public class Configuration {
 
   public static Emulator getEmulator() {
     Emulator emulatorToUse = Emulator.DEFAULT;
-    if (TestContext.getCurrentTestMethod().getDeclaringClass()
-        .isAnnotationPresent(InBrowser.class)) {
-      emulatorToUse = TestContext.getCurrentTestMethod().getDeclaringClass()
-          .getDeclaredAnnotation(InBrowser.class).emulator();
+    Method testMethod = ExecutionContext.current().getTestMethod();
+    // no test method outside of a test, like for a driver started by a helper thread
+    if (testMethod == null) {
+      return emulatorToUse;
     }
-    if (TestContext.getCurrentTestMethod().isAnnotationPresent(InBrowser.class)) {
+    if (testMethod.getDeclaringClass().isAnnotationPresent(InBrowser.class)) {
       emulatorToUse =
-          TestContext.getCurrentTestMethod().getDeclaredAnnotation(InBrowser.class).emulator();
+          testMethod.getDeclaringClass().getDeclaredAnnotation(InBrowser.class).emulator();
+    }
+    if (testMethod.isAnnotationPresent(InBrowser.class)) {
+      emulatorToUse = testMethod.getDeclaredAnnotation(InBrowser.class).emulator();
     }
     return emulatorToUse;
   }
@@ -187,11 +191,11 @@ public class Configuration {
   }
 
   public static void setTestValue(String key, String value) {
-    testConfig.put(key, value);
+    ExecutionContext.current().setTestValue(key, value);
   }
 
   public static void clearCustomTestProperties() {
-    testConfig.clear();
+    ExecutionContext.current().clearTestValues();
   }
 
   public static String getCountryCode() {
@@ -236,6 +240,50 @@ public class Configuration {
     return res.toArray(new String[res.size()]);
   }
 
+  public static boolean reuseBrowser() {
+    return Boolean.valueOf(getProp("reuseBrowser"));
+  }
+
+  public static int getReuseBrowserMaxTests() {
+    return Integer.valueOf(getProp("reuseBrowserMaxTests"));
+  }
+
+  public static int getBrowserPoolSize() {
+    return Integer.valueOf(getProp("browserPoolSize"));
+  }
+
+  public static long getBrowserPoolIdleTimeout() {
+    return Long.valueOf(getProp("browserPoolIdleTimeout"));
+  }
+
+  public static boolean screenshotsOnFailureOnly() {
+    return Boolean.valueOf(getProp("screenshotsOnFailureOnly"));
+  }
+
+  public static int getScreenshotsBufferSize() {
+    return Integer.valueOf(getProp("screenshotsBufferSize"));
+  }
+
+  public static String getWaitPolling() {
+    return getProp("waitPolling");
+  }
+
+  public static long getWaitPollingInitialInterval() {
+    return Long.valueOf(getProp("waitPollingInitialInterval"));
+  }
+
+  public static long getWaitPollingMaxInterval() {
+    return Long.valueOf(getProp("waitPollingMaxInterval"));
+  }
+
+  public static boolean waitUsingObservers() {
+    return "true".equals(getProp("waitUsingObservers"));
+  }
+
+  public static boolean cacheElementLookups() {
+    return "true".equals(getProp("cacheElementLookups"));
+  }
+
   public static String getDisableCommunityPageSalesPitchDialog() {
     return getProp("disableCommunityPageSalesPitchDialog");
   }
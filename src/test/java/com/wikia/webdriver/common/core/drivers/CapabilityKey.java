@@ -0,0 +1,40 @@
+package com.wikia.webdriver.common.core.drivers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Value;
+
+import com.wikia.webdriver.common.core.configuration.Configuration;
+import com.wikia.webdriver.common.core.helpers.Emulator;
+
+/**
+ * Set of options which are used by {@link BrowserAbstract} when a browser is started. Two browsers
+ * with equal keys are interchangeable, so a running instance can be handed to another test instead
+ * of starting a new one.
+ */
+@Value
+public class CapabilityKey {
+
+  private String browser;
+  private Emulator emulator;
+  private List<String> extensions;
+  private boolean proxy;
+  private String mitm;
+  private String zapProxy;
+  private String disableFlash;
+  private String pageLoadStrategy;
+
+  /**
+   * @return key describing browser requested by the current test configuration
+   */
+  public static CapabilityKey current() {
+    String[] extensions = Configuration.getExtensions();
+    Arrays.sort(extensions);
+
+    return new CapabilityKey(Configuration.getBrowser(), Configuration.getEmulator(),
+        Arrays.asList(extensions), Configuration.useProxy(), Configuration.useMITM(),
+        Configuration.useZap(), Configuration.getDisableFlash(),
+        Configuration.getPageLoadStrategy());
+  }
+}
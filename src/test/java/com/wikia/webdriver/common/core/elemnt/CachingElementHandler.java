@@ -0,0 +1,73 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Proxy handler of a page object element which reuses the element found before, until the browser
+ * navigates. When the reused element is stale the element is found again and the call is repeated,
+ * stale elements fail before the command is done, so repeating it is safe.
+ *
+ * Elements which are not found are not remembered, waits for them keep searching.
+ */
+class CachingElementHandler implements InvocationHandler {
+
+  private final SearchContext searchContext;
+  private final By by;
+  private final ElementLookupCache cache;
+  private WebElement element;
+  private long navigation;
+
+  CachingElementHandler(SearchContext searchContext, By by, ElementLookupCache cache) {
+    this.searchContext = searchContext;
+    this.by = by;
+    this.cache = cache;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    boolean reused = element != null && navigation == cache.getNavigation();
+    WebElement target;
+    try {
+      target = reused ? element : find();
+    } catch (NoSuchElementException e) {
+      if ("toString".equals(method.getName())) {
+        return "Proxy element for: Located by " + by;
+      }
+      throw e;
+    }
+    ElementLookupCache.recordLookup(by, reused);
+    if ("getWrappedElement".equals(method.getName())) {
+      return target;
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      if (!reused || !(e.getCause() instanceof StaleElementReferenceException)) {
+        throw e.getCause();
+      }
+    }
+    ElementLookupCache.recordStale(by);
+    try {
+      return method.invoke(find(), args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private WebElement find() {
+    element = null;
+    long current = cache.getNavigation();
+    WebElement found = searchContext.findElement(by);
+    element = found;
+    navigation = current;
+    return found;
+  }
+}
@@ -0,0 +1,94 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.io.FileUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Tells page object elements when elements they found before can't be used anymore. Elements of
+ * page object fields are found once and reused until the browser navigates, or until the element
+ * turns out to be stale, then they are found again.
+ *
+ * Hits, misses and stale elements are counted for every locator, see {@link #writeReport(String)}.
+ */
+public class ElementLookupCache extends AbstractWebDriverEventListener {
+
+  private static final Map<String, LookupStatistics> statistics = new ConcurrentHashMap<>();
+
+  private volatile long navigation;
+
+  /**
+   * @return number of navigations so far, elements found before the last one are not reused
+   */
+  long getNavigation() {
+    return navigation;
+  }
+
+  @Override
+  public void afterNavigateTo(String url, WebDriver driver) {
+    navigation++;
+  }
+
+  @Override
+  public void afterNavigateBack(WebDriver driver) {
+    navigation++;
+  }
+
+  @Override
+  public void afterNavigateForward(WebDriver driver) {
+    navigation++;
+  }
+
+  static void recordLookup(By by, boolean hit) {
+    LookupStatistics stats = statistics(by);
+    if (hit) {
+      stats.hits.increment();
+    } else {
+      stats.misses.increment();
+    }
+  }
+
+  static void recordStale(By by) {
+    statistics(by).stale.increment();
+  }
+
+  private static LookupStatistics statistics(By by) {
+    return statistics.computeIfAbsent(by.toString(), k -> new LookupStatistics());
+  }
+
+  /**
+   * Write statistics as CSV file, one line per locator
+   */
+  public static void writeReport(String path) {
+    StringBuilder report = new StringBuilder("locator,hits,misses,stale,hitRate")
+        .append(System.lineSeparator());
+    for (Map.Entry<String, LookupStatistics> entry : new TreeMap<>(statistics).entrySet()) {
+      LookupStatistics stats = entry.getValue();
+      long hits = stats.hits.sum();
+      long lookups = hits + stats.misses.sum();
+      report.append(String.format("\"%s\",%d,%d,%d,%.2f%n", entry.getKey().replace("\"", "\"\""),
+          hits, lookups - hits, stats.stale.sum(), lookups == 0 ? 0 : (double) hits / lookups));
+    }
+    try {
+      FileUtils.writeStringToFile(new File(path), report.toString(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      System.out.println("Can't write element lookup statistics: " + e.getMessage());
+    }
+  }
+
+  private static class LookupStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+  }
+}
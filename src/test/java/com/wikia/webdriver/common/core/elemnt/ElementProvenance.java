@@ -0,0 +1,197 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers how elements were found: locator, position in the list of found elements and the
+ * context searched, which is the driver or a parent element with its own record. Elements which
+ * went stale, because the page replaced them, can be found again from this record.
+ *
+ * Records are kept for elements still referenced by tests, at most {@link #MAX_ELEMENTS} of them,
+ * elements are compared by identity. Elements found by the driver and page object fields are
+ * recorded, elements found by WebElement.findElement called directly are not.
+ */
+public class ElementProvenance {
+
+  private static final int MAX_ELEMENTS = 5000;
+  private static final Cache<WebElement, Origin> origins =
+      CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_ELEMENTS).build();
+
+  private ElementProvenance() {
+    throw new IllegalAccessError("Utility class");
+  }
+
+  public static void record(SearchContext context, By by, WebElement element) {
+    origins.put(element, new Origin(context, by, -1));
+  }
+
+  public static void record(SearchContext context, By by, List<WebElement> elements) {
+    for (int i = 0; i < elements.size(); i++) {
+      origins.put(elements.get(i), new Origin(context, by, i));
+    }
+  }
+
+  public static boolean isKnown(WebElement element) {
+    return origins.getIfPresent(element) != null;
+  }
+
+  /**
+   * Find the element again, parent elements which went stale are found again first
+   *
+   * @return element found now, empty when the element wasn't recorded or isn't on the page
+   */
+  public static Optional<WebElement> resolve(WebElement element) {
+    Origin origin = origins.getIfPresent(element);
+    if (origin == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(origin.find());
+    } catch (StaleElementReferenceException e) {
+      if (!(origin.context instanceof WebElement)) {
+        return Optional.empty();
+      }
+      Optional<WebElement> parent = resolve((WebElement) origin.context);
+      if (!parent.isPresent()) {
+        return Optional.empty();
+      }
+      Origin moved = new Origin(parent.get(), origin.by, origin.index);
+      origins.put(element, moved);
+      try {
+        return Optional.of(moved.find());
+      } catch (StaleElementReferenceException | NoSuchElementException again) {
+        return Optional.empty();
+      }
+    } catch (NoSuchElementException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @return given element, or the element found again when it is stale
+   */
+  public static WebElement fresh(WebElement element) {
+    try {
+      element.getTagName();
+      return element;
+    } catch (StaleElementReferenceException e) {
+      return resolve(element).orElse(element);
+    }
+  }
+
+  /**
+   * Click the element, when it went stale find it again and repeat the click. Stale elements fail
+   * before the click is done, so repeating it is safe.
+   */
+  public static void click(WebElement element) {
+    try {
+      element.click();
+    } catch (StaleElementReferenceException e) {
+      resolve(element).orElseThrow(() -> e).click();
+    }
+  }
+
+  /**
+   * Condition checked on the element, or on the element found again when it went stale during the
+   * wait. Stale elements without a record fail the wait, like they did before.
+   */
+  public static <T> ExpectedCondition<T> reResolving(WebElement element,
+      Function<WebElement, ExpectedCondition<T>> condition) {
+    return new ReResolving<>(element, condition);
+  }
+
+  /**
+   * @return locators used to find the element, starting with the outermost one
+   */
+  public static String describe(WebElement element) {
+    Origin origin = origins.getIfPresent(element);
+    if (origin == null) {
+      return "unknown locator";
+    }
+    String locator = origin.index < 0 ? origin.by.toString() : origin.by + "[" + origin.index + "]";
+    if (origin.context instanceof WebElement && isKnown((WebElement) origin.context)) {
+      return describe((WebElement) origin.context) + " > " + locator;
+    }
+    return locator;
+  }
+
+  private static class ReResolving<T>
+      implements ExpectedCondition<T>, WaitStatistics.NamedCondition {
+
+    private final Function<WebElement, ExpectedCondition<T>> condition;
+    private WebElement current;
+
+    ReResolving(WebElement element, Function<WebElement, ExpectedCondition<T>> condition) {
+      this.current = element;
+      this.condition = condition;
+    }
+
+    @Override
+    public T apply(WebDriver driver) {
+      try {
+        return condition.apply(current).apply(driver);
+      } catch (StaleElementReferenceException e) {
+        if (!isKnown(current)) {
+          throw e;
+        }
+        resolve(current).ifPresent(found -> current = found);
+        return null;
+      }
+    }
+
+    /**
+     * @return name of the wrapped condition, like ExpectedConditions.elementToBeClickable
+     */
+    @Override
+    public String getConditionName() {
+      return WaitStatistics.conditionName(condition.apply(current));
+    }
+
+    @Override
+    public String toString() {
+      return condition.apply(current) + " located by " + describe(current);
+    }
+  }
+
+  private static class Origin {
+
+    private final SearchContext context;
+    private final By by;
+    private final int index;
+
+    Origin(SearchContext context, By by, int index) {
+      this.context = context;
+      this.by = by;
+      this.index = index;
+    }
+
+    WebElement find() {
+      WebElement found;
+      if (index < 0) {
+        found = context.findElement(by);
+      } else {
+        List<WebElement> elements = context.findElements(by);
+        if (index >= elements.size()) {
+          throw new NoSuchElementException(
+              String.format("Only %d elements located by %s", elements.size(), by));
+        }
+        found = elements.get(index);
+      }
+      origins.put(found, this);
+      return found;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import com.wikia.webdriver.common.core.WikiaWebDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+/**
+ * Locator of a page object field, with the By already read from field annotations. Fields marked
+ * with CacheLookup keep the element found first. Elements found in a parent element are recorded
+ * by {@link ElementProvenance}, the driver records elements it finds itself.
+ */
+class FieldElementLocator implements ElementLocator {
+
+  private final SearchContext searchContext;
+  private final By by;
+  private final boolean cacheLookup;
+  private WebElement cachedElement;
+  private List<WebElement> cachedElements;
+
+  FieldElementLocator(SearchContext searchContext, By by, boolean cacheLookup) {
+    this.searchContext = searchContext;
+    this.by = by;
+    this.cacheLookup = cacheLookup;
+  }
+
+  @Override
+  public WebElement findElement() {
+    if (cachedElement != null) {
+      return cachedElement;
+    }
+    WebElement element = searchContext.findElement(by);
+    if (!(searchContext instanceof WikiaWebDriver)) {
+      ElementProvenance.record(searchContext, by, element);
+    }
+    if (cacheLookup) {
+      cachedElement = element;
+    }
+    return element;
+  }
+
+  @Override
+  public List<WebElement> findElements() {
+    if (cachedElements != null) {
+      return cachedElements;
+    }
+    List<WebElement> elements = searchContext.findElements(by);
+    if (!(searchContext instanceof WikiaWebDriver)) {
+      ElementProvenance.record(searchContext, by, elements);
+    }
+    if (cacheLookup) {
+      cachedElements = elements;
+    }
+    return elements;
+  }
+
+  @Override
+  public String toString() {
+    return "Located by " + by;
+  }
+}
@@ -13,6 +13,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,21 +58,47 @@ public class JavascriptActions {
     return js.executeScript(script, element);
   }
 
+  /**
+   * Execute script and return its value right away. Use one of the variants with a post-condition
+   * when the script starts something the test has to wait for.
+   */
   public Object execute(String script) {
-    // TODO: Get rid of this wait
     try {
-      Object value = js.executeScript("return " + script);
-      Thread.sleep(1000);
-      return value;
-    } catch (InterruptedException e) {
-      PageObjectLogging.log("execute", e, false);
-      return null;
+      return js.executeScript("return " + script);
     } catch (UnsupportedOperationException e) {
       PageObjectLogging.log("execute", e, true);
       return null;
     }
   }
 
+  /**
+   * Execute script and wait until given condition is fulfilled
+   */
+  public Object execute(String script, ExpectedCondition<?> postCondition) {
+    Object value = execute(script);
+    new WebDriverWait(driver, WEBDRIVER_WAIT_TIMEOUT_SEC).until(postCondition);
+    return value;
+  }
+
+  /**
+   * Execute script and wait until postConditionScript, a JavaScript expression, is truthy
+   */
+  public Object execute(String script, String postConditionScript) {
+    Object value = execute(script);
+    waitForJavaScriptTruthy(postConditionScript);
+    return value;
+  }
+
+  /**
+   * Execute script and wait until requests it started are finished, see
+   * {@link Wait#forNetworkIdle(Duration, Duration)}
+   */
+  public Object executeAndWaitForNetworkIdle(String script, Duration quietPeriod) {
+    Object value = execute(script);
+    new Wait(driver).forNetworkIdle(quietPeriod, Duration.ofSeconds(WEBDRIVER_WAIT_TIMEOUT_SEC));
+    return value;
+  }
+
   public void mouseOver(WebElement element) {
     js.executeScript("$(arguments[0]).mouseenter()", element);
   }
@@ -0,0 +1,133 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import com.wikia.webdriver.common.core.WikiaWebDriver;
+import com.wikia.webdriver.common.core.configuration.Configuration;
+
+/**
+ * Replacement of PageFactory.initElements which doesn't reflect over page object classes every time
+ * a page object is created. Fields to initialize and their locators are read once per class, proxy
+ * classes are created once, so initializing a page object only creates a proxy per field.
+ *
+ * Fields are initialized the same way as by PageFactory: every WebElement field, with a locator
+ * from its annotations or by id or name equal to the field name, and List&lt;WebElement&gt; fields
+ * annotated with FindBy, FindBys or FindAll.
+ *
+ * With cacheElementLookups option enabled, elements of a WikiaWebDriver are reused until the
+ * browser navigates, see {@link ElementLookupCache}.
+ */
+public class PageElementFactory {
+
+  private static final Map<Class<?>, List<ElementField>> FIELDS = new ConcurrentHashMap<>();
+  private static final Constructor<?> ELEMENT_PROXY =
+      proxyConstructor(WebElement.class, WrapsElement.class, Locatable.class);
+  private static final Constructor<?> LIST_PROXY = proxyConstructor(List.class);
+
+  private PageElementFactory() {
+  }
+
+  public static void initElements(SearchContext searchContext, Object page) {
+    ElementLookupCache cache =
+        searchContext instanceof WikiaWebDriver && Configuration.cacheElementLookups()
+            ? ((WikiaWebDriver) searchContext).getElementLookupCache() : null;
+    for (ElementField field : FIELDS.computeIfAbsent(page.getClass(),
+        PageElementFactory::findFields)) {
+      try {
+        field.field.set(page, proxy(searchContext, field, cache));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException("Can't initialize field " + field.field, e);
+      }
+    }
+  }
+
+  /**
+   * Lists are always searched again, their size changes while the page loads
+   */
+  private static Object proxy(SearchContext searchContext, ElementField field,
+      ElementLookupCache cache) throws ReflectiveOperationException {
+    if (field.list) {
+      return LIST_PROXY.newInstance(new LocatingElementListHandler(
+          new FieldElementLocator(searchContext, field.by, field.cacheLookup)));
+    }
+    if (cache != null && !field.cacheLookup) {
+      return ELEMENT_PROXY.newInstance(new CachingElementHandler(searchContext, field.by, cache));
+    }
+    return ELEMENT_PROXY.newInstance(new LocatingElementHandler(
+        new FieldElementLocator(searchContext, field.by, field.cacheLookup)));
+  }
+
+  private static List<ElementField> findFields(Class<?> pageClass) {
+    List<ElementField> fields = new ArrayList<>();
+    for (Class<?> type = pageClass; type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        boolean element = WebElement.class.isAssignableFrom(field.getType());
+        boolean list = !element && isElementList(field);
+        if (element || list) {
+          Annotations annotations = new Annotations(field);
+          field.setAccessible(true);
+          fields.add(new ElementField(field, annotations.buildBy(), annotations.isLookupCached(),
+              list));
+        }
+      }
+    }
+    return Collections.unmodifiableList(fields);
+  }
+
+  private static boolean isElementList(Field field) {
+    if (!List.class.isAssignableFrom(field.getType())) {
+      return false;
+    }
+    Type genericType = field.getGenericType();
+    return genericType instanceof ParameterizedType
+        && ((ParameterizedType) genericType).getActualTypeArguments()[0] == WebElement.class
+        && (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+            || field.isAnnotationPresent(FindAll.class));
+  }
+
+  private static Constructor<?> proxyConstructor(Class<?>... interfaces) {
+    try {
+      return Proxy.getProxyClass(PageElementFactory.class.getClassLoader(), interfaces)
+          .getConstructor(InvocationHandler.class);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class ElementField {
+
+    private final Field field;
+    private final By by;
+    private final boolean cacheLookup;
+    private final boolean list;
+
+    ElementField(Field field, By by, boolean cacheLookup, boolean list) {
+      this.field = field;
+      this.by = by;
+      this.cacheLookup = cacheLookup;
+      this.list = list;
+    }
+  }
+}
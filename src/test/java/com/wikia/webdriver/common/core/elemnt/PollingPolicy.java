@@ -0,0 +1,83 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import com.wikia.webdriver.common.core.configuration.Configuration;
+
+/**
+ * Defines how long waits sleep between checks of a condition. FIXED policy sleeps for the interval
+ * given by the wait. EXPONENTIAL policy checks the condition again quickly, then doubles the
+ * interval up to a maximum, with random jitter, so fast conditions are noticed early and slow ones
+ * don't flood the browser with commands.
+ */
+public class PollingPolicy {
+
+  private static final double BACKOFF_FACTOR = 2;
+  private static final double JITTER = 0.2;
+
+  private final boolean exponential;
+  private final long initialMillis;
+  private final long maxMillis;
+
+  private PollingPolicy(boolean exponential, long initialMillis, long maxMillis) {
+    this.exponential = exponential;
+    this.initialMillis = initialMillis;
+    this.maxMillis = maxMillis;
+  }
+
+  public static PollingPolicy fixed() {
+    return new PollingPolicy(false, 0, 0);
+  }
+
+  public static PollingPolicy exponential(long initialMillis, long maxMillis) {
+    return new PollingPolicy(true, initialMillis, maxMillis);
+  }
+
+  /**
+   * @return policy set by waitPolling option
+   */
+  public static PollingPolicy fromConfiguration() {
+    if ("EXPONENTIAL".equalsIgnoreCase(Configuration.getWaitPolling())) {
+      return exponential(Configuration.getWaitPollingInitialInterval(),
+          Configuration.getWaitPollingMaxInterval());
+    }
+    return fixed();
+  }
+
+  PollingSleeper newSleeper() {
+    return new PollingSleeper();
+  }
+
+  /**
+   * Sleeper used by a single wait, counts sleeps since the last {@link #reset()}
+   */
+  class PollingSleeper implements Sleeper {
+
+    private int sleeps = 0;
+
+    void reset() {
+      sleeps = 0;
+    }
+
+    int getSleeps() {
+      return sleeps;
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+      long millis = exponential ? nextInterval() : duration.in(TimeUnit.MILLISECONDS);
+      sleeps++;
+      Thread.sleep(millis);
+    }
+
+    private long nextInterval() {
+      double interval = Math.min(maxMillis, initialMillis * Math.pow(BACKOFF_FACTOR, sleeps));
+      double jitter = 1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+      return Math.max(1, Math.round(interval * jitter));
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.SystemClock;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.google.common.base.Function;
+
+/**
+ * WebDriverWait which sleeps between checks according to a {@link PollingPolicy} and records
+ * {@link WaitStatistics} of every condition it waits for
+ */
+public class PollingWait extends WebDriverWait {
+
+  private final PollingPolicy.PollingSleeper sleeper;
+
+  public PollingWait(WebDriver driver, long timeoutSec, long pollingMillis, PollingPolicy policy) {
+    this(driver, timeoutSec, pollingMillis, policy.newSleeper());
+  }
+
+  private PollingWait(WebDriver driver, long timeoutSec, long pollingMillis,
+      PollingPolicy.PollingSleeper sleeper) {
+    super(driver, new SystemClock(), sleeper, timeoutSec, pollingMillis);
+    this.sleeper = sleeper;
+  }
+
+  @Override
+  public <V> V until(Function<? super WebDriver, V> isTrue) {
+    sleeper.reset();
+    long start = System.currentTimeMillis();
+    boolean timedOut = false;
+    try {
+      return super.until(isTrue);
+    } catch (TimeoutException e) {
+      timedOut = true;
+      throw e;
+    } finally {
+      WaitStatistics.record(isTrue, sleeper.getSleeps() + 1, System.currentTimeMillis() - start,
+          timedOut);
+    }
+  }
+}
@@ -1,12 +1,16 @@
 package com.wikia.webdriver.common.core.elemnt;
 
 import com.wikia.webdriver.common.core.CommonExpectedConditions;
-import com.wikia.webdriver.common.core.SelectorStack;
+import com.wikia.webdriver.common.core.ObserverWait;
+import com.wikia.webdriver.common.core.ScriptCondition;
+import com.wikia.webdriver.common.core.WikiaWebDriver;
+import com.wikia.webdriver.common.core.configuration.Configuration;
 import com.wikia.webdriver.common.core.networktrafficinterceptor.NetworkTrafficInterceptor;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 
 import net.lightbody.bmp.core.har.HarEntry;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
@@ -18,6 +22,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
 
 public class Wait {
 
@@ -26,7 +32,9 @@ public class Wait {
    */
 
   private static final int DEFAULT_TIMEOUT = 15;
+  private static final Duration NETWORK_QUIET_PERIOD = Duration.ofMillis(500);
   private static final int DEFAULT_SLEEP = 5000;
+  private static final int DEFAULT_POLLING = 500;
   private static final String INIT_MESSAGE = "INIT ELEMENT";
   private static final String INIT_ERROR_MESSAGE = "PROBLEM WITH ELEMENT INIT";
   private static final String ELEMENT_PRESENT_MESSAGE = "ELEMENT PRESENT";
@@ -35,11 +43,83 @@ public class Wait {
   private WebDriverWait wait;
   private WebDriverWait sleepingWait;
   private WebDriver driver;
+  private PollingPolicy polling;
+  private boolean observe;
 
   public Wait(WebDriver webDriver) {
+    this(webDriver, PollingPolicy.fromConfiguration(), Configuration.waitUsingObservers());
+  }
+
+  private Wait(WebDriver webDriver, PollingPolicy polling, boolean observe) {
     this.driver = webDriver;
-    this.wait = new WebDriverWait(webDriver, DEFAULT_TIMEOUT);
-    this.sleepingWait = new WebDriverWait(webDriver, DEFAULT_TIMEOUT, DEFAULT_SLEEP);
+    this.polling = polling;
+    this.observe = observe;
+    this.wait = newWait(DEFAULT_TIMEOUT);
+    // condition of this wait refreshes the page, so it always polls in fixed intervals
+    this.sleepingWait =
+        new PollingWait(webDriver, DEFAULT_TIMEOUT, DEFAULT_SLEEP, PollingPolicy.fixed());
+  }
+
+  /**
+   * @return waits which use given polling policy instead of the one set by waitPolling option
+   */
+  public Wait withPolling(PollingPolicy policy) {
+    return new Wait(driver, policy, observe);
+  }
+
+  /**
+   * @return waits which check visibility, absence and text of elements located by By with
+   * observers in the page, see {@link ObserverWait}. Other waits still poll.
+   */
+  public Wait usingObservers() {
+    return new Wait(driver, polling, true);
+  }
+
+  /**
+   * Observer waits can't be used for locators the page can't resolve, and fail when the page
+   * navigates away during the wait. In both cases the wait polls instead.
+   */
+  private boolean canObserve(By by) {
+    return observe && ObserverWait.supports(by);
+  }
+
+  /**
+   * Wait for the condition with observers when the locator can be observed, otherwise or when the
+   * observer wait is interrupted poll for it, for the rest of the default timeout
+   *
+   * @param observed observer wait, called with the timeout in milliseconds
+   * @param implicitWaitMillis implicit wait used while polling
+   */
+  private <T> T observeOrPoll(By by, BiFunction<ObserverWait, Long, T> observed,
+      ExpectedCondition<T> polled, int implicitWaitMillis) {
+    long timeoutMillis = TimeUnit.SECONDS.toMillis(DEFAULT_TIMEOUT);
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    WebDriverWait pollingWait = wait;
+    if (canObserve(by)) {
+      try {
+        return observed.apply(new ObserverWait(driver), timeoutMillis);
+      } catch (TimeoutException e) {
+        throw e;
+      } catch (WebDriverException e) {
+        PageObjectLogging.logInfo("Observer wait interrupted, polling instead", e.getMessage());
+        long remainingMillis = Math.max(0, deadline - System.currentTimeMillis());
+        pollingWait = newWait(TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999));
+      }
+    }
+    changeImplicitWait(implicitWaitMillis, TimeUnit.MILLISECONDS);
+    try {
+      return pollingWait.until(polled);
+    } finally {
+      restoreDeaultImplicitWait();
+    }
+  }
+
+  private WebDriverWait newWait(long timeoutSec) {
+    return newWait(timeoutSec, DEFAULT_POLLING);
+  }
+
+  private WebDriverWait newWait(long timeoutSec, long pollingMillis) {
+    return new PollingWait(driver, timeoutSec, pollingMillis, polling);
   }
 
   /**
@@ -74,7 +154,7 @@ public class Wait {
   public WebElement forElementPresent(By by, int timeout) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, timeout).until(ExpectedConditions
+      return newWait(timeout).until(ExpectedConditions
                                                           .presenceOfElementLocated(by));
     } catch (TimeoutException e) {
       PageObjectLogging.log(ELEMENT_PRESENT_MESSAGE, e, false);
@@ -92,17 +172,8 @@ public class Wait {
   public WebElement forElementClickable(WebElement element) {
     changeImplicitWait(0, TimeUnit.MILLISECONDS);
     try {
-      element.getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
-    try {
-      if (SelectorStack.isContextSet()) {
-        SelectorStack.contextRead();
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
-      } else {
-        return forElementClickable(SelectorStack.read());
-      }
+      return wait.until(ElementProvenance.reResolving(initElement(element),
+          ExpectedConditions::elementToBeClickable));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -111,16 +182,8 @@ public class Wait {
   public WebElement forElementClickable(WebElement element, int timeout) {
     changeImplicitWait(0, TimeUnit.MILLISECONDS);
     try {
-      element.getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
-    try {
-      if (SelectorStack.isContextSet()) {
-        SelectorStack.contextRead();
-      }
-      return new WebDriverWait(driver, timeout).until(ExpectedConditions
-                                                          .elementToBeClickable(element));
+      return newWait(timeout).until(ElementProvenance.reResolving(initElement(element),
+          ExpectedConditions::elementToBeClickable));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -129,14 +192,8 @@ public class Wait {
   public WebElement forElementClickable(List<WebElement> elements, int index, int timeout) {
     changeImplicitWait(0, TimeUnit.MILLISECONDS);
     try {
-      elements.get(index).getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
-    try {
-      SelectorStack.contextRead();
-      return new WebDriverWait(driver, timeout).until(
-          ExpectedConditions.elementToBeClickable(elements.get(index)));
+      return newWait(timeout).until(ElementProvenance.reResolving(
+          initElement(elements.get(index)), ExpectedConditions::elementToBeClickable));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -160,7 +217,7 @@ public class Wait {
   public WebElement forElementClickable(By by, int timeout) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, timeout).until(ExpectedConditions
+      return newWait(timeout).until(ExpectedConditions
                                                           .elementToBeClickable(by));
     } finally {
       restoreDeaultImplicitWait();
@@ -175,22 +232,17 @@ public class Wait {
   public WebElement forElementVisible(WebElement element) {
     changeImplicitWait(0, TimeUnit.MILLISECONDS);
     try {
-      element.getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
-    if (SelectorStack.isContextSet()) {
-      SelectorStack.contextRead();
-      return wait.until(ExpectedConditions.visibilityOf(element));
-    } else {
-      return forElementVisible(SelectorStack.read());
+      return wait.until(ElementProvenance.reResolving(initElement(element),
+          ExpectedConditions::visibilityOf));
+    } finally {
+      restoreDeaultImplicitWait();
     }
   }
 
   public WebElement forElementVisible(WebElement element, int timeoutSec, int polling) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, timeoutSec, polling).until(ExpectedConditions
+      return newWait(timeoutSec, polling).until(ExpectedConditions
                                                                    .visibilityOf(element));
     } finally {
       restoreDeaultImplicitWait();
@@ -213,12 +265,8 @@ public class Wait {
    * Checks if the element is visible on the browser
    */
   public WebElement forElementVisible(By by) {
-    changeImplicitWait(250, TimeUnit.MILLISECONDS);
-    try {
-      return wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-    } finally {
-      restoreDeaultImplicitWait();
-    }
+    return observeOrPoll(by, (observer, timeout) -> observer.forElementVisible(by, timeout),
+        ExpectedConditions.visibilityOfElementLocated(by), 250);
   }
 
   /**
@@ -228,7 +276,7 @@ public class Wait {
   public WebElement forElementVisible(By by, int timeoutSec, int polling) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, timeoutSec, polling).until(
+      return newWait(timeoutSec, polling).until(
           ExpectedConditions.visibilityOfElementLocated(by));
     } finally {
       restoreDeaultImplicitWait();
@@ -245,7 +293,7 @@ public class Wait {
   public boolean forElementNotVisible(By by) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, DEFAULT_TIMEOUT).until(
+      return newWait(DEFAULT_TIMEOUT).until(
           ExpectedConditions.invisibilityOfElementLocated(by));
     } finally {
       restoreDeaultImplicitWait();
@@ -258,7 +306,7 @@ public class Wait {
   public boolean forElementNotVisible(WebElement element) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, DEFAULT_TIMEOUT).until(
+      return newWait(DEFAULT_TIMEOUT).until(
           CommonExpectedConditions.invisibilityOfElementLocated(element));
     } finally {
       restoreDeaultImplicitWait();
@@ -271,7 +319,7 @@ public class Wait {
   public boolean forElementNotVisible(By by, int timeout, int polling) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, timeout, polling).until(
+      return newWait(timeout, polling).until(
           ExpectedConditions.invisibilityOfElementLocated(by));
     } finally {
       restoreDeaultImplicitWait();
@@ -284,7 +332,7 @@ public class Wait {
   public boolean forElementNotVisible(By by, Duration timeout) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return new WebDriverWait(driver, timeout.getSeconds()).until(
+      return newWait(timeout.getSeconds()).until(
               ExpectedConditions.invisibilityOfElementLocated(by));
     } finally {
       restoreDeaultImplicitWait();
@@ -297,7 +345,7 @@ public class Wait {
   public boolean forElementInViewPort(WebElement element) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      return wait.until(CommonExpectedConditions.elementInViewPort(element));
+      return wait.until(ScriptCondition.inViewPort(element));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -307,8 +355,7 @@ public class Wait {
       WebElement element, String attribute, String value) {
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      return wait.until(CommonExpectedConditions.valueToBeNotPresentInElementsAttribute(
-          element, attribute, value));
+      return wait.until(ScriptCondition.attributeNotContains(element, attribute, value));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -318,28 +365,16 @@ public class Wait {
    * Wait for element to not be present in DOM
    */
   public boolean forElementNotPresent(By selector) {
-    changeImplicitWait(0, TimeUnit.SECONDS);
-    try {
-      return wait.until(CommonExpectedConditions.elementNotPresent(selector));
-    } finally {
-      restoreDeaultImplicitWait();
-    }
+    return observeOrPoll(selector,
+        (observer, timeout) -> observer.forElementNotPresent(selector, timeout),
+        CommonExpectedConditions.elementNotPresent(selector), 0);
   }
 
   public boolean forTextNotInElement(WebElement element, String text) {
-    try {
-      element.getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
+    WebElement target = initElement(element);
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      if (SelectorStack.isContextSet()) {
-        SelectorStack.contextRead();
-        return wait.until(CommonExpectedConditions.textToBeNotPresentInElement(element, text));
-      } else {
-        return forTextNotInElement(SelectorStack.read(), text);
-      }
+      return wait.until(ScriptCondition.textNotPresent(target, text));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -349,8 +384,7 @@ public class Wait {
       WebElement element, String attribute, String value) {
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      return wait.until(CommonExpectedConditions.valueToBePresentInElementsAttribute(
-          element, attribute, value));
+      return wait.until(ScriptCondition.attributeContains(element, attribute, value));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -359,63 +393,61 @@ public class Wait {
   public boolean forTextNotInElement(By by, String text) {
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      return wait.until(CommonExpectedConditions.textToBeNotPresentInElement(by, text));
+      return wait.until(ScriptCondition.textNotPresent(by, text));
     } finally {
       restoreDeaultImplicitWait();
     }
   }
 
   public boolean forTextInElement(By by, String text) {
-    changeImplicitWait(0, TimeUnit.SECONDS);
-    try {
-      return wait.until(CommonExpectedConditions.textToBePresentInElement(by, text));
-    } finally {
-      restoreDeaultImplicitWait();
-    }
+    return observeOrPoll(by, (observer, timeout) -> observer.forTextInElement(by, text, timeout),
+        ScriptCondition.textPresent(by, text), 0);
   }
 
   public boolean forTextInElement(By by, int index, String text) {
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      return wait.until(CommonExpectedConditions.textToBePresentInElement(by, index, text));
+      return wait.until(ScriptCondition.textPresent(by, index, text));
     } finally {
       restoreDeaultImplicitWait();
     }
   }
 
   public boolean forTextInElement(WebElement element, String text) {
-    try {
-      element.getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
+    WebElement target = initElement(element);
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      if (SelectorStack.isContextSet()) {
-        SelectorStack.contextRead();
-        return wait.until(CommonExpectedConditions.textToBePresentInElement(element, text));
-      } else {
-        return forTextInElement(SelectorStack.read(), text);
-      }
+      return wait.until(ScriptCondition.textPresent(target, text));
     } finally {
       restoreDeaultImplicitWait();
     }
   }
 
+  /**
+   * Element is taken from the list on every poll, so a list which is still filling or is rendered
+   * again is read again
+   */
   public boolean forTextInElement(List<WebElement> elements, int index, String text) {
-    try {
-      elements.get(0).getTagName();
-    } catch (WebDriverException e) {
-      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
-    }
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      if (SelectorStack.isContextSet()) {
-        SelectorStack.contextRead();
-        return wait.until(CommonExpectedConditions.textToBePresentInElement(elements, index, text));
-      } else {
-        return forTextInElement(SelectorStack.read(), index, text);
-      }
+      return wait.until(new ExpectedCondition<Boolean>() {
+        @Override
+        public Boolean apply(WebDriver webDriver) {
+          if (elements.size() <= index) {
+            return false;
+          }
+          try {
+            return ScriptCondition.textPresent(elements.get(index), text).apply(webDriver);
+          } catch (StaleElementReferenceException | IndexOutOfBoundsException e) {
+            return false;
+          }
+        }
+
+        @Override
+        public String toString() {
+          return String.format("text ('%s') to be present in element %d of the list", text, index);
+        }
+      });
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -442,9 +474,7 @@ public class Wait {
   public boolean forAttributeToContain(WebElement element, String attribute, String expectedValue) {
     changeImplicitWait(0, TimeUnit.SECONDS);
     try {
-      return wait.until(CommonExpectedConditions
-                            .valueToBePresentInElementsAttribute(element, attribute,
-                                                                 expectedValue));
+      return wait.until(ScriptCondition.attributeContains(element, attribute, expectedValue));
     } finally {
       restoreDeaultImplicitWait();
     }
@@ -514,16 +544,122 @@ public class Wait {
     }
   }
 
+  /**
+   * Wait until the page has no requests in flight and none started or finished for quietPeriod.
+   * Requires the network traffic interceptor to be enabled for the test.
+   */
+  public void forNetworkIdle(Duration quietPeriod, Duration timeout) {
+    getTrafficInterceptor().waitForIdle(quietPeriod.toMillis(), timeout.toMillis());
+  }
+
+  /**
+   * Wait until requests with url containing urlPart have settled, other requests are ignored
+   */
+  public void forNetworkIdle(String urlPart, Duration quietPeriod, Duration timeout) {
+    getTrafficInterceptor().waitForIdle(url -> url.contains(urlPart), quietPeriod.toMillis(),
+        timeout.toMillis());
+  }
+
+  /**
+   * Wait until requests with url matching pattern have settled, other requests are ignored
+   */
+  public void forNetworkIdleByUrlPattern(String pattern, Duration quietPeriod, Duration timeout) {
+    Pattern compiled = Pattern.compile(pattern);
+    getTrafficInterceptor().waitForIdle(url -> compiled.matcher(url).matches(),
+        quietPeriod.toMillis(), timeout.toMillis());
+  }
+
+  /**
+   * @return cursor for {@link #forRequestsSinceOrX}, take it before the action starting requests,
+   * -1 when the test runs without the network traffic interceptor
+   */
+  public long getRequestCursor() {
+    NetworkTrafficInterceptor interceptor = getTrafficInterceptorOrNull();
+    return interceptor == null ? -1 : interceptor.getRequestCursor();
+  }
+
+  /**
+   * Wait for a request with url containing urlPart started after the cursor and then for such
+   * requests to settle, other requests are ignored. Sleeps for the given time when the test runs
+   * without the network traffic interceptor. No matching request started in the given time, like
+   * for a click which doesn't reach the server, and requests not settling in the default timeout
+   * are logged and not treated as failure.
+   */
+  public void forRequestsSinceOrX(long cursor, String urlPart, Duration sleep) {
+    NetworkTrafficInterceptor interceptor = getTrafficInterceptorOrNull();
+    if (interceptor == null || cursor < 0) {
+      forX(sleep);
+      return;
+    }
+    try {
+      if (!interceptor.waitForRequestsSince(cursor, url -> url.contains(urlPart),
+          sleep.toMillis(), NETWORK_QUIET_PERIOD.toMillis(),
+          TimeUnit.SECONDS.toMillis(DEFAULT_TIMEOUT))) {
+        PageObjectLogging.logInfo("No request started", urlPart);
+      }
+    } catch (TimeoutException e) {
+      PageObjectLogging.logInfo("Requests didn't settle", e.getMessage());
+    }
+  }
+
+  private NetworkTrafficInterceptor getTrafficInterceptorOrNull() {
+    return driver instanceof WikiaWebDriver ? ((WikiaWebDriver) driver).getProxy() : null;
+  }
+
+  private NetworkTrafficInterceptor getTrafficInterceptor() {
+    NetworkTrafficInterceptor interceptor = getTrafficInterceptorOrNull();
+    if (interceptor == null) {
+      throw new WebDriverException("Network idle wait requires network traffic interceptor");
+    }
+    return interceptor;
+  }
+
+  /**
+   * Wait until all given conditions are fulfilled, they are checked by one script call per poll
+   */
+  public boolean forAll(ScriptCondition... conditions) {
+    changeImplicitWait(0, TimeUnit.SECONDS);
+    try {
+      return wait.until(ScriptCondition.allOf(conditions));
+    } finally {
+      restoreDeaultImplicitWait();
+    }
+  }
+
   public void forUrlContains(String text) {
     wait.until(ExpectedConditions.urlContains(text));
   }
 
+  /**
+   * @return given element, or the element found again from its recorded locators when it went
+   * stale, see {@link ElementProvenance}
+   */
+  private WebElement initElement(WebElement element) {
+    try {
+      return ElementProvenance.fresh(element);
+    } catch (WebDriverException e) {
+      PageObjectLogging.logInfo(INIT_MESSAGE, INIT_ERROR_MESSAGE);
+      return element;
+    }
+  }
+
   private void restoreDeaultImplicitWait() {
-    changeImplicitWait(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+    if (driver instanceof WikiaWebDriver) {
+      ((WikiaWebDriver) driver).popImplicitWait();
+    } else {
+      driver.manage().timeouts().implicitlyWait(DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+    }
   }
 
+  /**
+   * Implicit wait is changed in a scope which has to be closed with restoreDeaultImplicitWait
+   */
   private void changeImplicitWait(int value, TimeUnit timeUnit) {
-    driver.manage().timeouts().implicitlyWait(value, timeUnit);
+    if (driver instanceof WikiaWebDriver) {
+      ((WikiaWebDriver) driver).pushImplicitWait(value, timeUnit);
+    } else {
+      driver.manage().timeouts().implicitlyWait(value, timeUnit);
+    }
   }
 
   /**
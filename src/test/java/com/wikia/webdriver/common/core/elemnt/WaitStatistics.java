@@ -0,0 +1,93 @@
+package com.wikia.webdriver.common.core.elemnt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.io.FileUtils;
+
+import com.wikia.webdriver.common.core.ScriptCondition;
+
+/**
+ * Number of checks, total time and timeouts of every kind of condition waited for by
+ * {@link PollingWait}, used to tune {@link PollingPolicy}. Conditions are grouped by the factory
+ * method which created them, e.g. ExpectedConditions.visibilityOfElementLocated. Conditions
+ * wrapping others, like {@link ElementProvenance#reResolving}, report the name of the wrapped
+ * condition by implementing {@link NamedCondition}.
+ */
+public class WaitStatistics {
+
+  private static final Map<String, ConditionStatistics> statistics = new ConcurrentHashMap<>();
+
+  private WaitStatistics() {}
+
+  static void record(Object condition, int polls, long millis, boolean timedOut) {
+    ConditionStatistics stats =
+        statistics.computeIfAbsent(conditionName(condition), k -> new ConditionStatistics());
+    stats.waits.increment();
+    stats.polls.add(polls);
+    stats.millis.add(millis);
+    if (timedOut) {
+      stats.timeouts.increment();
+    }
+  }
+
+  static String conditionName(Object condition) {
+    if (condition instanceof NamedCondition) {
+      return ((NamedCondition) condition).getConditionName();
+    }
+    if (condition instanceof ScriptCondition) {
+      return "ScriptCondition." + ((ScriptCondition) condition).getName();
+    }
+    Class<?> type = condition.getClass();
+    if (type.getEnclosingMethod() != null) {
+      return type.getEnclosingMethod().getDeclaringClass().getSimpleName() + "."
+          + type.getEnclosingMethod().getName();
+    }
+    // lambda classes are named like Wait$$Lambda$12/1234567, numbered differently in every run
+    int lambda = type.getName().indexOf("$$Lambda$");
+    if (lambda > -1) {
+      String declaring = type.getName().substring(0, lambda);
+      return declaring.substring(declaring.lastIndexOf('.') + 1) + ".lambda";
+    }
+    return type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+  }
+
+  /**
+   * Write statistics as CSV file, one line per condition
+   */
+  public static void writeReport(String path) {
+    StringBuilder report = new StringBuilder("condition,waits,polls,totalMillis,timeouts")
+        .append(System.lineSeparator());
+    for (Map.Entry<String, ConditionStatistics> entry : new TreeMap<>(statistics).entrySet()) {
+      ConditionStatistics stats = entry.getValue();
+      report.append(String.format("%s,%d,%d,%d,%d%n", entry.getKey(), stats.waits.sum(),
+          stats.polls.sum(), stats.millis.sum(), stats.timeouts.sum()));
+    }
+    try {
+      FileUtils.writeStringToFile(new File(path), report.toString(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      System.out.println("Can't write wait statistics: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Condition which gives its own name for statistics
+   */
+  public interface NamedCondition {
+
+    String getConditionName();
+  }
+
+  private static class ConditionStatistics {
+
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder millis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+  }
+}
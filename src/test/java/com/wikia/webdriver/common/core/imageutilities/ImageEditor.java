@@ -4,13 +4,21 @@ import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.WebDriverException;
 
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 
 public class ImageEditor {
 
@@ -77,4 +85,49 @@ public class ImageEditor {
     }
     return img;
   }
+
+  public BufferedImage bytesToImage(byte[] bytes) {
+    try {
+      return ImageIO.read(new ByteArrayInputStream(bytes));
+    } catch (IOException e) {
+      throw new WebDriverException(e);
+    }
+  }
+
+  /**
+   * Scale image down to given width, keeping its proportions. Alpha channel is dropped, so the
+   * result can be saved as JPEG.
+   */
+  public BufferedImage scaleToWidth(BufferedImage image, int maxWidth) {
+    int width = Math.min(image.getWidth(), maxWidth);
+    int height = Math.max(1, image.getHeight() * width / image.getWidth());
+    BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = scaled.createGraphics();
+    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    graphics.drawImage(image, 0, 0, width, height, null);
+    graphics.dispose();
+    return scaled;
+  }
+
+  /**
+   * @param quality - JPEG compression quality, between 0 and 1
+   */
+  public byte[] toJpeg(BufferedImage image, float quality) {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+    param.setCompressionQuality(quality);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } catch (IOException e) {
+      throw new WebDriverException(e);
+    } finally {
+      writer.dispose();
+    }
+    return bytes.toByteArray();
+  }
 }
@@ -0,0 +1,40 @@
+package com.wikia.webdriver.common.core.imageutilities;
+
+import lombok.Getter;
+
+/**
+ * Format in which screenshots are saved in logs. FULL keeps the original PNG and should be used for
+ * image comparison evidence, THUMBNAIL is a scaled down JPEG, good enough to see the state of the
+ * page in ordinary step logs.
+ */
+public enum ScreenshotProfile {
+  FULL("png", "image/png", 0, 1f), THUMBNAIL("jpg", "image/jpeg", 800, 0.6f);
+
+  @Getter
+  private final String extension;
+
+  @Getter
+  private final String mimeType;
+
+  private final int maxWidth;
+  private final float quality;
+
+  ScreenshotProfile(String extension, String mimeType, int maxWidth, float quality) {
+    this.extension = extension;
+    this.mimeType = mimeType;
+    this.maxWidth = maxWidth;
+    this.quality = quality;
+  }
+
+  /**
+   * @param png - screenshot taken by the browser
+   * @return screenshot in format of this profile
+   */
+  public byte[] encode(byte[] png) {
+    if (this == FULL) {
+      return png;
+    }
+    ImageEditor editor = new ImageEditor();
+    return editor.toJpeg(editor.scaleToWidth(editor.bytesToImage(png), maxWidth), quality);
+  }
+}
@@ -34,6 +34,13 @@ public class Shooter {
     return ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
   }
 
+  /**
+   * @return screenshot as PNG bytes, without writing it to a temporary file
+   */
+  public byte[] capturePageBytes(WebDriver driver) {
+    return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+  }
+
   /**
    * Create a screenshot of passed element and save screenshot as image file in temp dir. <p> Notes:
    * Method works properly in Google Chrome only if devicePixelRatio equals 1. </p>
@@ -1,5 +1,7 @@
 package com.wikia.webdriver.common.core.interactions;
 
+import com.wikia.webdriver.common.core.ElementSnapshot;
+import com.wikia.webdriver.common.driverprovider.DriverProvider;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 
 import org.openqa.selenium.By;
@@ -8,12 +10,18 @@ import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
+/**
+ * Lookups in lists of elements. State of the whole list is read by one script call, see
+ * {@link ElementSnapshot}, and searched locally.
+ */
 public class Elements {
 
   public static WebElement getElementByValue(List<WebElement> elements, String attribute,
       String value) {
     WebElement foundElement = null;
-    for (WebElement element : elements) {
+    List<ElementSnapshot> snapshots = ElementSnapshot.query().attributes(attribute, "class")
+        .take(DriverProvider.getActiveDriver(), elements);
+    for (ElementSnapshot element : snapshots) {
       String retAttribute = element.getAttribute(attribute);
       if ("href".equals(attribute)) {
         retAttribute =
@@ -23,7 +31,7 @@ public class Elements {
         }
       }
       if (value.equals(retAttribute)) {
-        foundElement = element;
+        foundElement = element.getElement();
         PageObjectLogging.log("getElementByValue", "Element with attribute: " + attribute
             + " with the value: " + value + " is found from the list", true);
         break;
@@ -38,9 +46,10 @@ public class Elements {
 
   public static WebElement getElementByText(List<WebElement> elements, String value) {
     WebElement foundElement = null;
-    for (WebElement element : elements) {
+    for (ElementSnapshot element : ElementSnapshot.query()
+        .take(DriverProvider.getActiveDriver(), elements)) {
       if (element.getText().equalsIgnoreCase(value)) {
-        foundElement = element;
+        foundElement = element.getElement();
         PageObjectLogging.log("getElementByText", "Element with text: " + value
             + " is found from the list", true);
         break;
@@ -56,9 +65,10 @@ public class Elements {
   public static WebElement getElementByChildText(List<WebElement> elements, By childBySelector,
       String value) {
     WebElement foundElement = null;
-    for (WebElement element : elements) {
-      if (element.findElement(childBySelector).getText().equalsIgnoreCase(value)) {
-        foundElement = element;
+    for (ElementSnapshot element : ElementSnapshot.query().childText(childBySelector)
+        .take(DriverProvider.getActiveDriver(), elements)) {
+      if (value.equalsIgnoreCase(element.getChildText())) {
+        foundElement = element.getElement();
         PageObjectLogging.log("getElementByChildText", "Element's child with text: " + value
             + " is found from the list", true);
         break;
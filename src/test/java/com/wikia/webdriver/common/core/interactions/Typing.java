@@ -2,13 +2,98 @@ package com.wikia.webdriver.common.core.interactions;
 
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
 
 public class Typing {
 
+  private static final int HUMAN_INTERVAL_MS = 182;
+  private static final int CHUNK_SIZE = 50;
+  private static final String APPEND_VALUE_SCRIPT = "var e = arguments[0], text = arguments[1];"
+      + "if (e.isContentEditable) {"
+      + "  e.textContent += text;"
+      + "} else {"
+      + "  var proto = e instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+      + "    : HTMLInputElement.prototype;"
+      // native setter, so frameworks which override value property see the change
+      + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(e, e.value + text);"
+      + "}"
+      + "e.dispatchEvent(new Event('input', {bubbles: true}));"
+      + "e.dispatchEvent(new Event('change', {bubbles: true}));";
+
+  /**
+   * How text is put into an input. All modes append text to the current value.
+   */
+  public enum Mode {
+    /**
+     * One sendKeys call with the whole text
+     */
+    BULK,
+    /**
+     * sendKeys call for every 50 characters, for long texts which drivers don't type reliably in
+     * one call
+     */
+    CHUNKED,
+    /**
+     * Value set by a script which dispatches input and change events, no key events are fired
+     */
+    JS_VALUE,
+    /**
+     * sendKeys call for every character, with pauses of a human typist. Only for tests which cover
+     * behaviour depending on typing speed, like debounced suggestions
+     */
+    HUMAN
+  }
+
   private Typing() {
   }
 
+  /**
+   * Type text with {@link Mode#BULK}, the default fast path
+   */
+  public static void type(WebElement input, String text) {
+    type(input, text, Mode.BULK);
+  }
+
+  public static void type(WebElement input, String text, Mode mode) {
+    switch (mode) {
+      case BULK:
+        input.sendKeys(text);
+        break;
+      case CHUNKED:
+        for (int i = 0; i < text.length(); i += CHUNK_SIZE) {
+          input.sendKeys(text.substring(i, Math.min(text.length(), i + CHUNK_SIZE)));
+        }
+        break;
+      case JS_VALUE:
+        ((JavascriptExecutor) driverOf(input)).executeScript(APPEND_VALUE_SCRIPT, input, text);
+        break;
+      case HUMAN:
+        sendKeysHumanSpeed(input, text);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown typing mode: " + mode);
+    }
+  }
+
+  /**
+   * @return driver which found the element, page object proxies are unwrapped to get to it
+   */
+  private static WebDriver driverOf(WebElement element) {
+    WebElement current = element;
+    while (!(current instanceof WrapsDriver) && current instanceof WrapsElement) {
+      current = ((WrapsElement) current).getWrappedElement();
+    }
+    if (!(current instanceof WrapsDriver)) {
+      throw new WebDriverException("Can't find the driver of element " + element);
+    }
+    return ((WrapsDriver) current).getWrappedDriver();
+  }
+
   /**
    * Send keys at the speed of good typist human. based on research:
    * http://smallbusiness.chron.com/good-typing-speed-per-minute-71789.html
@@ -16,12 +101,11 @@ public class Typing {
    * / 330 = 182ms
    */
   public static void sendKeysHumanSpeed(WebElement input, String keys) {
-    int interval = 182;
     for (char c : keys.toCharArray()) {
       String character = String.valueOf(c);
       input.sendKeys(character);
       try {
-        Thread.sleep(interval);
+        Thread.sleep(HUMAN_INTERVAL_MS);
       } catch (InterruptedException e) {
         PageObjectLogging.log("ERROR WHILE TYPING", e, false);
       }
@@ -0,0 +1,232 @@
+package com.wikia.webdriver.common.core.networktrafficinterceptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.core.har.Har;
+import net.lightbody.bmp.core.har.HarEntry;
+
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersAdapter;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+
+/**
+ * Index of entries captured in the current HAR, by host, by path prefix (host and first path
+ * segment) and by ordinal. Entries are indexed when their response is sent to the browser, and any
+ * entries added since then are indexed before every lookup, so lookups see the same entries as the
+ * HAR. Response of an indexed entry is read live, it may still be incomplete.
+ *
+ * Lookups for the first entry with url containing a string or matching a pattern remember how far
+ * they scanned, so repeating them, like waits do on every poll, checks only new entries. Compiled
+ * patterns are cached. Index is rebuilt when a new HAR is started.
+ */
+class HarIndex extends HttpFiltersSourceAdapter {
+
+  private static final int MAX_REMEMBERED_LOOKUPS = 100;
+
+  private final Supplier<Har> harSource;
+  private Har har;
+  private final List<HarEntry> entries = new ArrayList<>();
+  private final Map<HarEntry, Integer> ordinals = new IdentityHashMap<>();
+  private final Map<String, List<HarEntry>> byHost = new HashMap<>();
+  private final Map<String, List<HarEntry>> byPathPrefix = new HashMap<>();
+  private final Map<String, Lookup> containing = lookupCache();
+  private final Map<String, Lookup> matching = lookupCache();
+  private final Map<String, Pattern> patterns = lookupCache();
+
+  HarIndex(Supplier<Har> harSource) {
+    this.harSource = harSource;
+  }
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    if (HttpMethod.CONNECT.equals(originalRequest.getMethod())) {
+      return null;
+    }
+    return new HttpFiltersAdapter(originalRequest, ctx) {
+      @Override
+      public HttpObject proxyToClientResponse(HttpObject httpObject) {
+        if (httpObject instanceof LastHttpContent) {
+          update();
+        }
+        return httpObject;
+      }
+    };
+  }
+
+  /**
+   * @return first entry with url containing given string
+   */
+  synchronized HarEntry firstContaining(String urlPart) {
+    return first(containing, urlPart, url -> url.contains(urlPart));
+  }
+
+  /**
+   * @return first entry with url matching given regular expression
+   */
+  synchronized HarEntry firstMatching(String regex) {
+    Pattern pattern = patterns.computeIfAbsent(regex, Pattern::compile);
+    return first(matching, regex, url -> pattern.matcher(url).matches());
+  }
+
+  /**
+   * @return all entries with url containing given string, hosts containing it are taken whole
+   */
+  synchronized List<HarEntry> allContaining(String urlPart) {
+    update();
+    List<HarEntry> found = new ArrayList<>();
+    for (Map.Entry<String, List<HarEntry>> host : byHost.entrySet()) {
+      if (host.getKey().contains(urlPart)) {
+        found.addAll(host.getValue());
+      } else {
+        for (HarEntry entry : host.getValue()) {
+          if (entry.getRequest().getUrl().contains(urlPart)) {
+            found.add(entry);
+          }
+        }
+      }
+    }
+    found.sort((a, b) -> Integer.compare(ordinals.get(a), ordinals.get(b)));
+    return found;
+  }
+
+  synchronized List<HarEntry> byHost(String host) {
+    update();
+    return new ArrayList<>(byHost.getOrDefault(host, Collections.emptyList()));
+  }
+
+  /**
+   * @param pathPrefix host and first path segment, like "example.com/api"
+   */
+  synchronized List<HarEntry> byPathPrefix(String pathPrefix) {
+    update();
+    return new ArrayList<>(byPathPrefix.getOrDefault(pathPrefix, Collections.emptyList()));
+  }
+
+  /**
+   * @return number of entries captured so far, a cursor for {@link #since(int)}
+   */
+  synchronized int size() {
+    update();
+    return entries.size();
+  }
+
+  /**
+   * @return entries captured after the given cursor was taken
+   */
+  synchronized List<HarEntry> since(int cursor) {
+    update();
+    return new ArrayList<>(entries.subList(Math.min(cursor, entries.size()), entries.size()));
+  }
+
+  private HarEntry first(Map<String, Lookup> lookups, String key, Predicate<String> urlTest) {
+    update();
+    Lookup lookup = lookups.computeIfAbsent(key, k -> new Lookup());
+    for (; lookup.match == null && lookup.cursor < entries.size(); lookup.cursor++) {
+      HarEntry entry = entries.get(lookup.cursor);
+      if (urlTest.test(entry.getRequest().getUrl())) {
+        lookup.match = entry;
+      }
+    }
+    return lookup.match;
+  }
+
+  /**
+   * Index entries added to the HAR since the last update, start over when the HAR was replaced
+   */
+  private synchronized void update() {
+    Har current = harSource.get();
+    if (current != har) {
+      har = current;
+      entries.clear();
+      ordinals.clear();
+      byHost.clear();
+      byPathPrefix.clear();
+      containing.clear();
+      matching.clear();
+    }
+    if (har == null) {
+      return;
+    }
+    List<HarEntry> captured = har.getLog().getEntries();
+    for (int i = entries.size(); i < captured.size(); i++) {
+      HarEntry entry = captured.get(i);
+      ordinals.put(entry, entries.size());
+      entries.add(entry);
+      String url = entry.getRequest().getUrl();
+      String host = host(url);
+      byHost.computeIfAbsent(host, k -> new ArrayList<>()).add(entry);
+      byPathPrefix.computeIfAbsent(host + firstSegment(url), k -> new ArrayList<>()).add(entry);
+    }
+  }
+
+  private static String host(String url) {
+    int start = authorityStart(url);
+    String authority = url.substring(start, segmentEnd(url, start));
+    authority = authority.substring(authority.lastIndexOf('@') + 1);
+    int port = authority.lastIndexOf(':');
+    return port < 0 ? authority : authority.substring(0, port);
+  }
+
+  private static String firstSegment(String url) {
+    int start = segmentEnd(url, authorityStart(url));
+    if (start == url.length() || url.charAt(start) != '/') {
+      return "/";
+    }
+    return url.substring(start, segmentEnd(url, start + 1));
+  }
+
+  private static int authorityStart(String url) {
+    int scheme = url.indexOf("://");
+    return scheme < 0 ? 0 : scheme + 3;
+  }
+
+  private static int segmentEnd(String url, int start) {
+    int end = start;
+    while (end < url.length() && "/?#".indexOf(url.charAt(end)) < 0) {
+      end++;
+    }
+    return end;
+  }
+
+  private static <V> Map<String, V> lookupCache() {
+    return new LookupCache<>();
+  }
+
+  /**
+   * Map forgetting the least recently used lookup when it holds more than
+   * {@link #MAX_REMEMBERED_LOOKUPS}
+   */
+  private static class LookupCache<V> extends LinkedHashMap<String, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    LookupCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+      return size() > MAX_REMEMBERED_LOOKUPS;
+    }
+  }
+
+  private static class Lookup {
+
+    private int cursor;
+    private HarEntry match;
+  }
+}
@@ -1,6 +1,8 @@
 package com.wikia.webdriver.common.core.networktrafficinterceptor;
 
 import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,7 +19,13 @@ import com.wikia.webdriver.common.logging.PageObjectLogging;
 
 public class NetworkTrafficInterceptor extends BrowserMobProxyServer {
 
-  private Har har;
+  private final RequestTracker requests = new RequestTracker();
+  private final HarIndex harIndex = new HarIndex(this::getHar);
+
+  public NetworkTrafficInterceptor() {
+    addFirstHttpFilterFactory(requests);
+    addLastHttpFilterFactory(harIndex);
+  }
 
   public Proxy startBrowserMobProxyServer() {
     start();
@@ -26,40 +34,74 @@ public class NetworkTrafficInterceptor extends BrowserMobProxyServer {
   }
 
   public void startIntercepting(String networkTrafficDumpName) {
-    this.har = newHar(networkTrafficDumpName);
+    newHar(networkTrafficDumpName);
   }
 
   public void startIntercepting() {
-    this.har = newHar(RandomStringUtils.random(5));
+    newHar(RandomStringUtils.random(5));
+  }
+
+  /**
+   * Requests tracked for {@link #waitForIdle} are forgotten with the previous HAR
+   */
+  @Override
+  public Har newHar(String initialPageRef, String initialPageTitle) {
+    requests.reset();
+    return super.newHar(initialPageRef, initialPageTitle);
   }
 
+  /**
+   * Forget requests tracked for {@link #waitForIdle}, called when a test starts
+   */
+  public void clearRequests() {
+    requests.reset();
+  }
+
+  /**
+   * @return first captured entry with url containing needle, repeated calls check only entries
+   * captured since the previous one
+   */
   public HarEntry getEntryByUrlPart(String needle) {
-    har = getHar();
-    for (HarEntry entry : har.getLog().getEntries()) {
-      if (entry.getRequest().getUrl().contains(needle)) {
-        return entry;
-      }
-    }
-    return null;
+    return harIndex.firstContaining(needle);
   }
 
+  /**
+   * @return first captured entry with url matching pattern, repeated calls check only entries
+   * captured since the previous one
+   */
   public HarEntry getEntryByUrlPattern(String pattern) {
-    har = getHar();
-    for (HarEntry entry : har.getLog().getEntries()) {
-      if (entry.getRequest().getUrl().matches(pattern)) {
-        return entry;
-      }
-    }
-    return null;
+    return harIndex.firstMatching(pattern);
+  }
+
+  public List<HarEntry> getEntriesByHost(String host) {
+    return harIndex.byHost(host);
+  }
+
+  /**
+   * @param pathPrefix host and first path segment, like "example.com/api"
+   */
+  public List<HarEntry> getEntriesByPathPrefix(String pathPrefix) {
+    return harIndex.byPathPrefix(pathPrefix);
+  }
+
+  /**
+   * @return cursor for {@link #getEntriesSince(int)}, valid until intercepting is started again
+   */
+  public int getEntryCount() {
+    return harIndex.size();
+  }
+
+  /**
+   * @return entries captured since the cursor returned by {@link #getEntryCount()}
+   */
+  public List<HarEntry> getEntriesSince(int cursor) {
+    return harIndex.since(cursor);
   }
 
   public void checkAssetsStatuses(String domain) {
-    har = getHar();
-    for (HarEntry entry : har.getLog().getEntries()) {
-      if (entry.getRequest().getUrl().contains(domain)) {
-        PageObjectLogging.log("RESPONSE STATUS: " + entry.getResponse().getStatus(),
-            entry.getRequest().getUrl(), entry.getResponse().getStatus() < 400);
-      }
+    for (HarEntry entry : harIndex.allContaining(domain)) {
+      PageObjectLogging.log("RESPONSE STATUS: " + entry.getResponse().getStatus(),
+          entry.getRequest().getUrl(), entry.getResponse().getStatus() < 400);
     }
   }
 
@@ -68,13 +110,11 @@ public class NetworkTrafficInterceptor extends BrowserMobProxyServer {
    * have the same correlator ID. Any difference is ID is logged as failure.
    */
   public void logDFP(String skinCorrelator) {
-    har = getHar();
     String expectedCorrelator = null;
     Pattern pt = Pattern.compile("(correlator=)\\d*");
 
-    for (HarEntry entry : har.getLog().getEntries()) {
-      if (entry.getRequest().getUrl().contains("pubads.g.doubleclick.net")
-          && entry.getRequest().getQueryString().toString().contains(skinCorrelator)) {
+    for (HarEntry entry : harIndex.allContaining("pubads.g.doubleclick.net")) {
+      if (entry.getRequest().getQueryString().toString().contains(skinCorrelator)) {
         Matcher matcher = pt.matcher(entry.getRequest().getQueryString().toString());
         if (matcher.find()) {
           String correlatorID = matcher.group(0);
@@ -92,6 +132,50 @@ public class NetworkTrafficInterceptor extends BrowserMobProxyServer {
     }
   }
 
+  /**
+   * Block until no request is in flight and none started or finished for quietMillis
+   */
+  public void waitForIdle(long quietMillis, long timeoutMillis) {
+    waitForIdle(url -> true, quietMillis, timeoutMillis);
+  }
+
+  /**
+   * Block until no request with url matching given filter is in flight and none started or
+   * finished for quietMillis. Other requests, like long polling connections, are ignored.
+   */
+  public void waitForIdle(Predicate<String> urlFilter, long quietMillis, long timeoutMillis) {
+    requests.awaitIdle(urlFilter, quietMillis, timeoutMillis);
+  }
+
+  /**
+   * @return cursor for {@link #waitForRequestsSince}, take it before the action starting requests
+   */
+  public long getRequestCursor() {
+    return requests.cursor();
+  }
+
+  /**
+   * Block until a request with url matching given filter is started after the cursor, then until
+   * matching requests settle like in {@link #waitForIdle(Predicate, long, long)}
+   *
+   * @return false when no matching request started in startTimeoutMillis
+   */
+  public boolean waitForRequestsSince(long cursor, Predicate<String> urlFilter,
+      long startTimeoutMillis, long quietMillis, long timeoutMillis) {
+    if (!requests.awaitStartedSince(cursor, urlFilter, startTimeoutMillis)) {
+      return false;
+    }
+    requests.awaitIdle(urlFilter, quietMillis, timeoutMillis);
+    return true;
+  }
+
+  /**
+   * @return urls of requests which didn't get a response yet
+   */
+  public List<String> getRequestsInFlight() {
+    return requests.inFlight(url -> true);
+  }
+
   public void setProxyServer(String ip) {
     setChainedProxy(new InetSocketAddress(ip.split(":")[0], 8888));
   }
@@ -0,0 +1,255 @@
+package com.wikia.webdriver.common.core.networktrafficinterceptor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.filters.HttpsAwareFiltersAdapter;
+
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * Counts requests going through the proxy which didn't get a response yet. A request is finished
+ * when its response is sent to the browser, when the proxy fails to get one, or when the browser
+ * closes the connection, like it does for requests aborted by navigation or window.stop(). Requests
+ * in flight for longer than {@link #MAX_AGE_MILLIS} are forgotten, so a request the proxy never
+ * hears about again can't keep the network busy forever. Waiting threads are woken up on every
+ * started and finished request, so {@link #awaitIdle} doesn't poll.
+ *
+ * Every started request gets the next sequence number, {@link #cursor()} lets a caller wait for
+ * requests started after an action, like a click, and not only for the network to be quiet.
+ *
+ * HTTPS requests are seen only with MITM enabled, otherwise the proxy only tunnels them.
+ */
+class RequestTracker extends HttpFiltersSourceAdapter {
+
+  // started and finished requests remembered for url filtered waits
+  private static final int HISTORY_SIZE = 1000;
+  private static final long MAX_AGE_MILLIS = 60000;
+
+  private final Map<Object, Activity> inFlight = new IdentityHashMap<>();
+  private final Deque<Activity> history = new ArrayDeque<>();
+  private long lastStarted;
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    if (HttpMethod.CONNECT.equals(originalRequest.getMethod())) {
+      return null;
+    }
+    return new TrackingFilters(originalRequest, ctx);
+  }
+
+  /**
+   * Block until no request matching given filter is in flight and none started or finished for
+   * quietMillis
+   *
+   * @throws TimeoutException when the network doesn't settle in timeoutMillis
+   */
+  synchronized void awaitIdle(Predicate<String> urlFilter, long quietMillis, long timeoutMillis) {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    while (true) {
+      long now = System.currentTimeMillis();
+      List<String> busy = inFlight(urlFilter);
+      long quietUntil = busy.isEmpty() ? lastActivity(urlFilter) + quietMillis
+          : oldestStart(urlFilter) + MAX_AGE_MILLIS;
+      if (quietUntil <= now) {
+        return;
+      }
+      if (now >= deadline) {
+        throw new TimeoutException(String.format(
+            "Network not idle for %d ms after %d ms, requests in flight: %s", quietMillis,
+            timeoutMillis, busy));
+      }
+      try {
+        wait(Math.min(quietUntil, deadline) - now);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TimeoutException("Interrupted while waiting for network idle", e);
+      }
+    }
+  }
+
+  /**
+   * @return sequence number of the last started request, for {@link #awaitStartedSince}
+   */
+  synchronized long cursor() {
+    return lastStarted;
+  }
+
+  /**
+   * Block until a request matching given filter is started after the cursor
+   *
+   * @return false when no such request started in timeoutMillis
+   */
+  synchronized boolean awaitStartedSince(long cursor, Predicate<String> urlFilter,
+      long timeoutMillis) {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    while (!startedSince(cursor, urlFilter)) {
+      long now = System.currentTimeMillis();
+      if (now >= deadline) {
+        return false;
+      }
+      try {
+        wait(deadline - now);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TimeoutException("Interrupted while waiting for request", e);
+      }
+    }
+    return true;
+  }
+
+  synchronized List<String> inFlight(Predicate<String> urlFilter) {
+    dropExpired();
+    List<String> urls = new ArrayList<>();
+    for (Activity request : inFlight.values()) {
+      if (urlFilter.test(request.url)) {
+        urls.add(request.url);
+      }
+    }
+    return urls;
+  }
+
+  /**
+   * Forget requests in flight and past activity, called when a test starts or a new HAR is started
+   */
+  synchronized void reset() {
+    inFlight.clear();
+    history.clear();
+    notifyAll();
+  }
+
+  private boolean startedSince(long cursor, Predicate<String> urlFilter) {
+    // finished requests started before the cursor may be recorded after the new ones
+    for (Activity activity : (Iterable<Activity>) history::descendingIterator) {
+      if (activity.sequence > cursor && urlFilter.test(activity.url)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void dropExpired() {
+    long expired = System.currentTimeMillis() - MAX_AGE_MILLIS;
+    inFlight.values().removeIf(request -> request.time < expired);
+  }
+
+  private long oldestStart(Predicate<String> urlFilter) {
+    long oldest = Long.MAX_VALUE;
+    for (Activity request : inFlight.values()) {
+      if (urlFilter.test(request.url)) {
+        oldest = Math.min(oldest, request.time);
+      }
+    }
+    return oldest;
+  }
+
+  private long lastActivity(Predicate<String> urlFilter) {
+    for (Activity activity : (Iterable<Activity>) history::descendingIterator) {
+      if (urlFilter.test(activity.url)) {
+        return activity.time;
+      }
+    }
+    // with full history matching activity may be older than the oldest remembered one
+    return history.size() < HISTORY_SIZE ? 0 : history.peekFirst().time;
+  }
+
+  private synchronized void started(Object request, String url) {
+    Activity activity = new Activity(url, System.currentTimeMillis(), ++lastStarted);
+    inFlight.put(request, activity);
+    record(activity);
+  }
+
+  private synchronized void finished(Object request) {
+    Activity started = inFlight.remove(request);
+    if (started != null) {
+      record(new Activity(started.url, System.currentTimeMillis(), started.sequence));
+    }
+  }
+
+  private void record(Activity activity) {
+    history.add(activity);
+    if (history.size() > HISTORY_SIZE) {
+      history.poll();
+    }
+    notifyAll();
+  }
+
+  private static class Activity {
+
+    private final String url;
+    private final long time;
+    // sequence number of the started request, finished ones keep the number of their start
+    private final long sequence;
+
+    Activity(String url, long time, long sequence) {
+      this.url = url;
+      this.time = time;
+      this.sequence = sequence;
+    }
+  }
+
+  private class TrackingFilters extends HttpsAwareFiltersAdapter {
+
+    // browser aborting a request closes its connection, no other filter method is called then
+    private final ChannelFutureListener clientDisconnected = future -> finish();
+
+    TrackingFilters(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+      super(originalRequest, ctx);
+    }
+
+    @Override
+    public HttpResponse clientToProxyRequest(HttpObject httpObject) {
+      if (httpObject instanceof HttpRequest) {
+        started(this, getFullUrl((HttpRequest) httpObject));
+        if (ctx != null) {
+          ctx.channel().closeFuture().addListener(clientDisconnected);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public HttpObject proxyToClientResponse(HttpObject httpObject) {
+      if (httpObject instanceof LastHttpContent) {
+        finish();
+      }
+      return httpObject;
+    }
+
+    @Override
+    public void serverToProxyResponseTimedOut() {
+      finish();
+    }
+
+    @Override
+    public void proxyToServerConnectionFailed() {
+      finish();
+    }
+
+    @Override
+    public void proxyToServerResolutionFailed(String hostAndPort) {
+      finish();
+    }
+
+    private void finish() {
+      finished(this);
+      if (ctx != null) {
+        ctx.channel().closeFuture().removeListener(clientDisconnected);
+      }
+    }
+  }
+}
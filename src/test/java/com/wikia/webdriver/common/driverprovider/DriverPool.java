@@ -0,0 +1,170 @@
+package com.wikia.webdriver.common.driverprovider;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriverException;
+
+import com.wikia.webdriver.common.core.ExecutionContext;
+import com.wikia.webdriver.common.core.WikiaWebDriver;
+import com.wikia.webdriver.common.core.configuration.Configuration;
+import com.wikia.webdriver.common.core.drivers.Browser;
+import com.wikia.webdriver.common.core.drivers.CapabilityKey;
+import com.wikia.webdriver.common.logging.PageObjectLogging;
+
+/**
+ * Browsers started in the background while tests are running. For every capability key requested
+ * by a test, browserPoolSize browsers are being started, so the next test (or a secondary window)
+ * gets a ready browser instead of waiting for its startup. Browsers not used for
+ * browserPoolIdleTimeout seconds are closed, unless it is 0 or less.
+ */
+class DriverPool {
+
+  private static final Map<CapabilityKey, Deque<PooledDriver>> pool = new ConcurrentHashMap<>();
+  private static ExecutorService starter;
+  private static ScheduledExecutorService evictor;
+  private static boolean closed = false;
+
+  private DriverPool() {}
+
+  /**
+   * Take a browser matching configuration of the current test and start a replacement for it.
+   *
+   * @return null if pool is disabled or has no browser for current configuration
+   */
+  static WikiaWebDriver acquire() {
+    int poolSize = Configuration.getBrowserPoolSize();
+    if (poolSize <= 0) {
+      return null;
+    }
+
+    CapabilityKey key = CapabilityKey.current();
+    PooledDriver pooled = pool.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>()).poll();
+    fill(key, poolSize);
+
+    if (pooled == null) {
+      return null;
+    }
+    try {
+      return pooled.browser.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException e) {
+      PageObjectLogging.logInfo("Browser from pool could not be started", e.getCause());
+      return null;
+    }
+  }
+
+  private static synchronized void fill(CapabilityKey key, int poolSize) {
+    if (closed) {
+      return;
+    }
+    if (starter == null) {
+      init(poolSize);
+    }
+
+    Deque<PooledDriver> drivers = pool.get(key);
+    ExecutionContext context = ExecutionContext.current().copy();
+    while (drivers.size() < poolSize) {
+      drivers.add(new PooledDriver(CompletableFuture.supplyAsync(() -> start(context), starter)));
+    }
+  }
+
+  private static void init(int poolSize) {
+    starter = Executors.newFixedThreadPool(poolSize, runnable -> {
+      Thread thread = new Thread(runnable, "browser-pool");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    long idleTimeout = Configuration.getBrowserPoolIdleTimeout();
+    if (idleTimeout <= 0) {
+      return;
+    }
+    evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "browser-pool-evictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    evictor.scheduleWithFixedDelay(() -> evictIdle(TimeUnit.SECONDS.toMillis(idleTimeout)),
+        idleTimeout, idleTimeout, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Browser is started with a copy of the requesting test's context, so it is configured the same
+   * way as a browser started by the test itself
+   */
+  private static WikiaWebDriver start(ExecutionContext context) {
+    ExecutionContext.attach(context);
+    try {
+      return Browser.lookup(Configuration.getBrowser()).getInstance();
+    } finally {
+      ExecutionContext.detach();
+    }
+  }
+
+  private static void evictIdle(long idleTimeoutMillis) {
+    long idleSince = System.currentTimeMillis() - idleTimeoutMillis;
+    for (Deque<PooledDriver> drivers : pool.values()) {
+      for (PooledDriver pooled : drivers) {
+        if (pooled.isIdleSince(idleSince) && drivers.remove(pooled)) {
+          pooled.quit();
+        }
+      }
+    }
+  }
+
+  /**
+   * Close all pooled browsers, browsers which are still starting are closed once they are ready
+   */
+  static synchronized void shutdown() {
+    closed = true;
+    if (evictor != null) {
+      evictor.shutdownNow();
+    }
+    if (starter != null) {
+      starter.shutdown();
+    }
+    for (Deque<PooledDriver> drivers : pool.values()) {
+      for (PooledDriver pooled = drivers.poll(); pooled != null; pooled = drivers.poll()) {
+        pooled.quit();
+      }
+    }
+  }
+
+  private static class PooledDriver {
+
+    private final CompletableFuture<WikiaWebDriver> browser;
+    private volatile long readySince = Long.MAX_VALUE;
+
+    PooledDriver(CompletableFuture<WikiaWebDriver> browser) {
+      this.browser = browser;
+      browser.thenRun(() -> readySince = System.currentTimeMillis());
+    }
+
+    boolean isIdleSince(long timestamp) {
+      return readySince <= timestamp;
+    }
+
+    void quit() {
+      browser.thenAccept(webDriver -> {
+        try {
+          if (webDriver != null) {
+            webDriver.quit();
+          }
+        } catch (WebDriverException e) {
+          PageObjectLogging.logInfo("Closing pooled browser", e);
+        }
+      });
+    }
+  }
+}
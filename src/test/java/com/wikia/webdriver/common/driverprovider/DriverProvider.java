@@ -1,44 +1,173 @@
 package com.wikia.webdriver.common.driverprovider;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
 import com.wikia.webdriver.common.core.WikiaWebDriver;
 import com.wikia.webdriver.common.core.configuration.Configuration;
 import com.wikia.webdriver.common.core.drivers.Browser;
+import com.wikia.webdriver.common.core.drivers.CapabilityKey;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 
+/**
+ * Keeps browser instances used by tests. Every TestNG worker thread has its own set of drivers
+ * (primary window under index 0, secondary windows under following indexes), so tests run with
+ * parallel="methods" or parallel="classes" never share a browser.
+ *
+ * With reuseBrowser option enabled browsers are not closed after a passed test, but reset and
+ * handed over to the next test on the same thread if it requests the same capabilities. Browsers
+ * with network traffic interceptor are always closed, their proxy keeps traffic and connections
+ * of the test.
+ */
 public class DriverProvider {
 
-  private static final List<WikiaWebDriver> drivers = new ArrayList<>();
-  private static int ACTIVE_BROWSER_INDEX = 0;
+  private static final int MAX_RESET_ORIGINS = 10;
+  private static final String CLEAR_STORAGE_SCRIPT =
+      "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+  private static final ThreadLocal<List<WikiaWebDriver>> drivers =
+      ThreadLocal.withInitial(ArrayList::new);
+  private static final ThreadLocal<Integer> activeBrowserIndex = ThreadLocal.withInitial(() -> 0);
+  private static final ThreadLocal<CapabilityKey> driversKey = new ThreadLocal<>();
+  private static final ThreadLocal<Integer> driversTestCount = ThreadLocal.withInitial(() -> 0);
+  private static final Set<WikiaWebDriver> runningDrivers = ConcurrentHashMap.newKeySet();
 
   private DriverProvider() {}
 
   private static void newInstance() {
-    drivers.add(Browser.lookup(Configuration.getBrowser()).getInstance());
+    WikiaWebDriver webDriver = DriverPool.acquire();
+    if (webDriver == null) {
+      webDriver = Browser.lookup(Configuration.getBrowser()).getInstance();
+    }
+    if (webDriver != null) {
+      runningDrivers.add(webDriver);
+    }
+    drivers.get().add(webDriver);
   }
 
   private static WikiaWebDriver getBrowserDriver(int index) {
-    for (; drivers.size() <= index;) {
+    for (; drivers.get().size() <= index;) {
       newInstance();
     }
 
-    return drivers.get(index);
+    return drivers.get().get(index);
   }
 
   public static WikiaWebDriver getActiveDriver() {
-    return getBrowserDriver(ACTIVE_BROWSER_INDEX);
+    return getBrowserDriver(activeBrowserIndex.get());
+  }
+
+  /**
+   * @return active browser of the current thread, null when it wasn't started
+   */
+  public static WikiaWebDriver findActiveDriver() {
+    List<WikiaWebDriver> started = drivers.get();
+    int index = activeBrowserIndex.get();
+    return index < started.size() ? started.get(index) : null;
   }
 
   public static WikiaWebDriver switchActiveWindow(int index) {
-    ACTIVE_BROWSER_INDEX = index;
+    activeBrowserIndex.set(index);
     return getActiveDriver();
   }
 
+  /**
+   * Get primary browser for a test which is about to start. Browsers left open by the previous test
+   * are used only if they were started with the same capabilities, otherwise they are closed.
+   */
+  public static WikiaWebDriver getDriverForTest() {
+    CapabilityKey key = CapabilityKey.current();
+
+    if (!key.equals(driversKey.get())) {
+      close();
+      driversKey.set(key);
+    }
+
+    return switchActiveWindow(0);
+  }
+
+  /**
+   * Release browsers after a test. Browsers are closed unless reuseBrowser option is enabled, the
+   * test passed, they were not used by reuseBrowserMaxTests tests yet and their state was reset.
+   */
+  public static void release(boolean testPassed) {
+    int testCount = driversTestCount.get() + 1;
+
+    if (Configuration.reuseBrowser() && testPassed
+        && testCount < Configuration.getReuseBrowserMaxTests() && resetDrivers()) {
+      driversTestCount.set(testCount);
+      activeBrowserIndex.set(0);
+    } else {
+      close();
+    }
+  }
+
+  private static boolean resetDrivers() {
+    for (WikiaWebDriver webDriver : drivers.get()) {
+      if (webDriver.isAndroid() || webDriver.getProxy() != null || !resetState(webDriver)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Remove cookies and storage of the main wikia domain and of every origin the test navigated to
+   * or left its windows on, close windows opened by the test and leave the browser on a blank page.
+   * Browsers which visited more than {@link #MAX_RESET_ORIGINS} origins are restarted instead.
+   * Wrapped driver is used, so the reset is not logged as a test step.
+   */
+  private static boolean resetState(WikiaWebDriver webDriver) {
+    WebDriver browser = webDriver.getWrappedDriver();
+    try {
+      String mainWindow = browser.getWindowHandles().iterator().next();
+      for (String handle : browser.getWindowHandles()) {
+        webDriver.addVisitedOrigin(browser.switchTo().window(handle).getCurrentUrl());
+        if (!handle.equals(mainWindow)) {
+          browser.close();
+        }
+      }
+      browser.switchTo().window(mainWindow);
+
+      Set<String> origins = new LinkedHashSet<>();
+      origins.add("http://www." + Configuration.getWikiaDomain());
+      origins.addAll(webDriver.getVisitedOrigins());
+      if (origins.size() > MAX_RESET_ORIGINS) {
+        PageObjectLogging.logInfo("Test visited " + origins.size()
+            + " origins, browser will be restarted");
+        return false;
+      }
+      for (String origin : origins) {
+        browser.get(origin + "/robots.txt");
+        clearState(browser);
+      }
+      browser.get("about:blank");
+      webDriver.clearVisitedOrigins();
+      return true;
+    } catch (WebDriverException e) {
+      PageObjectLogging.logInfo("Browser state reset failed, browser will be restarted", e);
+      return false;
+    }
+  }
+
+  private static void clearState(WebDriver browser) {
+    browser.manage().deleteAllCookies();
+    ((JavascriptExecutor) browser).executeScript(CLEAR_STORAGE_SCRIPT);
+  }
+
+  /**
+   * Quit all browsers started by the current thread
+   */
   public static void close() {
-    for (WikiaWebDriver webDriver : drivers) {
+    for (WikiaWebDriver webDriver : drivers.get()) {
       if (webDriver != null) {
+        runningDrivers.remove(webDriver);
         try {
           String path = System.getenv("PATH");
           System.out.println(path);
@@ -49,7 +178,26 @@ public class DriverProvider {
         }
       }
     }
-    drivers.clear();
-    ACTIVE_BROWSER_INDEX = 0;
+    drivers.remove();
+    activeBrowserIndex.remove();
+    driversKey.remove();
+    driversTestCount.remove();
+  }
+
+  /**
+   * Quit browsers kept open by all threads and browsers waiting in the pool, used when the suite is
+   * finished
+   */
+  public static void closeAll() {
+    DriverPool.shutdown();
+    close();
+    for (WikiaWebDriver webDriver : runningDrivers) {
+      try {
+        webDriver.quit();
+      } catch (WebDriverException e) {
+        PageObjectLogging.logInfo("Closing Browser", e);
+      }
+    }
+    runningDrivers.clear();
   }
 }
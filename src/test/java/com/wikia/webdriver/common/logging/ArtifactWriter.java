@@ -0,0 +1,229 @@
+package com.wikia.webdriver.common.logging;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+
+import com.wikia.webdriver.common.core.configuration.Configuration;
+import com.wikia.webdriver.common.core.imageutilities.ScreenshotProfile;
+
+/**
+ * Writes screenshots and page sources captured by log calls. The test thread only takes raw bytes
+ * from the browser, hashing screenshots, writing files and preparing page source for the report is
+ * done by a small pool of background threads. When the pool can't keep up, the test thread does it
+ * itself.
+ *
+ * Screenshots are named after a hash of their pixels, so identical screenshots taken by many log
+ * rows are written only once. Every file is written to a temporary file first and renamed, so the
+ * report never links a partly written screenshot.
+ *
+ * With screenshotsOnFailureOnly option enabled files are kept in memory, only the last
+ * screenshotsBufferSize of them, and are hashed and written only when the test fails. Artifacts
+ * which are dropped get no file name, their log rows are rendered without links.
+ */
+class ArtifactWriter {
+
+  private static final int THREADS = 2;
+  private static final int QUEUE_CAPACITY = 20;
+
+  private final ExecutorService executor = new ThreadPoolExecutor(THREADS, THREADS, 0L,
+      TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "artifact-writer");
+        thread.setDaemon(true);
+        return thread;
+      }, new ThreadPoolExecutor.CallerRunsPolicy());
+  private final ThreadLocal<List<Future<?>>> pending = ThreadLocal.withInitial(ArrayList::new);
+  private final ThreadLocal<Deque<Artifact>> recent = ThreadLocal.withInitial(ArrayDeque::new);
+  private final ConcurrentHashMap<String, CompletableFuture<Void>> writtenScreenshots =
+      new ConcurrentHashMap<>();
+  private final String screenshotDir;
+
+  ArtifactWriter(String screenshotDir) {
+    this.screenshotDir = screenshotDir;
+  }
+
+  /**
+   * Save screenshot in the screenshot directory, in format of given profile, and page source as
+   * path.html
+   *
+   * @return name of the screenshot file, known once the screenshot is written, null when the
+   * screenshot was dropped or couldn't be written
+   */
+  CompletableFuture<String> save(String path, byte[] screenshot, String pageSource,
+      ScreenshotProfile profile) {
+    Artifact artifact = new Artifact(path, screenshot, pageSource, profile);
+    if (Configuration.screenshotsOnFailureOnly()) {
+      Deque<Artifact> buffer = recent.get();
+      buffer.add(artifact);
+      while (buffer.size() > Configuration.getScreenshotsBufferSize()) {
+        buffer.poll().screenshotFile.complete(null);
+      }
+    } else {
+      submit(artifact);
+    }
+    return artifact.screenshotFile;
+  }
+
+  /**
+   * Write files kept in memory by the current thread, called when a test fails
+   */
+  void flushRecent() {
+    Deque<Artifact> buffer = recent.get();
+    for (Artifact artifact = buffer.poll(); artifact != null; artifact = buffer.poll()) {
+      submit(artifact);
+    }
+  }
+
+  /**
+   * Drop files kept in memory by the current thread, called when a test ends
+   */
+  void discardRecent() {
+    Deque<Artifact> buffer = recent.get();
+    for (Artifact artifact = buffer.poll(); artifact != null; artifact = buffer.poll()) {
+      artifact.screenshotFile.complete(null);
+    }
+    recent.remove();
+  }
+
+  private void submit(Artifact artifact) {
+    pending.get().add(CompletableFuture.runAsync(() -> {
+      try {
+        artifact.screenshotFile.complete(write(artifact));
+      } catch (IOException | RuntimeException e) {
+        System.out.println("Can't write log artifact: " + e.getMessage());
+        artifact.screenshotFile.complete(null);
+      }
+    }, executor));
+  }
+
+  /**
+   * Block until all files saved by the current thread are written
+   */
+  void awaitPending() {
+    for (Future<?> future : pending.get()) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException e) {
+        System.out.println("Can't write log artifact: " + e.getCause().getMessage());
+      }
+    }
+    pending.remove();
+  }
+
+  /**
+   * @return name of the written screenshot file
+   */
+  private String write(Artifact artifact) throws IOException {
+    String screenshotFile = screenshotFileName(artifact.screenshot, artifact.profile);
+    writeScreenshot(screenshotFile, artifact);
+    writeAtomically(new File(artifact.path + ".html"), (prepareSource(artifact.pageSource)
+        + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+    return screenshotFile;
+  }
+
+  /**
+   * Only the first artifact with given screenshot writes it, others wait until it is written. File
+   * is written again when it was removed with the log directory.
+   */
+  private void writeScreenshot(String screenshotFile, Artifact artifact) throws IOException {
+    File screenshot = new File(screenshotDir, screenshotFile);
+    CompletableFuture<Void> written = new CompletableFuture<>();
+    CompletableFuture<Void> existing = writtenScreenshots.putIfAbsent(screenshotFile, written);
+    if (existing != null) {
+      try {
+        existing.join();
+      } catch (CompletionException e) {
+        throw new IOException("Screenshot " + screenshotFile + " wasn't written", e.getCause());
+      }
+      if (screenshot.exists() || !writtenScreenshots.replace(screenshotFile, existing, written)) {
+        return;
+      }
+    }
+    try {
+      writeAtomically(screenshot, artifact.profile.encode(artifact.screenshot));
+      written.complete(null);
+    } catch (IOException | RuntimeException e) {
+      writtenScreenshots.remove(screenshotFile, written);
+      written.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private static void writeAtomically(File file, byte[] content) throws IOException {
+    File temp = new File(file.getPath() + "." + Thread.currentThread().getId() + ".tmp");
+    FileUtils.writeByteArrayToFile(temp, content);
+    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Hash is computed from decoded pixels, PNG bytes of the same image may differ between
+   * screenshots. Profiles use different extensions, so each of them gets its own file.
+   */
+  private static String screenshotFileName(byte[] screenshot, ScreenshotProfile profile) {
+    String hash;
+    try {
+      BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshot));
+      int width = image.getWidth();
+      int height = image.getHeight();
+      int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+      ByteBuffer raster = ByteBuffer.allocate(8 + pixels.length * 4);
+      raster.putInt(width).putInt(height).asIntBuffer().put(pixels);
+      hash = DigestUtils.sha1Hex(raster.array());
+    } catch (IOException | RuntimeException e) {
+      hash = DigestUtils.sha1Hex(screenshot);
+    }
+    return hash + "." + profile.getExtension();
+  }
+
+  /**
+   * Scripts are wrapped in hidden textareas, so the saved page doesn't run them when it is opened
+   * from the report
+   */
+  private static String prepareSource(String pageSource) {
+    return pageSource.replaceAll("<script", "<textarea style=\"display: none\"><script")
+        .replaceAll("</script", "</script></textarea");
+  }
+
+  private static class Artifact {
+
+    private final String path;
+    private final byte[] screenshot;
+    private final String pageSource;
+    private final ScreenshotProfile profile;
+    private final CompletableFuture<String> screenshotFile = new CompletableFuture<>();
+
+    Artifact(String path, byte[] screenshot, String pageSource, ScreenshotProfile profile) {
+      this.path = path;
+      this.screenshot = screenshot;
+      this.pageSource = pageSource;
+      this.profile = profile;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.wikia.webdriver.common.logging;
+
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Everything done before a click, by one script call: scrolling the element into the viewport when
+ * it isn't there, below the global navigation and banner notifications, installing the JS error
+ * collector of {@link JSErrorBuffer} and taking errors collected so far. Scrolling errors don't
+ * stop errors from being taken, they are returned by {@link #getScrollError()}.
+ */
+class ClickCheck {
+
+  private static final int SCROLL_OFFSET = 120;
+  private static final String SCRIPT = JSErrorBuffer.DRAIN_FUNCTION
+      + "var result = {scrollError: null, errors: null};"
+      + "try {"
+      + "  var rect = arguments[0].getBoundingClientRect();"
+      + "  if (rect.top <= 60 || rect.bottom + 60 >= window.innerHeight) {"
+      + "    var offset = arguments[1];"
+      + "    var banner = document.querySelector('.banner-notifications-placeholder');"
+      + "    if (banner) { offset += banner.offsetHeight; }"
+      + "    window.scroll(0, parseInt(rect.top + window.pageYOffset - offset));"
+      + "  }"
+      + "} catch (e) { result.scrollError = String(e); }"
+      + "if (arguments[2]) {"
+      + JSErrorBuffer.COLLECT_SCRIPT
+      + "  result.errors = drainErrors();"
+      + "}"
+      + "return result;";
+
+  private final String scrollError;
+  private final Map<String, Object> errors;
+
+  private ClickCheck(String scrollError, Map<String, Object> errors) {
+    this.scrollError = scrollError;
+    this.errors = errors;
+  }
+
+  /**
+   * @param collectErrors install JS error collector and take errors collected so far
+   */
+  static ClickCheck run(WebDriver driver, WebElement element, boolean collectErrors) {
+    Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+        .executeScript(SCRIPT, element, SCROLL_OFFSET, collectErrors);
+    return new ClickCheck((String) result.get("scrollError"),
+        (Map<String, Object>) result.get("errors"));
+  }
+
+  /**
+   * @return message of the error raised while scrolling, null when there was none
+   */
+  String getScrollError() {
+    return scrollError;
+  }
+
+  /**
+   * @return JS errors as returned by drainErrors(), null when they weren't collected
+   */
+  Map<String, Object> getErrors() {
+    return errors;
+  }
+}
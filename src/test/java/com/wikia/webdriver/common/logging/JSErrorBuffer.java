@@ -0,0 +1,134 @@
+package com.wikia.webdriver.common.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * JS errors are buffered in the page by a collector injected after navigation and are taken from
+ * the page only at navigation, on failure and when the test ends, so logging a step doesn't send
+ * any command to the browser. Every error is assigned to the last step logged before it was raised,
+ * browser time is moved to the test clock using the browser time returned with the errors.
+ *
+ * Errors raised while a page loads, before the collector is injected, are caught only by the
+ * JSErrorCollector browser extension. They are taken together with buffered errors, at navigation,
+ * before a click by the scroll script of {@link ClickCheck} and at failure, and since the time they
+ * were raised at isn't known they are labeled with the point they were taken at instead of a step.
+ */
+class JSErrorBuffer {
+
+  private static final int MAX_STEPS = 500;
+
+  /**
+   * Install the collector in the current page, unless it is installed already
+   */
+  static final String COLLECT_SCRIPT = "if (!window.__testErrors) {"
+      + "  window.__testErrors = [];"
+      + "  var pushError = function(message) {"
+      + "    if (window.__testErrors.length < 500) {"
+      + "      window.__testErrors.push({time: Date.now(), message: message}); } };"
+      + "  window.addEventListener('error', function(e) {"
+      + "    pushError(e.message + ' (' + e.filename + ':' + e.lineno + ')'); });"
+      + "  window.addEventListener('unhandledrejection', function(e) {"
+      + "    pushError('Unhandled rejection: ' + e.reason); });"
+      + "}";
+
+  /**
+   * Declares drainErrors() function, which empties the buffer and returns its errors with the
+   * browser time
+   */
+  static final String DRAIN_FUNCTION = "function drainErrors() {"
+      + "  var drained = {now: Date.now(),"
+      + "    errors: window.__testErrors ? window.__testErrors.splice(0) : []};"
+      + "  if (window.JSErrorCollector_errors) {"
+      + "    window.JSErrorCollector_errors.pump().forEach(function(e) {"
+      + "      drained.errors.push({extension: true, message: e.errorMessage"
+      + "        ? e.errorMessage + ' (' + e.sourceName + ':' + e.lineNumber + ')' : String(e)});"
+      + "    });"
+      + "  }"
+      + "  return drained;"
+      + "}";
+
+  private final ThreadLocal<Deque<Step>> steps = ThreadLocal.withInitial(ArrayDeque::new);
+
+  void stepLogged(String command) {
+    Deque<Step> logged = steps.get();
+    logged.add(new Step(System.currentTimeMillis(), command));
+    if (logged.size() > MAX_STEPS) {
+      logged.poll();
+    }
+  }
+
+  void reset() {
+    steps.remove();
+  }
+
+  /**
+   * Take errors buffered in the current page
+   *
+   * @return error messages with steps they are assigned to, empty when browser can't run scripts
+   */
+  List<String> drain(WebDriver driver) {
+    if (driver == null) {
+      return Collections.emptyList();
+    }
+    try {
+      return attribute((Map<String, Object>) ((JavascriptExecutor) driver)
+          .executeScript(DRAIN_FUNCTION + "return drainErrors();"), "failure or test end");
+    } catch (WebDriverException | UnsupportedOperationException e) {
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * @param drained value returned by drainErrors()
+   * @param drainedAt point errors were taken at, extension errors are labeled with it
+   */
+  List<String> attribute(Map<String, Object> drained, String drainedAt) {
+    if (drained == null) {
+      return Collections.emptyList();
+    }
+    long offset = System.currentTimeMillis() - ((Number) drained.get("now")).longValue();
+    List<String> messages = new ArrayList<>();
+    for (Object error : (List<Object>) drained.get("errors")) {
+      Map<String, Object> details = (Map<String, Object>) error;
+      if (Boolean.TRUE.equals(details.get("extension"))) {
+        messages.add(String.format("%s (drained at: %s)", details.get("message"), drainedAt));
+        continue;
+      }
+      long time = ((Number) details.get("time")).longValue() + offset;
+      messages.add(String.format("%s (after step: %s)", details.get("message"), stepBefore(time)));
+    }
+    return messages;
+  }
+
+  private String stepBefore(long time) {
+    Iterator<Step> iterator = steps.get().descendingIterator();
+    while (iterator.hasNext()) {
+      Step step = iterator.next();
+      if (step.time <= time) {
+        return step.command;
+      }
+    }
+    return "test start";
+  }
+
+  private static class Step {
+
+    private final long time;
+    private final String command;
+
+    Step(long time, String command) {
+      this.time = time;
+      this.command = command;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.wikia.webdriver.common.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends rows to the log file from a single background thread. Test threads only put rows on a
+ * bounded queue (and block when it is full), the writer keeps the file open with a large buffer and
+ * writes it to disk when {@link #flush()} is called, when the buffer is full and on JVM shutdown.
+ *
+ * Rows which are not rendered yet, like rows waiting for a screenshot kept in memory until the test
+ * outcome is known, are held by the thread which logged them, together with its later rows, and
+ * are queued only once they are rendered, or on {@link #flush()} from that thread. The writer never
+ * waits for a row of a running test, so rows of other threads are not held up by it.
+ */
+class LogWriter {
+
+  private static final int QUEUE_CAPACITY = 10000;
+  private static final int BUFFER_SIZE = 256 * 1024;
+  private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+  private final File file;
+  private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final ThreadLocal<Deque<Object>> held = ThreadLocal.withInitial(ArrayDeque::new);
+  private Writer writer;
+
+  LogWriter(String path) {
+    this.file = new File(path);
+
+    Thread thread = new Thread(this::run, "log-writer");
+    thread.setDaemon(true);
+    thread.start();
+
+    Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "log-writer-shutdown"));
+  }
+
+  /**
+   * Queue a row to be appended to the log file, blocks if writer can't keep up
+   */
+  void append(String row) {
+    if (held.get().isEmpty()) {
+      put(row);
+    } else {
+      held.get().add(row);
+      releaseRendered();
+    }
+  }
+
+  /**
+   * Queue a row which is not rendered yet, rows appended later by the same thread are written after
+   * it
+   */
+  void append(CompletableFuture<String> row) {
+    held.get().add(row);
+    releaseRendered();
+  }
+
+  /**
+   * Block until all rows appended so far by the current thread, and all rows queued by other
+   * threads, are written to disk. Rows of the current thread which are not rendered yet are waited
+   * for by the current thread.
+   */
+  void flush() {
+    Deque<Object> rows = held.get();
+    for (Object row = rows.poll(); row != null; row = rows.poll()) {
+      if (row instanceof CompletableFuture) {
+        try {
+          ((CompletableFuture<?>) row).join();
+        } catch (RuntimeException e) {
+          // rendering error is reported by the writer
+        }
+      }
+      put(row);
+    }
+    held.remove();
+    CountDownLatch done = new CountDownLatch(1);
+    put(done);
+    try {
+      done.await(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Queue rows held by the current thread up to the first one which is not rendered yet
+   */
+  private void releaseRendered() {
+    Deque<Object> rows = held.get();
+    while (!rows.isEmpty() && isRendered(rows.peek())) {
+      put(rows.poll());
+    }
+  }
+
+  private static boolean isRendered(Object row) {
+    return !(row instanceof CompletableFuture) || ((CompletableFuture<?>) row).isDone();
+  }
+
+  private void put(Object item) {
+    try {
+      queue.put(item);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      Object item;
+      try {
+        item = queue.take();
+      } catch (InterruptedException e) {
+        return;
+      }
+      try {
+        ensureOpen();
+      } catch (IOException e) {
+        reportError(e);
+      }
+      for (; item != null; item = queue.poll()) {
+        try {
+          handle(item);
+        } catch (IOException e) {
+          reportError(e);
+        }
+      }
+    }
+  }
+
+  private void reportError(IOException e) {
+    System.out.println("Can't write to log file " + file.getPath() + ": " + e.getMessage());
+    writer = null;
+  }
+
+  private void handle(Object item) throws IOException {
+    if (item instanceof CountDownLatch) {
+      if (writer != null) {
+        writer.flush();
+      }
+      ((CountDownLatch) item).countDown();
+    } else if (item instanceof CompletableFuture) {
+      write(render((CompletableFuture<?>) item));
+    } else {
+      write((String) item);
+    }
+  }
+
+  private void write(String row) throws IOException {
+    if (writer != null && row != null) {
+      writer.write(row);
+      writer.write(System.lineSeparator());
+    }
+  }
+
+  private String render(CompletableFuture<?> row) {
+    try {
+      return (String) row.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      System.out.println("Can't render log row: " + e.getCause().getMessage());
+    }
+    return null;
+  }
+
+  /**
+   * Log directory is recreated at the beginning of the suite, so the file is reopened whenever it
+   * disappears from the disk
+   */
+  private void ensureOpen() throws IOException {
+    if (writer != null && file.exists()) {
+      return;
+    }
+    if (writer != null) {
+      writer.close();
+    }
+    file.getAbsoluteFile().getParentFile().mkdirs();
+    writer = new BufferedWriter(new FileWriter(file, true), BUFFER_SIZE);
+  }
+}
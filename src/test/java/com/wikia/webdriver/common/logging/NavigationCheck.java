@@ -0,0 +1,115 @@
+package com.wikia.webdriver.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Everything checked after navigation, done by one script call: url of the loaded page, closing of
+ * wikia notifications, cookies which have to be present on wikia pages, installing the JS error
+ * collector of {@link JSErrorBuffer} and taking errors collected so far. The script only finds
+ * cookies the browser doesn't have yet, they are added through WebDriver like any other cookie, so
+ * their values aren't mangled by document.cookie syntax. When an alert is open the script can't run
+ * and {@link #isAlertPresent()} is true.
+ */
+class NavigationCheck {
+
+  private static final String SCRIPT = JSErrorBuffer.DRAIN_FUNCTION
+      + "var result = {url: location.href, wikia: false, errors: null, missing: []};"
+      + "if (result.url.indexOf(arguments[0]) > -1) {"
+      + "  result.wikia = true;"
+      + "  var close = document.querySelector('.sprite.close-notification');"
+      + "  if (close) { try { close.click(); } catch (e) {} }"
+      + "  var present = document.cookie.split('; ');"
+      + "  arguments[1].forEach(function(name) {"
+      + "    if (!present.some(function(p) { return p.indexOf(name + '=') === 0; })) {"
+      + "      result.missing.push(name);"
+      + "    }"
+      + "  });"
+      + "}"
+      + "if (arguments[2]) {"
+      + JSErrorBuffer.COLLECT_SCRIPT
+      + "  result.errors = drainErrors();"
+      + "}"
+      + "return result;";
+
+  private final boolean alertPresent;
+  private final String url;
+  private final boolean wikia;
+  private final Map<String, Object> errors;
+
+  private NavigationCheck(boolean alertPresent, String url, boolean wikia,
+      Map<String, Object> errors) {
+    this.alertPresent = alertPresent;
+    this.url = url;
+    this.wikia = wikia;
+    this.errors = errors;
+  }
+
+  /**
+   * @param wikiaDomain cookies are set and notifications closed only on pages of this domain
+   * @param cookies cookies added when the browser doesn't have them
+   * @param collectErrors install JS error collector and take errors collected so far
+   */
+  static NavigationCheck run(WebDriver driver, String wikiaDomain,
+      List<Cookie> cookies, boolean collectErrors) {
+    List<String> names = new ArrayList<>();
+    for (Cookie cookie : cookies) {
+      names.add(cookie.getName());
+    }
+    try {
+      Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+          .executeScript(SCRIPT, wikiaDomain, names, collectErrors);
+      List<String> missing = (List<String>) result.get("missing");
+      for (Cookie cookie : cookies) {
+        if (missing.contains(cookie.getName())) {
+          driver.manage().addCookie(cookie);
+        }
+      }
+      return new NavigationCheck(false, (String) result.get("url"),
+          Boolean.TRUE.equals(result.get("wikia")), (Map<String, Object>) result.get("errors"));
+    } catch (UnhandledAlertException e) {
+      return new NavigationCheck(true, null, false, null);
+    }
+  }
+
+  /**
+   * Stop loading of the current page before navigating away from it
+   *
+   * @return JS errors collected on the current page as returned by drainErrors(), null when
+   * collectErrors isn't set
+   */
+  static Map<String, Object> stopLoading(WebDriver driver, boolean collectErrors) {
+    try {
+      return (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+          JSErrorBuffer.DRAIN_FUNCTION
+          + "window.stop(); return arguments[0] ? drainErrors() : null;", collectErrors);
+    } catch (UnsupportedOperationException | UnhandledAlertException e) {
+      return null;
+    }
+  }
+
+  boolean isAlertPresent() {
+    return alertPresent;
+  }
+
+  String getUrl() {
+    return url;
+  }
+
+  boolean isWikia() {
+    return wikia;
+  }
+
+  /**
+   * @return JS errors as returned by drainErrors(), null when they weren't collected
+   */
+  Map<String, Object> getErrors() {
+    return errors;
+  }
+}
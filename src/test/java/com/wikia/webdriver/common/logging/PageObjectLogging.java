@@ -5,8 +5,8 @@ import com.wikia.webdriver.common.core.annotations.DontRun;
 import com.wikia.webdriver.common.core.annotations.Execute;
 import com.wikia.webdriver.common.core.annotations.RelatedIssue;
 import com.wikia.webdriver.common.core.configuration.Configuration;
-import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
 import com.wikia.webdriver.common.core.helpers.User;
+import com.wikia.webdriver.common.core.imageutilities.ScreenshotProfile;
 import com.wikia.webdriver.common.core.imageutilities.Shooter;
 import com.wikia.webdriver.common.core.url.UrlBuilder;
 import com.wikia.webdriver.common.driverprovider.DriverProvider;
@@ -33,7 +33,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.commons.lang.StringEscapeUtils.escapeHtml;
 
@@ -48,43 +51,66 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
   private static final String STEP_CLASS = "step";
   private static final String POLISH_DATE_FORMAT = "dd/MM/yyyy HH:mm:ss ZZ";
   private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ssZZ";
-  private static long imageCounter;
+  private static final AtomicLong imageCounter = new AtomicLong();
   private static String reportPath = "." + File.separator + "logs" + File.separator;
   private static String screenDirPath = reportPath + "screenshots" + File.separator;
   private static String screenPath = screenDirPath + "screenshot";
   private static String logFileName = "log.html";
   private static String logPath = reportPath + logFileName;
+  private static final LogWriter LOG_WRITER = new LogWriter(logPath);
+  private static final ArtifactWriter ARTIFACT_WRITER = new ArtifactWriter(screenDirPath);
+  private static final JSErrorBuffer JS_ERRORS = new JSErrorBuffer();
   private static String jiraPath = "https://wikia-inc.atlassian.net/browse/";
-  private static ArrayList<Boolean> logsResults = new ArrayList<>();
-  private static boolean testStarted = false;
+  private static final ThreadLocal<Boolean> testStarted = ThreadLocal.withInitial(() -> false);
   private By lastFindBy;
-  private WebDriver driver;
 
-  private static String getPageSource(WebDriver driver) {
-    return driver.getPageSource().replaceAll("<script", "<textarea style=\"display: none\"><script")
-        .replaceAll("</script", "</script></textarea");
+  /**
+   * Take screenshot and page source from the browser, files are written in the background
+   *
+   * @return name of the screenshot file, which is known once the screenshot is written, null when
+   * the screenshot was dropped
+   */
+  private static CompletableFuture<String> saveArtifacts(long counter, WebDriver driver,
+      ScreenshotProfile profile) {
+    byte[] screenshot = new Shooter().capturePageBytes(driver);
+    String pageSource = driver.getPageSource();
+    return ARTIFACT_WRITER.save(screenPath + counter, screenshot, pageSource, profile);
   }
 
+  /**
+   * Log step with a screenshot, a thumbnail for passed steps and full screenshot for failed ones.
+   * Use {@link #log(String, String, boolean, WebDriver, ScreenshotProfile)} with FULL profile when
+   * the screenshot is evidence of image comparison.
+   */
   public static void log(String command, String description, boolean success, WebDriver driver) {
-    logsResults.add(success);
-    imageCounter += 1;
-    new Shooter().savePageScreenshot(screenPath + imageCounter, driver);
-    CommonUtils.appendTextToFile(screenPath + imageCounter + ".html", getPageSource(driver));
+    log(command, description, success, driver, stepProfile(success));
+  }
+
+  public static void log(String command, String description, boolean success, WebDriver driver,
+      ScreenshotProfile profile) {
+    ExecutionContext.current().getLogsResults().add(success);
+    long counter = imageCounter.incrementAndGet();
     String className = success ? SUCCESS_CLASS : ERROR_CLASS;
-    String html = VelocityWrapper.fillLogRowWithScreenshot(Arrays.asList(className), command, description, imageCounter);
-    CommonUtils.appendTextToFile(logPath, html);
-    logJSError();
+    LOG_WRITER.append(saveArtifacts(counter, driver, profile).thenApply(
+        screenshot -> VelocityWrapper.fillLogRowWithScreenshot(Arrays.asList(className), command,
+            description, screenshot, counter)));
+    JS_ERRORS.stepLogged(command);
+    flushOnFailure(success);
   }
 
   public static void log(String command, Throwable e, boolean success, WebDriver driver) {
-    logsResults.add(success);
-    imageCounter += 1;
-    new Shooter().savePageScreenshot(screenPath + imageCounter, driver);
-    CommonUtils.appendTextToFile(screenPath + imageCounter + ".html", getPageSource(driver));
+    ExecutionContext.current().getLogsResults().add(success);
+    long counter = imageCounter.incrementAndGet();
     String className = success ? SUCCESS_CLASS : ERROR_CLASS;
-    String html = VelocityWrapper.fillErrorLogRow(Arrays.asList(className), command, imageCounter);
-    CommonUtils.appendTextToFile(logPath, html);
-    logJSError();
+    LOG_WRITER.append(saveArtifacts(counter, driver, stepProfile(success)).thenApply(
+        screenshot -> VelocityWrapper.fillErrorLogRow(Arrays.asList(className), command,
+            screenshot, counter)));
+    JS_ERRORS.stepLogged(command);
+    flushOnFailure(success);
+  }
+
+  private static ScreenshotProfile stepProfile(boolean success) {
+    return success ? ScreenshotProfile.THUMBNAIL : ScreenshotProfile.FULL;
   }
 
   //Log assertion result
@@ -124,7 +150,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
 
   private static void log(String command, String description, boolean isSuccess,
                           boolean ifLowLevel) {
-    logsResults.add(isSuccess);
+    ExecutionContext.current().getLogsResults().add(isSuccess);
     String escapedDescription = escapeHtml(description);
 
     String className = isSuccess ? SUCCESS_CLASS : ERROR_CLASS;
@@ -135,31 +161,45 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
       classList.add(LOW_LEVEL_ACTION_CLASS);
     }
     String html = VelocityWrapper.fillLogRow(classList, command, escapedDescription);
-    CommonUtils.appendTextToFile(logPath, html);
-    logJSError();
+    LOG_WRITER.append(html);
+    JS_ERRORS.stepLogged(command);
+    flushOnFailure(isSuccess);
+  }
+
+  /**
+   * Failed steps are written to disk right away, so they are not lost if the JVM is killed. Recent
+   * screenshots kept in memory and JS errors buffered in the page are written as failure evidence.
+   */
+  private static void flushOnFailure(boolean success) {
+    if (!success) {
+      logPendingJSErrors();
+      ARTIFACT_WRITER.flushRecent();
+      LOG_WRITER.flush();
+    }
   }
 
   public void logAssertionStacktrace(AssertionError exception) {
-    driver = DriverProvider.getActiveDriver();
+    WebDriver driver = DriverProvider.getActiveDriver();
 
-    imageCounter += 1;
+    long counter = imageCounter.incrementAndGet();
     if ("true".equals(Configuration.getLogEnabled())) {
       String exceptionMessage = ExceptionUtils.getStackTrace(exception);
       List<String> classList = new ArrayList<>();
       classList.add(ERROR_CLASS);
       classList.add(STACKTRACE_CLASS);
-      String html = VelocityWrapper.fillErrorLogRow(classList, exceptionMessage, imageCounter);
       try {
-        new Shooter().savePageScreenshot(screenPath + imageCounter, driver);
-        CommonUtils.appendTextToFile(screenPath + imageCounter + ".html", getPageSource(driver));
-        CommonUtils.appendTextToFile(logPath, html);
+        LOG_WRITER.append(saveArtifacts(counter, driver, ScreenshotProfile.FULL).thenApply(
+            screenshot -> VelocityWrapper.fillErrorLogRow(classList, exceptionMessage, screenshot,
+                counter)));
+        ARTIFACT_WRITER.flushRecent();
       } catch (Exception e) {
-        html = VelocityWrapper.fillErrorLogRowWoScreenshotAndSource(classList, exceptionMessage);
-        CommonUtils.appendTextToFile(logPath, html);
+        String html =
+            VelocityWrapper.fillErrorLogRowWoScreenshotAndSource(classList, exceptionMessage);
+        LOG_WRITER.append(html);
         log("onException",
             "driver has no ability to catch screenshot or html source - driver may died<br/>", false);
       }
-      logJSError();
+      logPendingJSErrors();
     }
   }
 
@@ -176,7 +216,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
    */
   public static void logWarning(String command, String description) {
     String html = VelocityWrapper.fillLogRow(Arrays.asList(WARNING_CLASS), command, description);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
   }
 
   /**
@@ -184,7 +224,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
    */
   public static void logInfo(String description) {
     String html = VelocityWrapper.fillLogRow(Arrays.asList(INFO_CLASS), "INFO", description);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
   }
 
   /**
@@ -192,7 +232,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
    */
   public static void logInfo(String command, String description) {
     String html = VelocityWrapper.fillLogRow(Arrays.asList(INFO_CLASS), command, description);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
   }
 
 
@@ -202,40 +242,62 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
   public static void logInfo(String description, Throwable e) {
     String finalDescription = description + " : " + e.getMessage();
     String html = VelocityWrapper.fillLogRow(Arrays.asList(INFO_CLASS), "INFO", finalDescription);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
   }
 
   public static void logImage(String command, File image, boolean success) {
+    logImage(command, image, success, ScreenshotProfile.FULL);
+  }
+
+  /**
+   * Log image embedded in the log file, in format of given profile
+   */
+  public static void logImage(String command, File image, boolean success,
+      ScreenshotProfile profile) {
     byte[] bytes = new byte[0];
     try {
-      bytes = new Base64().encode(FileUtils.readFileToByteArray(image));
+      bytes = new Base64().encode(profile.encode(FileUtils.readFileToByteArray(image)));
     } catch (IOException e) {
       log("logImage", e.getMessage(), false);
     }
-    logImage(command, new String(bytes, StandardCharsets.UTF_8), success);
+    logImage(command, new String(bytes, StandardCharsets.UTF_8), success, profile);
   }
 
   public static void logImage(String command, String imageAsBase64, boolean success) {
-    String imgHtml = VelocityWrapper.fillImage(imageAsBase64);
+    logImage(command, imageAsBase64, success, ScreenshotProfile.FULL);
+  }
+
+  private static void logImage(String command, String imageAsBase64, boolean success,
+      ScreenshotProfile profile) {
+    String imgHtml = VelocityWrapper.fillImage(imageAsBase64, profile.getMimeType());
     String className = success ? SUCCESS_CLASS : ERROR_CLASS;
     String html = VelocityWrapper.fillLogRow(Arrays.asList(className), command, imgHtml);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
   }
 
-  private static void logJSError() {
-    if ("true".equals(Configuration.getJSErrorsEnabled())) {
-      JavascriptExecutor js = DriverProvider.getActiveDriver();
-      List<String> error =
-          (ArrayList<String>) js.executeScript("return window.JSErrorCollector_errors.pump()");
-      if (!error.isEmpty()) {
-        String html = VelocityWrapper.fillLogRow(Arrays.asList(ERROR_CLASS), "click", error.toString());
-        CommonUtils.appendTextToFile(logPath, html);
-      }
+  private static boolean isJSErrorsEnabled() {
+    return "true".equals(Configuration.getJSErrorsEnabled());
+  }
+
+  /**
+   * Log JS errors buffered in the page of the active browser, called when a test fails or ends.
+   * Browser is not started if the test didn't start it.
+   */
+  public static void logPendingJSErrors() {
+    if (isJSErrorsEnabled()) {
+      logJSErrors(JS_ERRORS.drain(DriverProvider.findActiveDriver()));
+    }
+  }
+
+  private static void logJSErrors(List<String> errors) {
+    for (String error : errors) {
+      LOG_WRITER.append(
+          VelocityWrapper.fillLogRow(Arrays.asList(ERROR_CLASS), "JS error", escapeHtml(error)));
     }
   }
 
   public static List<Boolean> getVerificationStack() {
-    return logsResults;
+    return ExecutionContext.current().getLogsResults();
   }
 
   public static void start(Method testMethod) {
@@ -254,78 +316,62 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
       description = testName;
     }
     String html = VelocityWrapper.fillFirstLogRow(className, testName, command, description);
-    CommonUtils.appendTextToFile(logPath, html);
-    testStarted = true;
+    LOG_WRITER.append(html);
+    JS_ERRORS.reset();
+    testStarted.set(true);
   }
 
   private void stopLogging() {
     String html = VelocityWrapper.fillLastLogRow();
-    CommonUtils.appendTextToFile(logPath, html);
-    testStarted = false;
+    LOG_WRITER.append(html);
+    ARTIFACT_WRITER.discardRecent();
+    ARTIFACT_WRITER.awaitPending();
+    LOG_WRITER.flush();
+    testStarted.set(false);
   }
 
   @Override
   public void beforeNavigateTo(String url, WebDriver driver) {
-    new JavascriptActions(driver).execute("window.stop()");
+    Map<String, Object> errors = NavigationCheck.stopLoading(driver, isJSErrorsEnabled());
     List<String> classList = new ArrayList<>();
     classList.add(SUCCESS_CLASS);
     String command = "Navigate to";
     String description = VelocityWrapper.fillLink(url, url);
     String html = VelocityWrapper.fillLogRow(classList, command, description);
-    CommonUtils.appendTextToFile(logPath, html);
-    logJSError();
+    LOG_WRITER.append(html);
+    logJSErrors(JS_ERRORS.attribute(errors, command + " " + url));
+    JS_ERRORS.stepLogged(command + " " + url);
   }
 
   @Override
   public void afterNavigateTo(String url, WebDriver driver) {
-    if (!AlertHandler.isAlertPresent(driver)) {
-      if (url.equals(driver.getCurrentUrl())) {
-        List<String> classList = new ArrayList<>();
-        classList.add(SUCCESS_CLASS);
-        String command = "Url after navigation";
-        String description = VelocityWrapper.fillLink(driver.getCurrentUrl(), driver.getCurrentUrl());
-        String html = VelocityWrapper.fillLogRow(classList, command, description);
-        CommonUtils.appendTextToFile(logPath, html);
-      } else {
-        if (driver.getCurrentUrl().contains("data:text/html,chromewebdata ")) {
-          driver.get(url);
-        }
-        logWarning("Url after navigation", driver.getCurrentUrl());
-      }
-    } else {
-      logWarning("Url after navigation", "Unable to check URL after navigation - alert present");
-    }
+    ExecutionContext context = ExecutionContext.current();
 
-    if (driver.getCurrentUrl().contains(Configuration.getWikiaDomain())) {
-      // HACK FOR DISABLING NOTIFICATIONS
-      try {
-        new JavascriptActions(driver).execute("$(\".sprite.close-notification\")[0].click()");
-      } catch (WebDriverException e) {
-        PageObjectLogging.logInfo("Hack for disabling notifications", "Failed to execute js action");
-
-      }
-
-      /**
-       * We want to disable sales pitch dialog for new potential contributors to avoid hiding other
-       * UI elements. see https://wikia-inc.atlassian.net/browse/CE-3768
-       */
-      if ("true".equals(Configuration.getDisableCommunityPageSalesPitchDialog())) {
-        driver.manage().addCookie(
-            new Cookie("cpBenefitsModalShown", "1", Configuration.getWikiaDomain(), null, null));
-      }
-
-      if (TestContext.isFirstLoad() && "true".equals(Configuration.getMockAds())) {
-        driver.manage().addCookie(new Cookie("mock-ads", XMLReader.getValue("mock.ads_token"),
-           String.format(".%s", Configuration.getEnvType().getWikiaDomain()), null, null));
+    NavigationCheck check = NavigationCheck.run(driver, Configuration.getWikiaDomain(),
+        navigationCookies(context), isJSErrorsEnabled());
+    if (check.isAlertPresent()) {
+      logWarning("Url after navigation", "Unable to check URL after navigation - alert present");
+    } else if (url.equals(check.getUrl())) {
+      List<String> classList = new ArrayList<>();
+      classList.add(SUCCESS_CLASS);
+      String command = "Url after navigation";
+      String description = VelocityWrapper.fillLink(check.getUrl(), check.getUrl());
+      String html = VelocityWrapper.fillLogRow(classList, command, description);
+      LOG_WRITER.append(html);
+    } else {
+      logWarning("Url after navigation", check.getUrl());
+      if (check.getUrl().contains("data:text/html,chromewebdata ")) {
+        driver.get(url);
+        return;
       }
     }
 
-    Method method = TestContext.getCurrentTestMethod();
-    Class<?> declaringClass = method.getDeclaringClass();
+    Method method = context.getTestMethod();
 
-    if (TestContext.isFirstLoad()) {
+    if (context.isFirstLoad() && method != null) {
+      Class<?> declaringClass = method.getDeclaringClass();
       User user = null;
-      TestContext.setFirstLoad(false);
+      context.setFirstLoad(false);
 
       if (declaringClass.isAnnotationPresent(Execute.class)) {
         user = declaringClass.getAnnotation(Execute.class).asUser();
@@ -341,22 +387,45 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
       }
     }
 
-    logJSError();
+    logJSErrors(JS_ERRORS.attribute(check.getErrors(), "Url after navigation " + url));
+  }
+
+  /**
+   * Cookies set on wikia pages, when the browser doesn't have them yet
+   */
+  private static List<Cookie> navigationCookies(ExecutionContext context) {
+    List<Cookie> cookies = new ArrayList<>();
+    /**
+     * We want to disable sales pitch dialog for new potential contributors to avoid hiding other
+     * UI elements. see https://wikia-inc.atlassian.net/browse/CE-3768
+     */
+    if ("true".equals(Configuration.getDisableCommunityPageSalesPitchDialog())) {
+      cookies.add(
+          new Cookie("cpBenefitsModalShown", "1", Configuration.getWikiaDomain(), null, null));
+    }
+    if (context.isFirstLoad() && "true".equals(Configuration.getMockAds())) {
+      cookies.add(new Cookie("mock-ads", XMLReader.getValue("mock.ads_token"),
+          String.format(".%s", Configuration.getEnvType().getWikiaDomain()), null, null));
+    }
+    return cookies;
   }
 
   @Override
   public void beforeFindBy(By by, WebElement element, WebDriver driver) {
     lastFindBy = by;
-    SelectorStack.write(by);
-    if (element != null) {
-      SelectorStack.contextWrite();
-    }
   }
 
   @Override
   public void beforeClickOn(WebElement element, WebDriver driver) {
-    new JavascriptActions(driver).scrollElementIntoViewPort(element);
-    logJSError();
+    try {
+      ClickCheck check = ClickCheck.run(driver, element, isJSErrorsEnabled());
+      if (check.getScrollError() != null) {
+        logInfo("There might be a problem with scrolling to element", check.getScrollError());
+      }
+      logJSErrors(JS_ERRORS.attribute(check.getErrors(), "click " + lastFindBy));
+    } catch (WebDriverException e) {
+      logInfo("There might be a problem with scrolling to element", e);
+    }
   }
 
   @Override
@@ -368,7 +437,8 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
     String description = lastFindBy.toString();
 
     String html = VelocityWrapper.fillLogRow(classList, command, description);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
+    JS_ERRORS.stepLogged(command + " " + description);
   }
 
   @Override
@@ -379,12 +449,13 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
     String command = "ChangeValueOfField";
     String description = lastFindBy.toString();
     String html = VelocityWrapper.fillLogRow(classList, command, description);
-    CommonUtils.appendTextToFile(logPath, html);
+    LOG_WRITER.append(html);
   }
 
   @Override
   public void onTestStart(ITestResult result) {
-    logsResults.clear();
+    ExecutionContext.current().getLogsResults().clear();
+    ARTIFACT_WRITER.discardRecent();
     String testName = result.getName();
     String className = result.getTestClass().getName();
     System.out.println(className + " " + testName);
@@ -397,33 +468,33 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
 
   @Override
   public void onTestFailure(ITestResult result) {
-    driver = DriverProvider.getActiveDriver();
+    WebDriver driver = DriverProvider.getActiveDriver();
 
-    imageCounter += 1;
+    long counter = imageCounter.incrementAndGet();
     if ("true".equals(Configuration.getLogEnabled())) {
       String exception = escapeHtml(result.getThrowable().toString() + "\n"
           + ExceptionUtils.getStackTrace(result.getThrowable()));
       List<String> classList = new ArrayList<>();
       classList.add(ERROR_CLASS);
-      String html = VelocityWrapper.fillErrorLogRow(classList, exception, imageCounter);
       try {
-        new Shooter().savePageScreenshot(screenPath + imageCounter, driver);
-        CommonUtils.appendTextToFile(screenPath + imageCounter + ".html", getPageSource(driver));
-        CommonUtils.appendTextToFile(logPath, html);
+        LOG_WRITER.append(saveArtifacts(counter, driver, ScreenshotProfile.FULL).thenApply(
+            screenshot -> VelocityWrapper.fillErrorLogRow(classList, exception, screenshot,
+                counter)));
+        ARTIFACT_WRITER.flushRecent();
       } catch (Exception e) {
-        html = VelocityWrapper.fillErrorLogRowWoScreenshotAndSource(classList, exception);
+        String html = VelocityWrapper.fillErrorLogRowWoScreenshotAndSource(classList, exception);
         log("onException",
             "driver has no ability to catch screenshot or html source - driver may died", false);
-        CommonUtils.appendTextToFile(logPath, html);
+        LOG_WRITER.append(html);
       }
-      logJSError();
+      logPendingJSErrors();
       stopLogging();
     }
   }
 
   @Override
   public void onTestSkipped(ITestResult result) {
-    if (!testStarted) {
+    if (!testStarted.get()) {
       start(result.getMethod().getConstructorOrMethod().getMethod());
     }
     if (result.getMethod().getConstructorOrMethod().getMethod()
@@ -436,7 +507,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
       result.setThrowable(new SkipException("TEST SKIPPED"));
       onTestFailure(result);
     }
-    if (testStarted) {
+    if (testStarted.get()) {
       stopLogging();
     }
   }
@@ -447,7 +518,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
   @Override
   public void onStart(ITestContext context) {
     CommonUtils.createDirectory(screenDirPath);
-    imageCounter = 0;
+    imageCounter.set(0);
 
     String date = DateTimeFormat.forPattern(DATE_FORMAT)
                   .print(DateTime.now(DateTimeZone.UTC));
@@ -465,12 +536,12 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
         headerHtml = VelocityWrapper
                      .fillHeader(date, polishDate, browser, os, testingEnvironmentUrl,
                                    testingEnvironment, testedVersion);
-    CommonUtils.appendTextToFile(logPath, headerHtml);
+    LOG_WRITER.append(headerHtml);
     appendShowHideButtons();
     try {
       FileInputStream input = new FileInputStream("./src/test/resources/script.txt");
       String content = IOUtils.toString(input);
-      CommonUtils.appendTextToFile(logPath, content);
+      LOG_WRITER.append(content);
     } catch (IOException e) {
       System.out.println("no script.txt file available");
     }
@@ -482,7 +553,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
     StringBuilder builder = new StringBuilder();
     builder.append(hideButton);
     builder.append(showButton);
-    CommonUtils.appendTextToFile(logPath, builder.toString());
+    LOG_WRITER.append(builder.toString());
   }
 
   @Override
@@ -507,6 +578,7 @@ public class PageObjectLogging extends AbstractWebDriverEventListener implements
 
   @Override
   public void onFinish(ITestContext context) {
-    CommonUtils.appendTextToFile(logPath, "</body></html>");
+    LOG_WRITER.append("</body></html>");
+    LOG_WRITER.flush();
   }
 }
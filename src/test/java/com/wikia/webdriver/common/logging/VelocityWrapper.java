@@ -5,12 +5,15 @@ import static org.testng.internal.Utils.escapeHtml;
 import java.io.StringWriter;
 import java.util.List;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
 
+/**
+ * Renders log rows from velocitytemplates/*.vm. Templates are parsed once, when the class is
+ * loaded, file resource loader doesn't cache them and would parse them again for every row.
+ */
 public class VelocityWrapper {
 
   private static final String LAST_LOG_ROW_TEMPLATE_PATH = "lastLogRow.vm";
@@ -25,160 +28,125 @@ public class VelocityWrapper {
   private static final String HEADER_TEMPLATE_PATH = "header.vm";
   private static final String ERROR_LOG_ROW_WO_SCREENSHOT_AND_SOURCE_TEMPLATE_PATH =
       "errorLogRowWoScreenshotAndSource.vm";
-  private static VelocityEngine velocityEngine = getVelocityEngine();
+  private static final VelocityEngine velocityEngine = getVelocityEngine();
+  private static final Template LAST_LOG_ROW =
+      velocityEngine.getTemplate(LAST_LOG_ROW_TEMPLATE_PATH);
+  private static final Template LOG_ROW = velocityEngine.getTemplate(LOG_ROW_TEMPLATE_PATH);
+  private static final Template LOG_ROW_WITH_LINK =
+      velocityEngine.getTemplate(LOG_ROW_WITH_LINK_TEMPLATE_PATH);
+  private static final Template IMAGE = velocityEngine.getTemplate(IMAGE_TEMPLATE_PATH);
+  private static final Template ERROR_LOG_ROW =
+      velocityEngine.getTemplate(ERROR_LOG_ROW_TEMPLATE_PATH);
+  private static final Template LOG_ROW_WITH_SCREENSHOT =
+      velocityEngine.getTemplate(LOG_ROW_WITH_SCREENSHOT_TEMPLATE_PATH);
+  private static final Template LINK = velocityEngine.getTemplate(LINK_TEMPLATE_PATH);
+  private static final Template FIRST_LOG_ROW =
+      velocityEngine.getTemplate(FIRST_LOG_ROW_TEMPLATE_PATH);
+  private static final Template BUTTON = velocityEngine.getTemplate(BUTTON_TEMPLATE_PATH);
+  private static final Template HEADER = velocityEngine.getTemplate(HEADER_TEMPLATE_PATH);
+  private static final Template ERROR_LOG_ROW_WO_SCREENSHOT_AND_SOURCE =
+      velocityEngine.getTemplate(ERROR_LOG_ROW_WO_SCREENSHOT_AND_SOURCE_TEMPLATE_PATH);
+  private static final int MAX_BUFFER_CHARS = 64 * 1024;
+  private static final ThreadLocal<StringWriter> buffer =
+      ThreadLocal.withInitial(StringWriter::new);
 
   private VelocityWrapper() {
     throw new IllegalAccessError("Utility class");
   }
 
   static String fillLogRow(List<String> classList, String command, String description) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(LOG_ROW_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
-
-    context.put("className", "\"" + classList.stream().collect(Collectors.joining(" ")) + "\"");
+    context.put("className", joinClasses(classList));
     context.put("command", command);
     context.put("description", description);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(LOG_ROW, context);
   }
 
   static String fillLastLogRow() {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(LAST_LOG_ROW_TEMPLATE_PATH);
-    VelocityContext context = new VelocityContext();
-
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(LAST_LOG_ROW, new VelocityContext());
   }
 
   public static String fillLogRowWithLink(String link, String label) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(LOG_ROW_WITH_LINK_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
     context.put("link", link);
     context.put("label", label);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(LOG_ROW_WITH_LINK, context);
   }
 
-  static String fillImage(String imageAsBase64) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(IMAGE_TEMPLATE_PATH);
+  static String fillImage(String imageAsBase64, String mimeType) {
     VelocityContext context = new VelocityContext();
-
     context.put("imageAsBase64", escapeHtml(imageAsBase64));
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    context.put("mimeType", mimeType);
+    return render(IMAGE, context);
   }
 
-  static String fillErrorLogRow(List<String> classList, String command, long imageCounter) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(ERROR_LOG_ROW_TEMPLATE_PATH);
+  /**
+   * @param screenshotFile null when screenshot wasn't kept, row is rendered without links
+   */
+  static String fillErrorLogRow(List<String> classList, String command, String screenshotFile,
+      long imageCounter) {
+    if (screenshotFile == null) {
+      return fillErrorLogRowWoScreenshotAndSource(classList, command);
+    }
     VelocityContext context = new VelocityContext();
-    context.put("className", "\"" + classList.stream().collect(Collectors.joining(" ")) + "\"");
+    context.put("className", joinClasses(classList));
     context.put("command", command);
+    context.put("screenshotFile", screenshotFile);
     context.put("imageCounter", String.valueOf(imageCounter));
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(ERROR_LOG_ROW, context);
   }
 
   static String fillErrorLogRowWoScreenshotAndSource(List<String> classList, String command) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(ERROR_LOG_ROW_WO_SCREENSHOT_AND_SOURCE_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
-    context.put("className", "\"" + classList.stream().collect(Collectors.joining(" ")) + "\"");
+    context.put("className", joinClasses(classList));
     context.put("command", command);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(ERROR_LOG_ROW_WO_SCREENSHOT_AND_SOURCE, context);
   }
 
+  /**
+   * @param screenshotFile null when screenshot wasn't kept, row is rendered without links
+   */
   static String fillLogRowWithScreenshot(List<String> classList, String command, String description,
-      long imageCounter) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(LOG_ROW_WITH_SCREENSHOT_TEMPLATE_PATH);
+      String screenshotFile, long imageCounter) {
+    if (screenshotFile == null) {
+      return fillLogRow(classList, command, description);
+    }
     VelocityContext context = new VelocityContext();
-    context.put("className", "\"" + classList.stream().collect(Collectors.joining(" ")) + "\"");
+    context.put("className", joinClasses(classList));
     context.put("command", command);
     context.put("description", description);
+    context.put("screenshotFile", screenshotFile);
     context.put("imageCounter", String.valueOf(imageCounter));
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(LOG_ROW_WITH_SCREENSHOT, context);
   }
 
   static String fillLink(String link, String label) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(LINK_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
-
     context.put("link", link);
     context.put("label", label);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(LINK, context);
   }
 
   static String fillFirstLogRow(String className, String testName, String command,
       String description) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(FIRST_LOG_ROW_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
-
     context.put("className", className);
     context.put("testName", testName);
     context.put("command", command);
     context.put("description", description);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(FIRST_LOG_ROW, context);
   }
 
   static String fillButton(String id, String label) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(BUTTON_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
-
     context.put("id", id);
     context.put("label", label);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(BUTTON, context);
   }
 
   static String fillHeader(String date, String polishDate, String browser, String os,
       String testingEnvironmentUrl, String testingEnvironment, String testedVersion) {
-    StringBuilder builder = new StringBuilder();
-
-    Template t = velocityEngine.getTemplate(HEADER_TEMPLATE_PATH);
     VelocityContext context = new VelocityContext();
-
     context.put("date", date);
     context.put("polishDate", polishDate);
     context.put("browser", browser);
@@ -186,10 +154,27 @@ public class VelocityWrapper {
     context.put("testingEnvironmentUrl", testingEnvironmentUrl);
     context.put("testingEnvironment", testingEnvironment);
     context.put("testedVersion", testedVersion);
-    StringWriter writer = new StringWriter();
-    t.merge(context, writer);
-    builder.append(writer.toString());
-    return builder.toString();
+    return render(HEADER, context);
+  }
+
+  private static String joinClasses(List<String> classList) {
+    return "\"" + String.join(" ", classList) + "\"";
+  }
+
+  /**
+   * Merge already parsed template into a buffer reused by the current thread. Buffer which grew
+   * past {@link #MAX_BUFFER_CHARS} while rendering a large row, like a long stack trace, is
+   * replaced, so threads don't hold on to it.
+   */
+  private static String render(Template template, VelocityContext context) {
+    StringWriter writer = buffer.get();
+    if (writer.getBuffer().capacity() > MAX_BUFFER_CHARS) {
+      writer = new StringWriter();
+      buffer.set(writer);
+    }
+    writer.getBuffer().setLength(0);
+    template.merge(context, writer);
+    return writer.toString();
   }
 
   private static VelocityEngine getVelocityEngine() {
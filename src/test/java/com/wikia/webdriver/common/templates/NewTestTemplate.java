@@ -20,7 +20,7 @@ public class NewTestTemplate extends CoreTestTemplate {
   }
 
   protected void loadFirstPage() {
-    driver.get(wikiURL + URLsContent.SPECIAL_VERSION);
+    getDriver().get(wikiURL + URLsContent.SPECIAL_VERSION);
   }
 
   protected void prepareURLs() {
@@ -13,7 +13,7 @@ public class TemplateNoFirstLoad extends NewTestTemplate {
   }
 
   protected AdsBaseObject openPageWithVideoInLocalStorage(Page page, VideoAd videoAd) {
-    final AdsBaseObject ads = new AdsBaseObject(driver, urlBuilder.getUrlForWiki("project43"));
+    final AdsBaseObject ads = new AdsBaseObject(getDriver(), urlBuilder.getUrlForWiki("project43"));
     putVASTToLocalStorage(videoAd.getVastXML());
     ads.getUrl(page);
     return ads;
@@ -24,7 +24,7 @@ public class TemplateNoFirstLoad extends NewTestTemplate {
   }
 
   private void putVASTToLocalStorage(String vast) {
-    JavascriptActions runScript = new JavascriptActions(driver);
+    JavascriptActions runScript = new JavascriptActions(getDriver());
     runScript.execute(String.format("localStorage.setItem('porvata_vast', '%s');", vast));
   }
 }
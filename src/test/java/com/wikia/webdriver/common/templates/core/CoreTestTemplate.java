@@ -4,22 +4,25 @@ import java.io.File;
 import java.lang.reflect.Method;
 
 import org.openqa.selenium.Dimension;
+import org.testng.ITestResult;
 import org.testng.SkipException;
-import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Listeners;
 
 import com.wikia.webdriver.common.core.CommonUtils;
+import com.wikia.webdriver.common.core.ExecutionContext;
 import com.wikia.webdriver.common.core.Helios;
-import com.wikia.webdriver.common.core.TestContext;
 import com.wikia.webdriver.common.core.WikiaWebDriver;
 import com.wikia.webdriver.common.core.annotations.DontRun;
 import com.wikia.webdriver.common.core.annotations.Execute;
 import com.wikia.webdriver.common.core.annotations.InBrowser;
 import com.wikia.webdriver.common.core.annotations.NetworkTrafficDump;
 import com.wikia.webdriver.common.core.configuration.Configuration;
+import com.wikia.webdriver.common.core.elemnt.ElementLookupCache;
+import com.wikia.webdriver.common.core.elemnt.WaitStatistics;
 import com.wikia.webdriver.common.core.networktrafficinterceptor.NetworkTrafficInterceptor;
 import com.wikia.webdriver.common.driverprovider.DriverProvider;
 import com.wikia.webdriver.common.driverprovider.UseUnstablePageLoadStrategy;
@@ -29,11 +32,30 @@ import com.wikia.webdriver.common.logging.PageObjectLogging;
     com.wikia.webdriver.common.testnglisteners.InvokeMethodAdapter.class})
 public abstract class CoreTestTemplate {
 
-  protected WikiaWebDriver driver;
-  protected NetworkTrafficInterceptor networkTrafficInterceptor;
+  /**
+   * Test methods of one instance may run in parallel, each of them on its own thread, so the
+   * browser and proxy used by the current test are kept per thread
+   */
+  private final ThreadLocal<WikiaWebDriver> driver = new ThreadLocal<>();
+  private final ThreadLocal<NetworkTrafficInterceptor> networkTrafficInterceptor =
+      new ThreadLocal<>();
+
+  /**
+   * @return browser window used by the current test
+   */
+  protected WikiaWebDriver getDriver() {
+    return driver.get();
+  }
+
+  /**
+   * @return proxy of the browser started for the current test, null when it has none
+   */
+  protected NetworkTrafficInterceptor getNetworkTrafficInterceptor() {
+    return networkTrafficInterceptor.get();
+  }
 
   protected void refreshDriver() {
-    driver = DriverProvider.getActiveDriver();
+    driver.set(DriverProvider.getActiveDriver());
   }
 
   @BeforeSuite(alwaysRun = true)
@@ -44,11 +66,9 @@ public abstract class CoreTestTemplate {
 
   @BeforeMethod(alwaysRun = true)
   public void initTestContext(Method method) {
-    TestContext.writeMethodName(method);
+    ExecutionContext.create(method);
     PageObjectLogging.start(method);
 
-    Configuration.clearCustomTestProperties();
-
     String browser = Configuration.getBrowser();
     setPropertiesFromAnnotationsOnDeclaringClass(method.getDeclaringClass());
     setPropertiesFromAnnotationsOnMethod(method);
@@ -65,8 +85,11 @@ public abstract class CoreTestTemplate {
       throw new SkipException("Test can't be run on " + Configuration.getEnv() + " environment");
     }
 
-    driver = DriverProvider.getActiveDriver();
-    networkTrafficInterceptor = driver.getProxy();
+    driver.set(DriverProvider.getDriverForTest());
+    networkTrafficInterceptor.set(getDriver().getProxy());
+    if (getNetworkTrafficInterceptor() != null) {
+      getNetworkTrafficInterceptor().clearRequests();
+    }
     setWindowSize();
 
     loadFirstPage();
@@ -144,27 +167,46 @@ public abstract class CoreTestTemplate {
   protected void setWindowSize() {
     Dimension browserSize = Configuration.getBrowserSize();
 
-    if (!driver.isAndroid()) {
+    if (!getDriver().isAndroid()) {
       if (browserSize != null) {
-        driver.manage().window().setSize(browserSize);
+        getDriver().manage().window().setSize(browserSize);
       } else {
-        driver.manage().window().maximize();
+        getDriver().manage().window().maximize();
       }
     }
   }
 
+  /**
+   * Browsers of the test are closed on the thread which ran it, unless they can be reused by the
+   * next test on that thread
+   */
   @AfterMethod(alwaysRun = true)
-  @AfterClass(alwaysRun = true)
-  public void stop() {
-    DriverProvider.close();
+  public void stop(ITestResult result) {
+    PageObjectLogging.logPendingJSErrors();
+    if (Configuration.reuseBrowser()) {
+      DriverProvider.release(result.isSuccess());
+    } else {
+      DriverProvider.close();
+    }
+    driver.remove();
+    networkTrafficInterceptor.remove();
+  }
+
+  @AfterSuite(alwaysRun = true)
+  public void afterSuite() {
+    DriverProvider.closeAll();
+    WaitStatistics.writeReport("." + File.separator + "logs" + File.separator
+        + "waitStatistics.csv");
+    ElementLookupCache.writeReport("." + File.separator + "logs" + File.separator
+        + "elementLookupStatistics.csv");
   }
 
   protected void switchToWindow(int index) {
     DriverProvider.switchActiveWindow(index);
     refreshDriver();
 
-    String driverName =
-        DriverProvider.getActiveDriver().equals(driver) ? "primary window" : "secondary window";
+    String driverName = DriverProvider.getActiveDriver().equals(getDriver()) ? "primary window"
+        : "secondary window";
     PageObjectLogging.log("switchToWindow", "================ " + driverName + " ================",
         true);
   }
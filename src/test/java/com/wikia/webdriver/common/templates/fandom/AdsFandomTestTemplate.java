@@ -17,13 +17,13 @@ public class AdsFandomTestTemplate extends FandomTestTemplate {
   protected AdsFandomObject loadPage(String pageName, String pageType) {
     String pageUrl = getFandomUrl(pageName, pageType);
 
-    return new AdsFandomObject(driver, pageUrl);
+    return new AdsFandomObject(getDriver(), pageUrl);
   }
 
   protected AdsFandomObject loadPage(String pageName, String pageType, Dimension resolution) {
     String pageUrl = getFandomUrl(pageName, pageType);
 
-    return new AdsFandomObject(driver, pageUrl, resolution);
+    return new AdsFandomObject(getDriver(), pageUrl, resolution);
   }
 
   private String getFandomUrl(String pageName, String pageType) {
@@ -16,6 +16,6 @@ public class FandomTestTemplate extends CoreTestTemplate {
 
   @Override
   protected void loadFirstPage() {
-    driver.navigate().to(mainURL);
+    getDriver().navigate().to(mainURL);
   }
 }
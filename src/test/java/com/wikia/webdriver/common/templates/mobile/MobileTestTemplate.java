@@ -8,6 +8,6 @@ public class MobileTestTemplate extends NewTestTemplate {
 
   @Override
   public void setWindowSize() {
-    driver.manage().window().setSize(new Dimension(360, 640));
+    getDriver().manage().window().setSize(new Dimension(360, 640));
   }
 }
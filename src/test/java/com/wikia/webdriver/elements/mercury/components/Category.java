@@ -1,13 +1,13 @@
 package com.wikia.webdriver.elements.mercury.components;
 
 import com.wikia.webdriver.common.core.Assertion;
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.elements.mercury.pages.CategoryPage;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.WikiBasePageObject;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class Category extends WikiBasePageObject {
 
@@ -19,7 +19,7 @@ public class Category extends WikiBasePageObject {
 
 
   public Category() {
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public Category toggleMenu() {
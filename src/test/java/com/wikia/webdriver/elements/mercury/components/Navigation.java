@@ -1,6 +1,7 @@
 package com.wikia.webdriver.elements.mercury.components;
 
 import com.wikia.webdriver.common.core.Assertion;
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.common.skin.Skin;
 import com.wikia.webdriver.common.skin.SkinHelper;
@@ -10,7 +11,6 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
 
@@ -58,7 +58,7 @@ public class Navigation extends WikiBasePageObject {
   private By navigationComponent = By.cssSelector(".side-nav-menu");
 
   public Navigation() {
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public JoinTodayPage clickOnSignInRegisterButton() {
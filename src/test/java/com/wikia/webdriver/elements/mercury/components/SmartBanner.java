@@ -2,13 +2,13 @@ package com.wikia.webdriver.elements.mercury.components;
 
 import com.wikia.webdriver.common.core.Assertion;
 import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.core.elemnt.Wait;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class SmartBanner {
 
@@ -28,7 +28,7 @@ public class SmartBanner {
     this.jsActions = new JavascriptActions(driver);
     this.driver = driver;
 
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public SmartBanner close() {
@@ -1,6 +1,7 @@
 package com.wikia.webdriver.elements.mercury.components.discussions.common;
 
 import com.wikia.webdriver.common.core.helpers.ContentLoader;
+import com.wikia.webdriver.common.core.interactions.Typing;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.elements.mercury.components.discussions.common.category.CategoryPills;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.BasePageObject;
@@ -86,7 +87,7 @@ public abstract class BasePostsCreator extends BasePageObject implements PostsCr
 
   @Override
   public PostsCreator addTitleWith(final String text) {
-    getTitleTextarea().sendKeys(text);
+    Typing.type(getTitleTextarea(), text);
     return this;
   }
 
@@ -98,7 +99,7 @@ public abstract class BasePostsCreator extends BasePageObject implements PostsCr
 
   @Override
   public PostsCreator addDescriptionWith(final String text) {
-    getDescriptionTextarea().sendKeys(text);
+    Typing.type(getDescriptionTextarea(), text);
     return this;
   }
 
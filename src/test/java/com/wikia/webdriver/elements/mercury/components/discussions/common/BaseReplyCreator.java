@@ -1,6 +1,7 @@
 package com.wikia.webdriver.elements.mercury.components.discussions.common;
 
 import com.wikia.webdriver.common.core.helpers.ContentLoader;
+import com.wikia.webdriver.common.core.interactions.Typing;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.BasePageObject;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
@@ -63,7 +64,7 @@ public abstract class BaseReplyCreator extends BasePageObject implements ReplyCr
 
   @Override
   public ReplyCreator add(final String text) {
-    wait.forElementVisible(getTextarea()).sendKeys(text);
+    Typing.type(wait.forElementVisible(getTextarea()), text);
     return this;
   }
 
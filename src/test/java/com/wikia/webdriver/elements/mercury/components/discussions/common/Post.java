@@ -2,13 +2,13 @@ package com.wikia.webdriver.elements.mercury.components.discussions.common;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
-import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.BasePageObject;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 import javax.annotation.CheckForNull;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +17,8 @@ import static java.util.stream.Collectors.toList;
 
 public class Post extends BasePageObject {
 
+  private static final String VOTES_URL_PART = "/votes/";
+
   @FindBy(css = ".post-detail")
   private List<WebElement> postList;
 
@@ -44,6 +46,9 @@ public class Post extends BasePageObject {
   @FindBy(css = ".discussion.post .discussion-content")
   private WebElement postDetails;
 
+  // requests started before the last upvote click
+  private long voteRequestCursor = -1;
+
   public boolean isPostListEmpty() {
     return postList.isEmpty();
   }
@@ -112,6 +117,7 @@ public class Post extends BasePageObject {
   public Post clickUpvoteButton(int postIndex) {
     WebElement button = postUpvoteButton.get(postIndex);
     wait.forElementClickable(button);
+    voteRequestCursor = wait.getRequestCursor();
     button.click();
 
     return this;
@@ -125,15 +131,12 @@ public class Post extends BasePageObject {
   }
 
   /**
-   * Wait for the noticeable time lag between vote and vote value change to pass
+   * Wait for the noticeable time lag between vote and vote value change to pass, that is for the
+   * vote request sent by the last upvote click
    */
   public Post waitForVoteCountChangeTimeLagToPass() {
-    try {
-      //This sleep was introduced because of noticeable lag between vote and vote value change
-      Thread.sleep(2000);
-    } catch (InterruptedException e) {
-      PageObjectLogging.logError("waitForVoteCountChangeTimeLagToPass", e);
-    }
+    //This wait was introduced because of noticeable lag between vote and vote value change
+    wait.forRequestsSinceOrX(voteRequestCursor, VOTES_URL_PART, Duration.ofSeconds(2));
 
     return this;
   }
@@ -150,6 +153,7 @@ public class Post extends BasePageObject {
 
   public Post clickPostDetailsUpvoteButton() {
     wait.forElementClickable(upvoteButton);
+    voteRequestCursor = wait.getRequestCursor();
     upvoteButton.click();
 
     return this;
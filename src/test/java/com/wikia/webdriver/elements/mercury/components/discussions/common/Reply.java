@@ -1,16 +1,18 @@
 package com.wikia.webdriver.elements.mercury.components.discussions.common;
 
-import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.BasePageObject;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.time.Duration;
 import java.util.List;
 
 
 public class Reply extends BasePageObject {
 
+  private static final String VOTES_URL_PART = "/votes/";
+
   @FindBy(css = ".replies-list")
   private List<WebElement> repliesList;
 
@@ -25,6 +27,9 @@ public class Reply extends BasePageObject {
 
   private WebElement reply;
 
+  // requests started before the last upvote click
+  private long voteRequestCursor = -1;
+
   Reply(WebElement reply) {
     this.reply = reply;
   }
@@ -47,6 +52,7 @@ public class Reply extends BasePageObject {
   public void clickReplyUpvoteButton(int replyIndex) {
     WebElement button = replyUpvoteButton.get(replyIndex);
     wait.forElementClickable(button, replyIndex);
+    voteRequestCursor = wait.getRequestCursor();
     button.click();
   }
 
@@ -62,15 +68,12 @@ public class Reply extends BasePageObject {
   }
 
   /**
-   * Wait for the noticeable time lag between vote and vote value change to pass
+   * Wait for the noticeable time lag between vote and vote value change to pass, that is for the
+   * vote request sent by the last upvote click
    */
   public void waitForVoteCountChangeTimeLagToPass() {
-    try {
-      //This sleep was introduced because of noticeable lag between vote and vote value change
-      Thread.sleep(2000);
-    } catch (InterruptedException e) {
-      PageObjectLogging.logError("waitForVoteCountChangeTimeLagToPass", e);
-    }
+    //This wait was introduced because of noticeable lag between vote and vote value change
+    wait.forRequestsSinceOrX(voteRequestCursor, VOTES_URL_PART, Duration.ofSeconds(2));
   }
 
   public boolean hasImage() {
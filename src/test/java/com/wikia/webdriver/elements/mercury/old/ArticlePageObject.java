@@ -1,13 +1,9 @@
 package com.wikia.webdriver.elements.mercury.old;
 
-import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
-import com.wikia.webdriver.common.core.elemnt.Wait;
-
 import com.wikia.webdriver.pageobjectsfactory.pageobject.BasePageObject;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
 
@@ -36,16 +32,8 @@ public class ArticlePageObject extends BasePageObject {
   @FindBy(css = ".masthead-avatar")
   private WebElement userAvatar;
 
-  private Wait wait;
-  private WebDriver driver;
-  private JavascriptActions jsActions;
-
   public ArticlePageObject(WebDriver driver) {
-    this.wait = new Wait(driver);
-    this.driver = driver;
-    this.jsActions = new JavascriptActions(driver);
-
-    PageFactory.initElements(driver, this);
+    super(driver);
   }
 
   public void clickTopContributor(int index) {
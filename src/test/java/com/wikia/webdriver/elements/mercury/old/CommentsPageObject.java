@@ -1,6 +1,7 @@
 package com.wikia.webdriver.elements.mercury.old;
 
 import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.core.elemnt.Wait;
 
 import org.openqa.selenium.By;
@@ -11,7 +12,6 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
 
@@ -56,7 +56,7 @@ public class CommentsPageObject {
     this.driver = driver;
     this.jsActions = new JavascriptActions(driver);
 
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public void clickCommentsHeader() {
@@ -1,12 +1,12 @@
 package com.wikia.webdriver.elements.mercury.old;
 
 import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.core.elemnt.Wait;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
 
@@ -24,7 +24,7 @@ public class GalleryComponentObject {
     this.wait = new Wait(driver);
     this.jsActions = new JavascriptActions(driver);
 
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public LightboxComponentObject clickGalleryImage(int index) {
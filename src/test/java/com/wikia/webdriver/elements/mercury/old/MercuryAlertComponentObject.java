@@ -1,10 +1,10 @@
 package com.wikia.webdriver.elements.mercury.old;
 
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.core.elemnt.Wait;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
 
 public class MercuryAlertComponentObject {
   private Wait wait;
@@ -15,7 +15,7 @@ public class MercuryAlertComponentObject {
     this.wait = new Wait(driver);
     this.alertMessage = message.getMessage();
 
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public void setAlertMessage(AlertMessage message) {
@@ -1,11 +1,11 @@
 package com.wikia.webdriver.elements.mercury.old.curatedcontent.imageupload;
 
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.core.elemnt.Wait;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class UploadImageModalComponentObject {
 
@@ -25,7 +25,7 @@ public class UploadImageModalComponentObject {
     this.driver = driver;
     this.wait = new Wait(driver);
 
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public SearchForImagePageObject clickSearchForImageButton() {
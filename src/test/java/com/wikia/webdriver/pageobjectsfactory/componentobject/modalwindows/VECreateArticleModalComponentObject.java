@@ -1,12 +1,12 @@
 package com.wikia.webdriver.pageobjectsfactory.componentobject.modalwindows;
 
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.WikiBasePageObject;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class VECreateArticleModalComponentObject extends WikiBasePageObject {
 
@@ -21,7 +21,7 @@ public class VECreateArticleModalComponentObject extends WikiBasePageObject {
 
   public VECreateArticleModalComponentObject(WebDriver driver) {
     super();
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public void createPage() {
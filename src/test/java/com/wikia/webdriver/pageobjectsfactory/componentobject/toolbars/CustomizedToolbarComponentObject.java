@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 public class CustomizedToolbarComponentObject extends WikiBasePageObject {
 
@@ -241,8 +242,8 @@ public class CustomizedToolbarComponentObject extends WikiBasePageObject {
   }
 
   public void openMoreMenu() {
-   jsActions.execute("$('.overflow-menu').mouseover();");
-    wait.forElementVisible(By.cssSelector(".overflow-menu > .tools-menu"));
+    jsActions.execute("$('.overflow-menu').mouseover();", ExpectedConditions
+        .visibilityOfElementLocated(By.cssSelector(".overflow-menu > .tools-menu")));
     PageObjectLogging.log("openMoreMenu", "more menu opened", true);
   }
 
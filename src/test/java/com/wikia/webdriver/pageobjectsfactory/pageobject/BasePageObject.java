@@ -5,10 +5,13 @@ import com.wikia.webdriver.common.contentpatterns.URLsContent;
 import com.wikia.webdriver.common.contentpatterns.XSSContent;
 import com.wikia.webdriver.common.core.Assertion;
 import com.wikia.webdriver.common.core.CommonExpectedConditions;
+import com.wikia.webdriver.common.core.DomSnapshot;
 import com.wikia.webdriver.common.core.EmailUtils;
 import com.wikia.webdriver.common.core.WikiaWebDriver;
 import com.wikia.webdriver.common.core.configuration.Configuration;
+import com.wikia.webdriver.common.core.elemnt.ElementProvenance;
 import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.common.core.elemnt.Wait;
 import com.wikia.webdriver.common.core.purge.PurgeMethod;
 import com.wikia.webdriver.common.core.url.Page;
@@ -22,7 +25,6 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -41,18 +43,32 @@ public class BasePageObject {
   public final Wait wait;
   public WebDriverWait waitFor;
   public Actions builder;
-  protected WikiaWebDriver driver = DriverProvider.getActiveDriver();
+  protected WikiaWebDriver driver;
   protected int timeOut = 15;
   protected UrlBuilder urlBuilder = new UrlBuilder();
   protected JavascriptActions jsActions;
 
   public BasePageObject() {
-    this.waitFor = new WebDriverWait(driver, timeOut);
-    this.builder = new Actions(driver);
-    this.wait = new Wait(driver);
-    this.jsActions = new JavascriptActions(driver);
+    this(DriverProvider.getActiveDriver());
+  }
+
+  /**
+   * Page object bound to the given browser instead of the active one
+   *
+   * @param driver browser started by {@link DriverProvider}
+   */
+  public BasePageObject(WebDriver driver) {
+    if (driver != null && !(driver instanceof WikiaWebDriver)) {
+      throw new IllegalArgumentException("Page objects need a browser started by DriverProvider");
+    }
+    this.driver = (WikiaWebDriver) driver;
+    PageObjectHelpers helpers = PageObjectHelpers.forDriver(this.driver, timeOut);
+    this.waitFor = helpers.waitFor;
+    this.builder = new Actions(this.driver);
+    this.wait = helpers.wait;
+    this.jsActions = helpers.jsActions;
 
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public static String getTimeStamp() {
@@ -93,6 +109,13 @@ public class BasePageObject {
     return this;
   }
 
+  /**
+   * Snapshot of the page DOM for read only checks, answered without a remote call each
+   */
+  protected DomSnapshot getDomSnapshot() {
+    return driver.getDomSnapshot();
+  }
+
   /**
    * Simple method for checking if element is on page or not. Changing the implicitWait value allows
    * us no need for waiting 30 seconds
@@ -173,7 +196,7 @@ public class BasePageObject {
    * @param element to be clicked on
    */
   protected void waitAndClick(WebElement element) {
-    wait.forElementClickable(element).click();
+    ElementProvenance.click(wait.forElementClickable(element));
   }
 
   /**
@@ -227,14 +250,12 @@ public class BasePageObject {
 
   protected void scrollAndClick(WebElement element) {
     jsActions.scrollElementIntoViewPort(element);
-    wait.forElementClickable(element, 5);
-    element.click();
+    ElementProvenance.click(wait.forElementClickable(element, 5));
   }
 
   protected void scrollAndClick(List<WebElement> elements, int index) {
     jsActions.scrollElementIntoViewPort(elements.get(index));
-    wait.forElementClickable(elements, index, 5);
-    elements.get(index).click();
+    ElementProvenance.click(wait.forElementClickable(elements, index, 5));
   }
 
   protected void scrollAndClick(WebElement element, int offset) {
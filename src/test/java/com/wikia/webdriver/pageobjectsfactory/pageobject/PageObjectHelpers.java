@@ -0,0 +1,38 @@
+package com.wikia.webdriver.pageobjectsfactory.pageobject;
+
+import com.wikia.webdriver.common.core.WikiaWebDriver;
+import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
+import com.wikia.webdriver.common.core.elemnt.Wait;
+
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Helpers used by page objects, created once per driver and shared by all page objects using it.
+ * Drivers are used by one thread at a time, so each thread keeps helpers of the driver it used
+ * last. Actions builder is not shared, it collects actions until they are performed.
+ */
+class PageObjectHelpers {
+
+  private static final ThreadLocal<PageObjectHelpers> CURRENT = new ThreadLocal<>();
+
+  private final WikiaWebDriver driver;
+  final Wait wait;
+  final WebDriverWait waitFor;
+  final JavascriptActions jsActions;
+
+  private PageObjectHelpers(WikiaWebDriver driver, int timeOut) {
+    this.driver = driver;
+    this.wait = new Wait(driver);
+    this.waitFor = new WebDriverWait(driver, timeOut);
+    this.jsActions = new JavascriptActions(driver);
+  }
+
+  static PageObjectHelpers forDriver(WikiaWebDriver driver, int timeOut) {
+    PageObjectHelpers helpers = CURRENT.get();
+    if (helpers == null || helpers.driver != driver) {
+      helpers = new PageObjectHelpers(driver, timeOut);
+      CURRENT.set(helpers);
+    }
+    return helpers;
+  }
+}
@@ -608,7 +608,7 @@ public class WikiBasePageObject extends BasePageObject {
     String request =
       "$.ajax('" + getWikiUrl() + "wikia.php?controller=Videos&method=addVideo&format=json', {"
         + "data: {url: '" + videoURL + "'}," + "type: 'POST' } );";
-    jsActions.execute(request);
+    jsActions.execute(request, "$.active === 0");
   }
 
   public void verifyVEPublishComplete() {
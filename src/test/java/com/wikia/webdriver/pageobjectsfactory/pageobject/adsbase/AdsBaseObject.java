@@ -3,6 +3,7 @@ package com.wikia.webdriver.pageobjectsfactory.pageobject.adsbase;
 import com.wikia.webdriver.common.contentpatterns.AdsContent;
 import com.wikia.webdriver.common.core.Assertion;
 import com.wikia.webdriver.common.core.CommonExpectedConditions;
+import com.wikia.webdriver.common.core.ScriptCondition;
 import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.WikiBasePageObject;
@@ -497,7 +498,7 @@ public class AdsBaseObject extends WikiBasePageObject {
   public void waitForElementToHaveSize(int width, int height, WebElement element) {
     changeImplicitWait(250, TimeUnit.MILLISECONDS);
     try {
-      waitFor.until(CommonExpectedConditions.elementToHaveSize(element, width, height));
+      waitFor.until(ScriptCondition.size(element, width, height));
     } finally {
       restoreDefaultImplicitWait();
     }
@@ -602,11 +603,37 @@ public class AdsBaseObject extends WikiBasePageObject {
 
     if (StringUtils.isNotEmpty(javaScriptTrigger)) {
       jsActions.execute(javaScriptTrigger);
+      waitForSlotResult(slotName);
     }
 
     return this;
   }
 
+  /**
+   * Wait until the triggered slot is filled or collapsed, slots which never get a result are
+   * logged and left for the caller to verify
+   */
+  private void waitForSlotResult(String slotName) {
+    final String slotSelector = AdsContent.getSlotSelector(slotName);
+    try {
+      new WebDriverWait(driver, SLOT_TRIGGER_TIMEOUT_SEC).until(new ExpectedCondition<Boolean>() {
+        @Override
+        public Boolean apply(WebDriver driver) {
+          return (Boolean) ((JavascriptExecutor) driver).executeScript(
+              "var slot = document.querySelector(arguments[0]);"
+              + "return slot !== null && slot.hasAttribute('data-slot-result');", slotSelector);
+        }
+
+        @Override
+        public String toString() {
+          return "result of slot " + slotSelector;
+        }
+      });
+    } catch (TimeoutException e) {
+      PageObjectLogging.log("waitForSlotResult", "Slot " + slotName + " got no result", true);
+    }
+  }
+
   public void verifyExpandedAdVisibleInSlot(String slotSelector, WebElement slot) {
     waitForSlotExpanded(slot);
 
@@ -1,6 +1,7 @@
 package com.wikia.webdriver.pageobjectsfactory.pageobject.adsbase;
 
 import com.wikia.webdriver.common.core.Assertion;
+import com.wikia.webdriver.common.core.ElementSnapshot;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import org.openqa.selenium.*;
 
@@ -55,11 +56,13 @@ public class AdsRecoveryObject extends AdsBaseObject {
 
   public List<WebElement> getRecoveredAds(By spansBodyChildrenSelector) {
     String firstSpanClass = driver.findElement(spansBodyChildrenSelector).getAttribute("class");
-    return driver
-        .findElements(By.cssSelector("body>span." + firstSpanClass))
+    return ElementSnapshot.query()
+        .styles("background")
+        .take(driver, By.cssSelector("body>span." + firstSpanClass))
         .stream()
-        .filter(WebElement::isDisplayed)
+        .filter(ElementSnapshot::isDisplayed)
         .filter(e -> e.getCssValue("background").contains("data:image/jpeg"))
+        .map(ElementSnapshot::getElement)
         .collect(Collectors.toList());
   }
 
@@ -3,6 +3,7 @@ package com.wikia.webdriver.pageobjectsfactory.pageobject.adsbase.helpers;
 import com.wikia.webdriver.common.core.elemnt.JavascriptActions;
 import com.wikia.webdriver.common.core.imageutilities.ImageComparison;
 import com.wikia.webdriver.common.core.imageutilities.ImageEditor;
+import com.wikia.webdriver.common.core.imageutilities.ScreenshotProfile;
 import com.wikia.webdriver.common.core.imageutilities.Shooter;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 
@@ -44,7 +45,7 @@ public class AdsComparison {
   }
 
   private void changeOpacity(String selector, int value, WebDriver driver) {
-    PageObjectLogging.log("CSS selector", selector, true, driver);
+    PageObjectLogging.log("CSS selector", selector, true, driver, ScreenshotProfile.FULL);
     JavascriptActions javascriptActions = new JavascriptActions(driver);
     javascriptActions.changeElementOpacity(selector, value);
   }
@@ -62,7 +63,8 @@ public class AdsComparison {
                              final WebDriver driver) {
     hideSlot(selector, driver);
     final BufferedImage backgroundImg = shooter.takeScreenshot(element, driver);
-    PageObjectLogging.log("ScreenshotsComparison", "Background image in " + selector, true, driver);
+    PageObjectLogging.log("ScreenshotsComparison", "Background image in " + selector, true, driver,
+        ScreenshotProfile.FULL);
     showSlot(selector, driver);
     try {
       WebDriverWait wait = new WebDriverWait(driver, AD_TIMEOUT_SEC);
@@ -112,7 +114,8 @@ public class AdsComparison {
           "verifyColorAd",
           "At least " + IMAGES_THRESHOLD_PERCENT + " percents of Ad has " + color,
           true,
-          driver
+          driver,
+          ScreenshotProfile.FULL
       );
     } else {
       throw new NoSuchElementException(
@@ -5,6 +5,7 @@ import com.wikia.webdriver.common.contentpatterns.URLsContent;
 import com.wikia.webdriver.common.contentpatterns.WikiaGlobalVariables;
 import com.wikia.webdriver.common.core.Assertion;
 import com.wikia.webdriver.common.core.configuration.Configuration;
+import com.wikia.webdriver.common.core.interactions.Typing;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.componentobject.gallery.GalleryBuilderComponentObject;
 import com.wikia.webdriver.pageobjectsfactory.componentobject.photo.PhotoAddComponentObject;
@@ -205,7 +206,7 @@ public class SourceEditModePageObject extends EditMode {
 
   public SourceEditModePageObject addContentInSourceMode(String content) {
     wait.forElementVisible(sourceModeTextArea);
-    sourceModeTextArea.sendKeys(content);
+    Typing.type(sourceModeTextArea, content, Typing.Mode.JS_VALUE);
     PageObjectLogging.log("addContent", "the following content was added: " + content, true);
     return this;
   }
@@ -323,7 +324,7 @@ public class SourceEditModePageObject extends EditMode {
 
   private void appendContent(String content) {
     wait.forElementVisible(sourceModeTextArea);
-    sourceModeTextArea.sendKeys(content);
+    Typing.type(sourceModeTextArea, content, Typing.Mode.JS_VALUE);
     PageObjectLogging.log("appendContent", "text: '" + content + "', added to the source mode",
         true);
   }
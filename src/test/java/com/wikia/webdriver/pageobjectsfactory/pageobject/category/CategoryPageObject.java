@@ -1,19 +1,13 @@
 package com.wikia.webdriver.pageobjectsfactory.pageobject.category;
 
-import java.util.List;
-
-import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.FindBy;
 
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.WikiBasePageObject;
 
 public class CategoryPageObject extends WikiBasePageObject {
 
-  @FindBy(css = ".category-gallery-item")
-  private List<WebElement> categoryGalleryItems;
+  private static final String CATEGORY_GALLERY_ITEMS_CSS = ".category-gallery-item";
 
   public String getCategoryPageTitle() {
     wait.forElementVisible(this.articleTitle);
@@ -30,10 +24,10 @@ public class CategoryPageObject extends WikiBasePageObject {
    * @return
    */
   public String getImageURLFromGallery(String articleName) {
-    return categoryGalleryItems.stream()
-        .filter(page -> page.findElement(By.cssSelector("a")).getAttribute("title").equals(articleName))
+    return getDomSnapshot().select(CATEGORY_GALLERY_ITEMS_CSS).stream()
+        .filter(page -> page.select("a").attr("title").equals(articleName))
         .findFirst()
-        .map(page -> page.findElement(By.cssSelector("img")).getAttribute("src"))
+        .map(page -> page.select("img").first().absUrl("src"))
         .orElseThrow(() -> new NoSuchElementException(String.format("Could not find article with name %s", articleName)));
   }
 }
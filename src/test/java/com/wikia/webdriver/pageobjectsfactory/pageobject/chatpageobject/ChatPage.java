@@ -2,6 +2,7 @@ package com.wikia.webdriver.pageobjectsfactory.pageobject.chatpageobject;
 
 import com.wikia.webdriver.common.contentpatterns.URLsContent;
 import com.wikia.webdriver.common.core.Assertion;
+import com.wikia.webdriver.common.core.interactions.Typing;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.WikiBasePageObject;
 import org.openqa.selenium.*;
@@ -413,7 +414,7 @@ public class ChatPage extends WikiBasePageObject {
 
   public void writeOnChat(String message) {
     wait.forElementVisible(chatLoadedIndicator);
-    messageWritingArea.sendKeys(message);
+    Typing.type(messageWritingArea, message, Typing.Mode.CHUNKED);
     new Actions(driver).sendKeys(messageWritingArea, Keys.ENTER).perform();
   }
 
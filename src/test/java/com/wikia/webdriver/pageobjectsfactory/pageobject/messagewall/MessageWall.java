@@ -145,7 +145,7 @@ public class MessageWall extends WikiBasePageObject {
   public void setTitle(String title) {
     driver.switchTo().defaultContent();
     messageTitleField.clear();
-    Typing.sendKeysHumanSpeed(messageTitleField, title);
+    Typing.type(messageTitleField, title);
     wait.forAttributeToContain(messageTitleField, "value", title);
     PageObjectLogging.log("writeTitle", "title written",
         messageTitleField.getAttribute("value").equals(title));
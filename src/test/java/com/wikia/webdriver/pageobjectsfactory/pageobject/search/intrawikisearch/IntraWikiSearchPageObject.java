@@ -2,11 +2,11 @@ package com.wikia.webdriver.pageobjectsfactory.pageobject.search.intrawikisearch
 
 import com.wikia.webdriver.common.contentpatterns.URLsContent;
 import com.wikia.webdriver.common.core.Assertion;
+import com.wikia.webdriver.common.core.DomSnapshot;
 import com.wikia.webdriver.common.logging.PageObjectLogging;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.SearchPageObject;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoSuchElementException;
@@ -35,16 +35,15 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
   @FindBy(css = "[name=rank]")
   private WebElement sortingOptions;
   private static final String TITLES_CSS = ".Results article h1 .result-link";
+  private static final String DESCRIPTIONS_CSS = ".Results article";
+  private static final String URLS_CSS = ".Results article li > a";
+  private static final String THUMBNAILS_IMAGES_CSS = ".Results .image";
   @FindBy(css = TITLES_CSS)
   private List<WebElement> titles;
   @FindBy(css = ".Results article img")
   private List<WebElement> images;
   @FindBy(css = ".Results article a img")
   private List<WebElement> videoImages;
-  @FindBy(css = ".Results article")
-  private List<WebElement> descriptions;
-  @FindBy(css = ".Results article li > a")
-  private List<WebElement> urls;
   @FindBy(css = ".SearchInput .grid-1.alpha")
   private WebElement searchHeadline;
   @FindBy(css = ".search-tabs.grid-1.alpha")
@@ -65,7 +64,7 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
   private List<WebElement> advancedOptions;
   @FindBy(css = "#AdvancedSearch label input")
   private List<WebElement> advancedOptionInputs;
-  @FindBy(css = ".Results .image")
+  @FindBy(css = THUMBNAILS_IMAGES_CSS)
   private List<WebElement> thumbnailsImages;
   @FindBy(css = ".Results a.image.video.lightbox")
   private List<WebElement> thumbnailsVideos;
@@ -138,10 +137,11 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
 
   public void verifyFirstResult(String query) {
     Assertion.assertStringContains(firstResult.getText(), query.replaceAll("_", " "));
-    for (WebElement elem : descriptions) {
-      Assertion.assertTrue(!elem.getText().isEmpty());
+    DomSnapshot dom = getDomSnapshot();
+    for (String description : dom.getTexts(DESCRIPTIONS_CSS)) {
+      Assertion.assertTrue(!description.isEmpty());
     }
-    Assertion.assertEquals(titles.size(), urls.size());
+    Assertion.assertEquals(dom.count(TITLES_CSS), dom.count(URLS_CSS));
   }
 
   public void verifyFirstResultExtension(String query) {
@@ -175,7 +175,7 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
   }
 
   public void verifyResultsCount(int i) {
-    Assertion.assertNumber(titles.size(), i, "checking results count");
+    Assertion.assertNumber(getDomSnapshot().count(TITLES_CSS), i, "checking results count");
   }
 
   public void clickAdvancedButton() {
@@ -273,11 +273,11 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
   }
 
   public void verifyAllResultsImages(int numberOfResults) {
-    Assertion.assertEquals(numberOfResults, thumbnailsImages.size());
+    Assertion.assertEquals(numberOfResults, getDomSnapshot().count(THUMBNAILS_IMAGES_CSS));
   }
 
   public void verifyAllResultsVideos(int numberOfResults) {
-    Assertion.assertEquals(numberOfResults, thumbnailsVideos.size());
+    Assertion.assertEquals(numberOfResults, getDomSnapshot().count(thumbnailsVideosGroup));
   }
 
   public void selectVideosOnly() {
@@ -286,8 +286,8 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
   }
 
   public void verifyTitlesNotEmpty() {
-    for (WebElement elem : titles) {
-      Assertion.assertNotNull(elem.getText());
+    for (String title : getDomSnapshot().getTexts(TITLES_CSS)) {
+      Assertion.assertNotNull(title);
     }
   }
 
@@ -313,9 +313,7 @@ public class IntraWikiSearchPageObject extends SearchPageObject {
   }
 
   public List<String> getTitles() {
-    return titles.stream()
-        .map(WebElement::getText)
-        .collect(Collectors.toList());
+    return getDomSnapshot().getTexts(TITLES_CSS);
   }
 
   public void compareTitleListsNotEquals(List<String> titles1, List<String> titles2) {
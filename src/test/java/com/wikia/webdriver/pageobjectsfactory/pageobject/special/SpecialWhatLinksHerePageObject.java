@@ -1,9 +1,10 @@
 package com.wikia.webdriver.pageobjectsfactory.pageobject.special;
 
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
+
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 import java.util.List;
 
@@ -19,7 +20,7 @@ public class SpecialWhatLinksHerePageObject extends SpecialPageObject {
 
   public SpecialWhatLinksHerePageObject(WebDriver driver) {
     super();
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public SpecialWhatLinksHerePageObject clickShowButton() {
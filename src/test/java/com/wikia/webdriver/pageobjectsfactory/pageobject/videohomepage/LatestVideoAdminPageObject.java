@@ -1,11 +1,11 @@
 package com.wikia.webdriver.pageobjectsfactory.pageobject.videohomepage;
 
+import com.wikia.webdriver.common.core.elemnt.PageElementFactory;
 import com.wikia.webdriver.pageobjectsfactory.pageobject.WikiBasePageObject;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class LatestVideoAdminPageObject extends WikiBasePageObject {
 
@@ -15,7 +15,7 @@ public class LatestVideoAdminPageObject extends WikiBasePageObject {
 
   public LatestVideoAdminPageObject(WebDriver driver) {
     super();
-    PageFactory.initElements(driver, this);
+    PageElementFactory.initElements(driver, this);
   }
 
   public FeaturedVideoAdminPageObject clickFeaturedTab(WebDriver driver) {
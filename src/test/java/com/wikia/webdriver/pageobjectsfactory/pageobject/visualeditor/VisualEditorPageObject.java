@@ -99,7 +99,9 @@ public class VisualEditorPageObject extends VisualEditorMenu {
   }
 
   private void deleteMediaNode() {
-    jsActions.execute("$(\"figure\").trigger($.Event(\"keydown\", {keyCode: 46}))");
+    Number mediaCount = (Number) jsActions.execute("$('figure.ve-ce-branchNode').length");
+    jsActions.execute("$(\"figure\").trigger($.Event(\"keydown\", {keyCode: 46}))",
+        "$('figure.ve-ce-branchNode').length < " + mediaCount);
   }
 
   public void typeTextArea(String text) {
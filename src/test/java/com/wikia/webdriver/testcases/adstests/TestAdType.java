@@ -16,7 +16,7 @@ public class TestAdType extends TemplateNoFirstLoad {
   )
   public void adsAdTypeCollapse(String wikiName, String article, String adUnit, String[] slots) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject ads = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), testedPage);
 
     for (String slotName : slots) {
       ads.verifyGptIframe(adUnit, slotName, "gpt");
@@ -22,7 +22,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
   public void adsAdTypeAsyncSuccessWithAd(String wikiName, String article, String adUnit,
                                           String slotName, String imgUrl) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.waitForSlot(slotName);
     ads.verifyGptIframe(adUnit, slotName, SRC);
     ads.verifyImgAdLoadedInSlot(slotName, imgUrl);
@@ -36,7 +36,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
   public void adsAdTypeAsyncHopWithoutAd(String wikiName, String article, String adUnit,
                                        String slotName) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.wait.forElementPresent(By.id(slotName));
     ads.verifyGptIframe(adUnit, slotName, SRC);
     ads.verifyNoAdInSlot(slotName);
@@ -50,7 +50,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
   public void adsAdTypeAsyncSuccessNoAd(String wikiName, String article, String adUnit,
                                               String slotName) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.wait.forElementPresent(By.id(slotName));
     ads.verifyGptIframe(adUnit, slotName, SRC);
     ads.verifySlotExpanded(slotName);
@@ -64,7 +64,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
   public void adsAdTypeAsyncHopWithAd(String wikiName, String article, String adUnit,
                                            String slotName) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.wait.forElementPresent(By.id(slotName));
     ads.verifyGptIframe(adUnit, slotName, SRC);
     ads.verifyNoAdInSlot(slotName);
@@ -80,7 +80,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
       String slotNameWithoutAd
   ) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.wait.forElementPresent(By.id(slotNameWithAd));
     ads.wait.forElementPresent(By.id(slotNameWithoutAd));
     ads.verifyGptIframe(adUnit, slotNameWithAd, SRC);
@@ -97,7 +97,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
   public void adsAdTypeAsyncForcedSuccess(String wikiName, String article, String adUnit,
                                                String slotName) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.waitForSlot(slotName);
     ads.verifyGptIframe(adUnit, slotName, SRC);
     ads.verifySlotExpanded(slotName);
@@ -111,7 +111,7 @@ public class TestAdTypeMobile extends MobileTestTemplate {
   public void adsAdTypeInspectIframe(String wikiName, String article, String adUnit,
                                                  String slotName, String imgUrl) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.wait.forElementPresent(By.id(slotName));
     ads.verifyGptIframe(adUnit, slotName, SRC);
     ads.verifyImgAdLoadedInSlot(slotName, imgUrl);
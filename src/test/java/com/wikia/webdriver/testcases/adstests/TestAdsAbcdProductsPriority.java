@@ -23,7 +23,7 @@ public class TestAdsAbcdProductsPriority extends TemplateNoFirstLoad {
       groups = {"AdsAppNexusVideoAdIsDisplayedIfAbcdAdIsTargetedOnThisSameArticleOasis", "AbcdProductPriorityOasis"}
   )
   public void adsAppNexusVideoAdIsDisplayedIfAbcdAdIsTargetedOnThisSameArticleOasis() {
-    AdsBaseObject ads = new AdsBaseObject(driver, urlBuilder.appendQueryStringToURL(TEST_PAGE.getUrl(), DEBUG_QUERY_STRING));
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), urlBuilder.appendQueryStringToURL(TEST_PAGE.getUrl(), DEBUG_QUERY_STRING));
 
     ads.scrollToSlot(AdsContent.TOP_LB);
     verifyAbcdAdIsNotDisplayed(ads);
@@ -36,7 +36,7 @@ public class TestAdsAbcdProductsPriority extends TemplateNoFirstLoad {
       groups = {"AdsAbcdAdIsDisplayedIfBidersAreDisabledOasis", "AbcdProductPriorityOasis"}
   )
   public void adsAbcdAdIsDisplayedIfBidersAreDisabledOasis() {
-    AdsBaseObject ads = new AdsBaseObject(driver, TEST_PAGE.getUrl());
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), TEST_PAGE.getUrl());
     verifyAbcdAdIsDisplayed(ads);
   }
 
@@ -44,7 +44,7 @@ public class TestAdsAbcdProductsPriority extends TemplateNoFirstLoad {
       groups = {"AdsUAPFamilyAdIsNotDisplayedOnFeaturedVideoPage", "AbcdProductPriorityOasis"}
   )
   public void adsUAPFamilyAdIsNotDisplayedOnFeaturedVideoPage() {
-    AdsBaseObject ads = new AdsBaseObject(driver, FV_PAGE.getUrl());
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), FV_PAGE.getUrl());
     verifyAbcdAdIsNotDisplayed(ads);
 
     Assert.assertTrue(ads.slotHasSize(AdsContent.TOP_LB, 728, 90));
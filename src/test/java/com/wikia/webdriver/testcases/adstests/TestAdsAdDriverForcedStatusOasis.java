@@ -19,7 +19,7 @@ public class TestAdsAdDriverForcedStatusOasis extends TemplateNoFirstLoad {
                                                   String article,
                                                   List<String> slots) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject ads = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), testedPage);
     ads.verifyForcedSuccessScriptInSlots(slots);
   }
 }
@@ -12,11 +12,11 @@ public class TestAdsBrowserError extends TemplateNoFirstLoad {
 
   @Test(groups = "AdsScrollHandlerBrowserError")
   public void adsScrollHandlerBrowserError() {
-    JavascriptActions jsActions = new JavascriptActions(driver);
+    JavascriptActions jsActions = new JavascriptActions(getDriver());
 
     String testPage = AdsDataProvider.UAP_PAGE.getUrl();
     testPage = urlBuilder.appendQueryStringToURL(testPage, "scrollhandler=1");
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver());
     adsBaseObject.getUrl(testPage);
 
     jsActions.addErrorListenerScript();
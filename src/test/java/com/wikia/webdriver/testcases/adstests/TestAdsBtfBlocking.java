@@ -30,7 +30,7 @@ public class TestAdsBtfBlocking extends TemplateNoFirstLoad {
     PageObjectLogging.log("$wgAdDriverDelayBelowTheFold", String.valueOf(isWgVarOn), true);
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, DESKTOP_PAGE_SIZE);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, DESKTOP_PAGE_SIZE);
     adsBaseObject.waitForPageLoadedWithGpt();
 
     Assertion.assertTrue(adsBaseObject.checkSlotOnPageLoaded(AdsContent.MEDREC), AdsContent.MEDREC);
@@ -57,7 +57,7 @@ public class TestAdsBtfBlocking extends TemplateNoFirstLoad {
     PageObjectLogging.log("$wgAdDriverDelayBelowTheFold", String.valueOf(isWgVarOn), true);
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, DESKTOP_PAGE_SIZE);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, DESKTOP_PAGE_SIZE);
     adsBaseObject.waitForPageLoadedWithGpt();
 
     Assertion.assertTrue(adsBaseObject.checkSlotOnPageLoaded(AdsContent.MEDREC));
@@ -91,7 +91,7 @@ public class TestAdsBtfBlocking extends TemplateNoFirstLoad {
     PageObjectLogging.log("$wgAdDriverDelayBelowTheFold", String.valueOf(isWgVarOn), true);
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, TABLET_PAGE_SIZE);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, TABLET_PAGE_SIZE);
     adsBaseObject.waitForPageLoadedWithGpt();
 
     Assertion.assertTrue(adsBaseObject.checkSlotOnPageLoaded(AdsContent.TOP_LB), AdsContent.TOP_LB);
@@ -110,7 +110,7 @@ public class TestAdsBtfBlocking extends TemplateNoFirstLoad {
     PageObjectLogging.log("$wgAdDriverDelayBelowTheFold", String.valueOf(isWgVarOn), true);
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, DESKTOP_PAGE_SIZE);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, DESKTOP_PAGE_SIZE);
     adsBaseObject.waitForPageLoadedWithGpt();
     adsBaseObject.scrollToPosition(ARTICLE_MIDDLE_SECTION_SELECTOR);
 
@@ -142,7 +142,7 @@ public class TestAdsBtfBlocking extends TemplateNoFirstLoad {
     PageObjectLogging.log("$wgAdDriverDelayBelowTheFold", String.valueOf(isWgVarOn), true);
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, MOBILE_SIZE);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, MOBILE_SIZE);
     adsBaseObject.waitForPageLoadedWithGpt();
 
     Assertion.assertTrue(adsBaseObject.checkSlotOnPageLoaded(AdsContent.MOBILE_AD_IN_CONTENT),
@@ -164,7 +164,7 @@ public class TestAdsBtfBlocking extends TemplateNoFirstLoad {
     PageObjectLogging.log("$wgAdDriverDelayBelowTheFold", String.valueOf(isWgVarOn), true);
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, MOBILE_SIZE);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, MOBILE_SIZE);
     adsBaseObject.waitForPageLoadedWithGpt();
 
     Assertion.assertTrue(adsBaseObject.checkSlotOnPageLoaded(AdsContent.MOBILE_TOP_LB),
@@ -41,13 +41,14 @@ public class TestAdsDetection extends NewTestTemplate {
   }
 
   private void assertPixelWithDetectionStatus(Page wiki, String urlParam, String pixelPattern) {
-    networkTrafficInterceptor.startIntercepting();
+    getNetworkTrafficInterceptor().startIntercepting();
 
     String url = urlBuilder.getUrlForPage(wiki);
     url = urlBuilder.appendQueryStringToURL(url, urlParam);
 
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, url);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), url);
 
-    adsBaseObject.wait.forSuccessfulResponseByUrlPattern(networkTrafficInterceptor, pixelPattern);
+    adsBaseObject.wait.forSuccessfulResponseByUrlPattern(getNetworkTrafficInterceptor(),
+        pixelPattern);
   }
 }
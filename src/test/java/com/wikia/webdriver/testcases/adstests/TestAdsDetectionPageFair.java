@@ -16,9 +16,9 @@ public class TestAdsDetectionPageFair extends TemplateNoFirstLoad {
       dataProvider = "adsDetectionPageFair"
   )
   public void adsDetectAdBlockPageFair(Page page) {
-    networkTrafficInterceptor.startIntercepting();
-    AdsPageFairObject adsBaseObject = new AdsPageFairObject(driver, page);
-    adsBaseObject.assertPageFairResponse(true, networkTrafficInterceptor);
+    getNetworkTrafficInterceptor().startIntercepting();
+    AdsPageFairObject adsBaseObject = new AdsPageFairObject(getDriver(), page);
+    adsBaseObject.assertPageFairResponse(true, getNetworkTrafficInterceptor());
   }
 
   @NetworkTrafficDump
@@ -28,8 +28,8 @@ public class TestAdsDetectionPageFair extends TemplateNoFirstLoad {
       dataProvider = "adsDetectionPageFair"
   )
   public void adsDetectNoAdBlockPageFair(Page page) {
-    networkTrafficInterceptor.startIntercepting();
-    AdsPageFairObject adsBaseObject = new AdsPageFairObject(driver, page);
-    adsBaseObject.assertPageFairResponse(false, networkTrafficInterceptor);
+    getNetworkTrafficInterceptor().startIntercepting();
+    AdsPageFairObject adsBaseObject = new AdsPageFairObject(getDriver(), page);
+    adsBaseObject.assertPageFairResponse(false, getNetworkTrafficInterceptor());
   }
 }
@@ -39,7 +39,7 @@ public class TestAdsDfpParamsPresentMercury extends MobileTestTemplate {
       testedPage = urlBuilder.appendQueryStringToURL(testedPage, queryString);
     }
 
-    AdsBaseObject ads = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), testedPage);
     ads.verifyGptIframe(adUnit, slot, SRC_MOBILE);
     ads.verifyGptParams(slot, pageParams, slotParams);
     ads.verifyGptAdInSlot(slot, LINE_ITEM_ID, CREATIVE_ID);
@@ -61,7 +61,7 @@ public class TestAdsDfpParamsPresentMercury extends MobileTestTemplate {
                                       List<String> pageParams,
                                       List<String> slotParams) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject ads = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), testedPage);
 
     ads.verifyGptIframe(adUnit, slot, SRC_MOBILE);
     ads.verifyGptParams(slot, pageParams, slotParams);
@@ -83,7 +83,7 @@ public class TestAdsDfpParamsPresentMercury extends MobileTestTemplate {
                                           String slot,
                                           List<String> pageParams,
                                           List<String> slotParams) {
-    AdsEvolveObject ads = new AdsEvolveObject(driver);
+    AdsEvolveObject ads = new AdsEvolveObject(getDriver());
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
     ads.enableEvolve(testedPage);
     ads.verifyGptIframe(dfpClientId, adUnit, slot);
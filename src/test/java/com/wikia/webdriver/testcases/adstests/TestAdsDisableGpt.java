@@ -50,7 +50,7 @@ public class TestAdsDisableGpt extends TemplateNoFirstLoad {
     if (StringUtils.isNotEmpty(instantGlobals)) {
       url = urlBuilder.appendQueryStringToURL(url, instantGlobals);
     }
-    new AdsBaseObject(driver, url)
+    new AdsBaseObject(getDriver(), url)
         .verifyProvidersChain(slotName, disasterProviders);
   }
 }
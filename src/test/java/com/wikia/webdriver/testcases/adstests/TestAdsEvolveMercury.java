@@ -18,7 +18,7 @@ public class TestAdsEvolveMercury extends TemplateNoFirstLoad {
           dataProvider = "evolveTestPage"
   )
   public void adsEvolveMercury(String wikiName, String article) {
-    AdsEvolveObject wikiPage = new AdsEvolveObject(driver);
+    AdsEvolveObject wikiPage = new AdsEvolveObject(getDriver());
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
     wikiPage.enableEvolve(testedPage);
     wikiPage.verifyEvolveCallMercury();
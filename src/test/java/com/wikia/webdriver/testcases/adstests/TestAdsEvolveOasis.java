@@ -11,7 +11,7 @@ public class TestAdsEvolveOasis extends TemplateNoFirstLoad {
   @UseUnstablePageLoadStrategy
   @Test(groups = "AdsEvolveOasis")
   public void adsEvolveOasis() {
-    AdsEvolveObject wikiPage = new AdsEvolveObject(driver);
+    AdsEvolveObject wikiPage = new AdsEvolveObject(getDriver());
     String testedPage = urlBuilder.getUrlForPath("project43", "SyntheticTests/Evolve");
     wikiPage.enableEvolve(testedPage);
     wikiPage.verifyEvolveInAdSlots();
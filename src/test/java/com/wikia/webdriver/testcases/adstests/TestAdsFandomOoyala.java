@@ -86,8 +86,8 @@ public class TestAdsFandomOoyala extends AdsFandomTestTemplate {
   }
 
   public void testOoyalaClickToPlayPreroll(AdsFandomObject adsFandom) {
-    Wait wait = new Wait(driver);
-    WebElement playButton = driver.findElement(PLAY_BUTTON_SELECTOR);
+    Wait wait = new Wait(getDriver());
+    WebElement playButton = getDriver().findElement(PLAY_BUTTON_SELECTOR);
 
     wait.forElementVisible(playButton);
     adsFandom.scrollToPosition(PLAYER_CONTAINER_SELECTOR);
@@ -95,17 +95,17 @@ public class TestAdsFandomOoyala extends AdsFandomTestTemplate {
 
     wait.forElementVisible(PLAYER_AD_SELECTOR);
     adsFandom.scrollToPosition(PLAYER_AD_SELECTOR);
-    verifyColorAd(driver.findElement(PLAYER_AD_SELECTOR), BLUE, AD_DURATION_SEC);
+    verifyColorAd(getDriver().findElement(PLAYER_AD_SELECTOR), BLUE, AD_DURATION_SEC);
     wait.forElementNotVisible(PLAYER_AD_SELECTOR);
   }
 
   public void testOoyalaAutoplayPreroll(AdsFandomObject adsFandom) {
-    Wait wait = new Wait(driver);
+    Wait wait = new Wait(getDriver());
 
     wait.forElementVisible(AUTOPLAY_PLAYERER_AD_SELECTOR);
     adsFandom.scrollToPosition(AUTOPLAY_PLAYERER_AD_SELECTOR);
     verifyColorAd(
-        driver.findElement(AUTOPLAY_PLAYERER_AD_SELECTOR),
+        getDriver().findElement(AUTOPLAY_PLAYERER_AD_SELECTOR),
         BLUE,
         AD_DURATION_SEC
     );
@@ -113,7 +113,7 @@ public class TestAdsFandomOoyala extends AdsFandomTestTemplate {
   }
 
   private void verifyColorAd(WebElement element, Color color, int duration) {
-    OoyalaPrerollAd ooyala = new OoyalaPrerollAd(driver);
+    OoyalaPrerollAd ooyala = new OoyalaPrerollAd(getDriver());
 
     ooyala.verifyColorAd(element, color, duration);
   }
@@ -24,7 +24,8 @@ public class TestAdsGptPageParam extends TemplateNoFirstLoad {
                                    String article,
                                    String gptPattern,
                                    Boolean paramShouldPresent) {
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, urlBuilder.getUrlForPath(wikiName, article));
+    AdsBaseObject wikiPage =
+        new AdsBaseObject(getDriver(), urlBuilder.getUrlForPath(wikiName, article));
     String gptPageParams = wikiPage.getGptPageParams(AdsContent.TOP_LB);
     if (paramShouldPresent) {
       Assertion.assertStringContains(gptPageParams, gptPattern);
@@ -47,7 +48,8 @@ public class TestAdsGptPageParam extends TemplateNoFirstLoad {
                                    String article,
                                    String gptPattern,
                                    Boolean paramShouldPresent) {
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, urlBuilder.getUrlForPath(wikiName, article));
+    AdsBaseObject wikiPage =
+        new AdsBaseObject(getDriver(), urlBuilder.getUrlForPath(wikiName, article));
     String gptPageParams = wikiPage.getGptPageParams(AdsContent.MOBILE_TOP_LB);
     if (paramShouldPresent) {
       Assertion.assertStringContains(gptPageParams, gptPattern);
@@ -19,7 +19,7 @@ public class TestAdsHopMercury extends TemplateNoFirstLoad {
                                        String providerName,
                                        String extraParam) {
 
-    AdsHopObject adsHopObject = new AdsHopObject(driver, urlBuilder.getUrlForPath(wikiName, article));
+    AdsHopObject adsHopObject = new AdsHopObject(getDriver(), urlBuilder.getUrlForPath(wikiName, article));
 
     adsHopObject.verifyClassHidden(AdsContent.MOBILE_TOP_LB, providerName);
     adsHopObject.verifyPostMessage(AdsContent.MOBILE_TOP_LB, providerName, extraParam);
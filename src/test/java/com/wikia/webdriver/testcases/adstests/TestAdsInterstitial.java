@@ -34,7 +34,7 @@ public class TestAdsInterstitial extends TemplateNoFirstLoad {
   }
 
   private void testInterstitial(Page page, Dimension adSize) throws InterruptedException {
-    AdsInterstitialObject adsInterstitial = new AdsInterstitialObject(driver);
+    AdsInterstitialObject adsInterstitial = new AdsInterstitialObject(getDriver());
     adsInterstitial.getUrl(page);
 
     adsInterstitial.waitForPageLoadedWithGpt();
@@ -38,7 +38,7 @@ public class TestAdsKruxIntegration extends TemplateNoFirstLoad {
                                   String kruxSiteId,
                                   String slotName) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsKruxObject ads = new AdsKruxObject(driver, testedPage);
+    AdsKruxObject ads = new AdsKruxObject(getDriver(), testedPage);
     ads.verifyKruxControlTag(kruxSiteId);
 
     // Second page view
@@ -19,7 +19,7 @@ public class TestAdsMonitoringOasis extends TemplateNoFirstLoad {
   )
   public void AdsMonitoringOasis(String wikiName, String path) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, path);
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, testedPage, BROWSER_DIMENSION);
+    AdsBaseObject wikiPage = new AdsBaseObject(getDriver(), testedPage, BROWSER_DIMENSION);
     wikiPage.verifyMedrec();
     wikiPage.verifyTopLeaderboard();
   }
@@ -19,7 +19,7 @@ public class TestAdsNoAdsForSony extends TemplateNoFirstLoad {
   )
   public void adsNoAdsForSonyOasis(String wikiName, String path) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, path);
-    SonySideViewObject sonyPage = new SonySideViewObject(driver);
+    SonySideViewObject sonyPage = new SonySideViewObject(getDriver());
     AdsBaseObject wikiPage = sonyPage.goToDestinationPage(testedPage);
 
     wikiPage.verifyNoAdsOnPage();
@@ -36,7 +36,7 @@ public class TestAdsNoAdsForSony extends TemplateNoFirstLoad {
   )
   public void adsNoAdsForSonyMobile(String wikiName, String path) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, path);
-    SonySideViewObject sonyPage = new SonySideViewObject(driver);
+    SonySideViewObject sonyPage = new SonySideViewObject(getDriver());
     AdsBaseObject wikiPage = sonyPage.goToDestinationPage(testedPage);
 
     wikiPage.verifyNoAdsOnMobilePage();
@@ -17,7 +17,7 @@ public class TestAdsNoAdsOnFreeWikisOasis extends TemplateNoFirstLoad {
   )
   public void testNoEvolveAdsOasis(String wikiName, String path) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, path);
-    AdsEvolveObject wikiPage = new AdsEvolveObject(driver);
+    AdsEvolveObject wikiPage = new AdsEvolveObject(getDriver());
     wikiPage.enableEvolve(testedPage);
     wikiPage.verifyNoAdsOnPage();
   }
@@ -29,7 +29,7 @@ public class TestAdsNoAdsOnFreeWikisOasis extends TemplateNoFirstLoad {
   )
   public void testNoAdsOasis(String wikiName, String path) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, path);
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject wikiPage = new AdsBaseObject(getDriver(), testedPage);
     wikiPage.verifyNoAdsOnPage();
   }
 
@@ -40,7 +40,7 @@ public class TestAdsNoAdsOnFreeWikisOasis extends TemplateNoFirstLoad {
   )
   public void testNoAdsMercury(String wikiName, String path) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, path);
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject wikiPage = new AdsBaseObject(getDriver(), testedPage);
     wikiPage.verifyNoAdsOnMobilePage();
   }
 }
@@ -23,7 +23,7 @@ public class TestAdsOnSpecial extends TemplateNoFirstLoad {
                                                 String prefooterSlot,
                                                 Dimension resolution) throws Exception {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject ads = new AdsBaseObject(driver, testedPage, resolution);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), testedPage, resolution);
 
     ads.verifyGptIframe(adUnit, leaderboardSlot, "gpt");
     ads.verifyGptAdInSlot(leaderboardSlot, lineItemId, "");
@@ -41,7 +41,7 @@ public class TestAdsOnSpecial extends TemplateNoFirstLoad {
                                              String medrecSlot,
                                              Dimension resolution) throws Exception {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject ads = new AdsBaseObject(driver, testedPage, resolution);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), testedPage, resolution);
 
     ads.verifyGptIframe(adUnit, leaderboardSlot, "gpt");
     ads.verifyGptAdInSlot(leaderboardSlot, lineItemId, "");
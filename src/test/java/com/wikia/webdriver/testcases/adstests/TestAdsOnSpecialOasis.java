@@ -37,7 +37,7 @@ public class TestAdsOnSpecialOasis extends TemplateNoFirstLoad {
 
   private AdsBaseObject buildAdsObjectForPage(String pageName) {
     String testedPage = urlBuilder.getUrlForPath("project43", pageName);
-    return new AdsBaseObject(driver, testedPage, new Dimension(1292, 1000));
+    return new AdsBaseObject(getDriver(), testedPage, new Dimension(1292, 1000));
   }
 
   private void verifySlotHasCorrectAd(
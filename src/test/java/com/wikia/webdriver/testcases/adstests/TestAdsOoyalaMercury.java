@@ -19,7 +19,7 @@ public class TestAdsOoyalaMercury extends TemplateNoFirstLoad {
   )
   public void adsOoyalaPrerollMercury(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.playLightboxVideo();
     wikiPage.verifyLightboxAd();
     wikiPage.verifyLightboxVideo();
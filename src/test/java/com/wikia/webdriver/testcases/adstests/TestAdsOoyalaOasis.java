@@ -15,7 +15,7 @@ public class TestAdsOoyalaOasis extends TemplateNoFirstLoad {
   )
   public void adsOoyalaPrerollOasis(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.verifyLightboxAd();
     wikiPage.verifyLightboxVideo();
   }
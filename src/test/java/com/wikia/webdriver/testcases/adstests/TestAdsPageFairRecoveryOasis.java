@@ -30,7 +30,7 @@ public class TestAdsPageFairRecoveryOasis extends TemplateNoFirstLoad {
   )
   public void adsRecoveryPageFairOasis() {
     String url = urlBuilder.getUrlForPath(WIKIA, getUrlArticlePageFairRecovery());
-    AdsRecoveryObject adsRecoveryObject = new AdsRecoveryObject(driver, url, DESKTOP_SIZE);
+    AdsRecoveryObject adsRecoveryObject = new AdsRecoveryObject(getDriver(), url, DESKTOP_SIZE);
 
     // when PF recovered ad is on page, inserts span elements as a direct children of body
     adsRecoveryObject.wait.forElementPresent(AdsRecoveryObject.PF_RECOVERED_ADS_SELECTOR);
@@ -53,7 +53,7 @@ public class TestAdsPageFairRecoveryOasis extends TemplateNoFirstLoad {
   )
   public void adsRecoveryNoAdblockPageFairOasis() {
     String url = urlBuilder.getUrlForPath(WIKIA, getUrlArticlePageFairRecovery());
-    AdsRecoveryObject adsRecoveryObject = new AdsRecoveryObject(driver, url, DESKTOP_SIZE);
+    AdsRecoveryObject adsRecoveryObject = new AdsRecoveryObject(getDriver(), url, DESKTOP_SIZE);
 
     adsRecoveryObject.verifyNumberOfAdonisMarkedSlots(2);
     adsRecoveryObject.triggerAdSlot(AdsContent.BOTTOM_LB)
@@ -69,7 +69,7 @@ public class TestAdsPageFairRecoveryOasis extends TemplateNoFirstLoad {
   @Execute(asUser = User.USER_2)
   public void adsRecoveryLoggedInPageFairOasis() {
     String url = urlBuilder.getUrlForPath(WIKIA, getUrlArticlePageFairRecovery());
-    AdsRecoveryObject adsRecoveryObject = new AdsRecoveryObject(driver, url, DESKTOP_SIZE);
+    AdsRecoveryObject adsRecoveryObject = new AdsRecoveryObject(getDriver(), url, DESKTOP_SIZE);
 
     adsRecoveryObject.verifyNumberOfAdonisMarkedSlots(0);
   }
@@ -32,7 +32,7 @@ public class TestAdsPrebid extends TemplateNoFirstLoad {
     String url = urlBuilder.getUrlForPath(wiki, article);
     url = urlBuilder.appendQueryStringToURL(url, "wikia_adapter=1881");
 
-    AdsPrebidObject prebidAds = new AdsPrebidObject(driver, url);
+    AdsPrebidObject prebidAds = new AdsPrebidObject(getDriver(), url);
 
     prebidAds.verifyKeyValues(AdsContent.TOP_LB, "wikia", "728x90", "18.50");
     prebidAds.verifyPrebidCreative(AdsContent.TOP_LB, true);
@@ -51,7 +51,7 @@ public class TestAdsPrebid extends TemplateNoFirstLoad {
     String url = urlBuilder.getUrlForPath(wiki, article);
     url = urlBuilder.appendQueryStringToURL(url, "wikia_adapter=831");
 
-    AdsPrebidObject prebidAds = new AdsPrebidObject(driver, url);
+    AdsPrebidObject prebidAds = new AdsPrebidObject(getDriver(), url);
 
     prebidAds.verifyKeyValues(AdsContent.MOBILE_TOP_LB, "wikia", "320x50", "8.30");
     prebidAds.verifyPrebidCreative(AdsContent.MOBILE_TOP_LB, true);
@@ -64,12 +64,12 @@ public class TestAdsPrebid extends TemplateNoFirstLoad {
       groups = "AdsPrebidVelesOasis"
   )
   public void adsPrebidVelesDisplayedInTopLeaderboard(String wiki, String article, Integer lineItemId) {
-    networkTrafficInterceptor.startIntercepting();
+    getNetworkTrafficInterceptor().startIntercepting();
     String url = urlBuilder.getUrlForPath(wiki, article);
-    AdsPrebidObject prebidAds = new AdsPrebidObject(driver, url);
+    AdsPrebidObject prebidAds = new AdsPrebidObject(getDriver(), url);
 
     prebidAds.verifyKeyValues(AdsContent.TOP_LB, "veles", "640x480", "20.00");
-    prebidAds.wait.forSuccessfulResponse(networkTrafficInterceptor, STARTED_EVENT);
+    prebidAds.wait.forSuccessfulResponse(getNetworkTrafficInterceptor(), STARTED_EVENT);
     prebidAds.verifyLineItemId(AdsContent.TOP_LB, lineItemId);
   }
 
@@ -80,15 +80,15 @@ public class TestAdsPrebid extends TemplateNoFirstLoad {
       groups = {"AdsPrebidOasis", "AdsPrebidRubiconOasis"}
   )
   public void adsPrebidRubiconRequestsInSlots(List<String> urlPaterns) {
-    networkTrafficInterceptor.startIntercepting();
-    AdsBaseObject ads = new AdsBaseObject(driver, TEST_PAGE.getUrl());
+    getNetworkTrafficInterceptor().startIntercepting();
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), TEST_PAGE.getUrl());
     Assertion.assertTrue(isRubiconRequestSendInAllSlots(ads, urlPaterns), "Lack of rubicon request in all slots");
   }
 
   private boolean isRubiconRequestSendInAllSlots(AdsBaseObject ads, List<String> urlPaterns) {
     try {
       for (String urlPatern : urlPaterns) {
-        ads.wait.forSuccessfulResponseByUrlPattern(networkTrafficInterceptor, urlPatern);
+        ads.wait.forSuccessfulResponseByUrlPattern(getNetworkTrafficInterceptor(), urlPatern);
         return true;
       }
     } catch (Exception ex) {
@@ -23,8 +23,8 @@ public class TestAdsPremiumPrerollMOATTracking extends TemplateNoFirstLoad {
       groups = {"AdsOoyalaPrerollOasis", "AdsPremiumPrerollMOATTrackingOasis"}
   )
   public void adsPremiumPrerollMOATTrackingOasis(String wikiName, String article) {
-    networkTrafficInterceptor.startIntercepting();
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver,
+    getNetworkTrafficInterceptor().startIntercepting();
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(),
         urlBuilder.getUrlForPath(wikiName, String.format(FEATURED_VIDEO_WITH_MOAT_PATH_FORMAT, article)));
 
     adsPremiumPrerollMOATTracking(wikiPage);
@@ -38,8 +38,8 @@ public class TestAdsPremiumPrerollMOATTracking extends TemplateNoFirstLoad {
       groups = {"AdsOoyalaPrerollMercury", "AdsPremiumPrerollMOATTrackingMobile"}
   )
   public void adsPremiumPrerollMOATTrackingMobile(String wikiName, String article) {
-    networkTrafficInterceptor.startIntercepting();
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver,
+    getNetworkTrafficInterceptor().startIntercepting();
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(),
         urlBuilder.getUrlForPath(wikiName, String.format(FEATURED_VIDEO_WITH_MOAT_PATH_FORMAT, article)));
 
     adsPremiumPrerollMOATTracking(wikiPage);
@@ -47,6 +47,6 @@ public class TestAdsPremiumPrerollMOATTracking extends TemplateNoFirstLoad {
 
   private void adsPremiumPrerollMOATTracking(AdsOoyalaObject ads) {
     ads.verifyPlayerOnPage();
-    ads.wait.forSuccessfulResponse(networkTrafficInterceptor, MOAT_VIDEO_TRACKING_URL);
+    ads.wait.forSuccessfulResponse(getNetworkTrafficInterceptor(), MOAT_VIDEO_TRACKING_URL);
   }
 }
@@ -19,7 +19,7 @@ public class TestAdsPremiumPrerollMercury extends TemplateNoFirstLoad {
   )
   public void adsPremiumPrerollMercury(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.verifyArticleAd();
     wikiPage.verifyMobileArticleVideo();
   }
@@ -31,7 +31,7 @@ public class TestAdsPremiumPrerollMercury extends TemplateNoFirstLoad {
   )
   public void adsPremiumPrerollMercuryNoAds(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article + "?noads=1");
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.verifyMobileArticleVideo();
   }
 
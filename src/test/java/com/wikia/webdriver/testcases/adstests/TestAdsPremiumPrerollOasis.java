@@ -24,7 +24,7 @@ public class TestAdsPremiumPrerollOasis extends TemplateNoFirstLoad {
   public void adsPremiumPrerollOasis(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
     testedPage = urlBuilder.globallyDisableGeoInstantGlobalOnPage(testedPage, INSTANT_GLOBAL_MEGA_AD_UNIT_BUILDER_FOR_FV);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.waitForAdStartsPlaying();
     wikiPage.verifyPlayerOnPage();
     wikiPage.verifyArticleAd();
@@ -39,7 +39,7 @@ public class TestAdsPremiumPrerollOasis extends TemplateNoFirstLoad {
   public void adsPremiumPrerollOasisNoAds(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article + "?noads=1");
     testedPage = urlBuilder.globallyDisableGeoInstantGlobalOnPage(testedPage, INSTANT_GLOBAL_MEGA_AD_UNIT_BUILDER_FOR_FV);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.verifyPlayerOnPage();
     wikiPage.verifyArticleVideo();
   }
@@ -50,7 +50,7 @@ public class TestAdsPremiumPrerollOasis extends TemplateNoFirstLoad {
   public void adsPremiumPrerollOasisWithSound() {
     String testedPage = PAGE_WITH_FV_PREROLL.getUrl();
     testedPage = urlBuilder.globallyDisableGeoInstantGlobalOnPage(testedPage, INSTANT_GLOBAL_MEGA_AD_UNIT_BUILDER_FOR_FV);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.waitForAdStartsPlaying();
     wikiPage.scrollToPlayer();
     wikiPage.clickVolumeButton();
@@ -64,7 +64,7 @@ public class TestAdsPremiumPrerollOasis extends TemplateNoFirstLoad {
   public void adsPremiumPrerollOasisWithoutSound() {
     String testedPage = PAGE_WITH_FV_PREROLL.getUrl();
     testedPage = urlBuilder.globallyDisableGeoInstantGlobalOnPage(testedPage, INSTANT_GLOBAL_MEGA_AD_UNIT_BUILDER_FOR_FV);
-    AdsOoyalaObject wikiPage = new AdsOoyalaObject(driver, testedPage);
+    AdsOoyalaObject wikiPage = new AdsOoyalaObject(getDriver(), testedPage);
     wikiPage.waitForAdStartsPlaying();
     wikiPage.allowToPlayVideoForSomeTime(Duration.ofSeconds(3));
     wikiPage.waitForAdFinish(AD_LENGTH);
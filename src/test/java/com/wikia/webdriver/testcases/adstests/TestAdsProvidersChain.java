@@ -47,7 +47,7 @@ public class TestAdsProvidersChain extends TemplateNoFirstLoad {
                                  Dimension browserDimension) {
     String url = urlBuilder.getUrlForPath(wikiName, article);
 
-    new AdsBaseObject(driver, url, browserDimension)
+    new AdsBaseObject(getDriver(), url, browserDimension)
         .verifyProvidersChain(slotName, providers);
   }
 }
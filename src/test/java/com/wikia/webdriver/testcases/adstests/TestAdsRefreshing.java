@@ -24,7 +24,7 @@ public class TestAdsRefreshing extends TemplateNoFirstLoad {
 
   @Test(groups = {"AdsRefreshingFMR"})
   public void floatingMR() {
-    AdsBaseObject page = new AdsBaseObject(driver, urlBuilder.getUrlForPath(WIKI_NAME, PATH), WindowSize.DESKTOP);
+    AdsBaseObject page = new AdsBaseObject(getDriver(), urlBuilder.getUrlForPath(WIKI_NAME, PATH), WindowSize.DESKTOP);
     scrollToSeeFMR(AdsContent.FLOATING_MEDREC, page);
     page.verifyAdChainForSlot(CREATIVE_ID_CHAIN, AdsContent.FLOATING_MEDREC, page);
   }
@@ -22,7 +22,7 @@ public class TestAdsRoadblocksAfterMultiplePageViewsOasis extends TemplateNoFirs
                                     String backgroundColor,
                                     String middleColor) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, testedPage, windowResolution);
+    AdsBaseObject wikiPage = new AdsBaseObject(getDriver(), testedPage, windowResolution);
     for (int i = 0; i < PAGE_VIEWS_COUNT; i++) {
       wikiPage.verifyTopLeaderboard();
       wikiPage.verifyMedrec();
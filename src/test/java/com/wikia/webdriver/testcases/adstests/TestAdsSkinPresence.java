@@ -49,7 +49,7 @@ public class TestAdsSkinPresence extends NewTestTemplate {
                           String middleColor) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
     PageObjectLogging.log("Window resolution: ", String.valueOf(resolution.width), true);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage, resolution);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage, resolution);
     adsBaseObject.verifySkin(expectedLeftSide,
                              expectedRightSide,
                              backgroundColor,
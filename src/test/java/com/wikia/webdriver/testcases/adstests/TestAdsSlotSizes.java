@@ -58,7 +58,7 @@ public class TestAdsSlotSizes extends TemplateNoFirstLoad {
 
     log(slotName, slotSize);
 
-    AdsBaseObject ads = new AdsBaseObject(driver, url, pageSize);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), url, pageSize);
 
     if (pageSize.equals(WindowSize.DESKTOP)) {
       // on desktop comments lazy loads - on mobile you need to tap to load them
@@ -33,7 +33,7 @@ public class TestAdsSlotsMercury extends MobileTestTemplate {
                                 String adUnit) {
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.verifyGptIframe(adUnit, MOBILE_TOP_LEADERBOARD, SRC);
     ads.verifyGptIframe(adUnit, MOBILE_IN_CONTENT, SRC);
     ads.scrollToPosition(ARTICLE_FOOTER);
@@ -55,7 +55,7 @@ public class TestAdsSlotsMercury extends MobileTestTemplate {
                                                 String adUnit) {
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.verifyGptIframe(adUnit, MOBILE_TOP_LEADERBOARD, SRC);
     ads.verifyGptIframe(adUnit, MOBILE_PREFOOTER, SRC);
     ads.verifyImgAdLoadedInSlot(MOBILE_TOP_LEADERBOARD, CREATIVE_IMAGE_URL);
@@ -73,7 +73,7 @@ public class TestAdsSlotsMercury extends MobileTestTemplate {
                                                 String adUnit) {
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.verifyGptIframe(adUnit, MOBILE_TOP_LEADERBOARD, SRC);
     ads.verifyGptIframe(adUnit, MOBILE_IN_CONTENT, SRC);
     ads.verifyImgAdLoadedInSlot(MOBILE_TOP_LEADERBOARD, CREATIVE_IMAGE_URL);
@@ -96,7 +96,7 @@ public class TestAdsSlotsMercury extends MobileTestTemplate {
                                               String adUnit) {
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     PortableInfobox infobox = new PortableInfobox();
 
     ads.waitForPageLoadedWithGpt();
@@ -128,7 +128,7 @@ public class TestAdsSlotsMercury extends MobileTestTemplate {
                                                  String adUnit) {
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
 
     ads.waitForPageLoadedWithGpt();
     ads.verifyGptIframe(adUnit, MOBILE_TOP_LEADERBOARD, SRC);
@@ -157,7 +157,7 @@ public class TestAdsSlotsMercury extends MobileTestTemplate {
                                                                 String adUnit) {
 
     String testedPage = urlBuilder.getUrlForPath(wikiName, firstArticle);
-    MobileAdsBaseObject ads = new MobileAdsBaseObject(driver, testedPage);
+    MobileAdsBaseObject ads = new MobileAdsBaseObject(getDriver(), testedPage);
     ads.verifyGptIframe(adUnit, MOBILE_TOP_LEADERBOARD, SRC);
     ads.verifyGptIframe(adUnit, MOBILE_PREFOOTER, SRC);
 
@@ -17,7 +17,7 @@ public class TestAdsSlotsOasis extends TemplateNoFirstLoad {
   )
   public void adsSmokeTestSlotsOasis() {
     String testedPage = urlBuilder.getUrlForPath("project43", "SyntheticTests/OasisSlots");
-    ads = new AdsBaseObject(driver, testedPage);
+    ads = new AdsBaseObject(getDriver(), testedPage);
     ads.waitForPageLoadedWithGpt();
 
     for (String slotName : AdsDataProvider.OASIS_SLOTS_TO_SMOKE_TEST) {
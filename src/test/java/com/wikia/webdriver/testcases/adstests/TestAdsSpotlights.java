@@ -17,7 +17,7 @@ public class TestAdsSpotlights extends TemplateNoFirstLoad {
   )
   public void adsSpotlightsOasis(String wikiName, String article) {
     String testedPage = urlBuilder.getUrlForPath(wikiName, article);
-    AdsBaseObject wikiPage = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject wikiPage = new AdsBaseObject(getDriver(), testedPage);
     wikiPage.scrollToPosition(WIKIA_FOOTER);
     wikiPage.verifySpotlights();
   }
@@ -31,16 +31,16 @@ public class TestAdsTrackingPixels extends NewTestTemplate {
   @Execute(mockAds = "true")
   public void adsTrackingPixelsOnConsecutivePages(Page page, String[] articles, String[] urls) {
     // Check tracking pixels on first page view
-    networkTrafficInterceptor.startIntercepting();
+    getNetworkTrafficInterceptor().startIntercepting();
 
     String testedPage = urlBuilder.getUrlForPage(page);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage);
 
     assertTrackingPixelsSent(adsBaseObject, urls);
 
     // Check tracking pixels on consecutive page views
     for (String linkName : articles) {
-      networkTrafficInterceptor.startIntercepting();
+      getNetworkTrafficInterceptor().startIntercepting();
 
       adsBaseObject.clickOnArticleLink(linkName);
 
@@ -57,10 +57,10 @@ public class TestAdsTrackingPixels extends NewTestTemplate {
       dataProvider = "adsTrackingPixelsSent"
   )
   public void adsTrackingPixelSent(String wiki, String urlParam, String[] pixelUrls) {
-    networkTrafficInterceptor.startIntercepting();
+    getNetworkTrafficInterceptor().startIntercepting();
 
     String testedPage = urlBuilder.getUrlForPath(wiki, urlParam);
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage);
 
     assertTrackingPixelsSent(adsBaseObject, pixelUrls);
   }
@@ -77,15 +77,15 @@ public class TestAdsTrackingPixels extends NewTestTemplate {
   )
   @DontRun(env = {"preview", "sandbox"})
   public void adsTrackingPixelSentAuthPage(String wiki, String page, String[] pixelUrls) {
-    networkTrafficInterceptor.startIntercepting();
+    getNetworkTrafficInterceptor().startIntercepting();
     String testedPage = urlBuilder.getUrlForWiki(wiki) + page;
-    AdsBaseObject adsBaseObject = new AdsBaseObject(driver, testedPage);
+    AdsBaseObject adsBaseObject = new AdsBaseObject(getDriver(), testedPage);
     assertTrackingPixelsSent(adsBaseObject, pixelUrls);
   }
 
   private void assertTrackingPixelsSent(AdsBaseObject adsBaseObject, String[] pixelUrls) {
     for (String pixelUrl : pixelUrls) {
-      adsBaseObject.wait.forSuccessfulResponse(networkTrafficInterceptor, pixelUrl);
+      adsBaseObject.wait.forSuccessfulResponse(getNetworkTrafficInterceptor(), pixelUrl);
     }
   }
 }
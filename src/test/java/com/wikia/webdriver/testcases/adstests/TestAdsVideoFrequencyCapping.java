@@ -21,7 +21,7 @@ public class TestAdsVideoFrequencyCapping extends NewTestTemplate {
       groups = "AdsVideoFrequencyCapping"
   )
   public void adsVideoFrequencyCapping(Page page) {
-    AdsBaseObject ads = new AdsBaseObject(driver, urlBuilder.getUrlForPage(page, INSTANT_GLOBAL_VELES_BIDDER_COUNTRIES));
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), urlBuilder.getUrlForPage(page, INSTANT_GLOBAL_VELES_BIDDER_COUNTRIES));
     ads.scrollToPosition("#Section_2.mw-headline");
     Assertion.assertTrue(isIncontentPlayerDispalyed(ads), "Video Player is not displayed");
     ads.refreshPage();
@@ -30,7 +30,7 @@ public class TestAdsVideoFrequencyCapping extends NewTestTemplate {
 
   private boolean isIncontentPlayerDispalyed(AdsBaseObject ads) {
     try {
-      ads.waitForSlotExpanded(driver.findElement(By.cssSelector("#INCONTENT_PLAYER")));
+      ads.waitForSlotExpanded(getDriver().findElement(By.cssSelector("#INCONTENT_PLAYER")));
       return true;
     }catch (TimeoutException | NoSuchElementException ex) {
       PageObjectLogging.log("INCONTENT_PLAYER is not displayed", ex, true);
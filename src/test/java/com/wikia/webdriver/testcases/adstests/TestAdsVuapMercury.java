@@ -26,8 +26,8 @@ public class TestAdsVuapMercury extends TemplateNoFirstLoad {
       groups = {"AdsVuapClickToPlayTopAreas"}
   )
   public void vuapCheckTopAreasMercury(Page page, String slot) {
-    AdsBaseObject ads = new AdsBaseObject(driver, page.getUrl());
-    final AutoplayVuap vuap = new AutoplayVuap(driver,
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), page.getUrl());
+    final AutoplayVuap vuap = new AutoplayVuap(getDriver(),
                                                slot,
                                                ads.findFirstIframeWithAd(slot),
                                                true
@@ -37,7 +37,7 @@ public class TestAdsVuapMercury extends TemplateNoFirstLoad {
     vuap.clickOnArea(1);
     vuap.clickOnArea(2);
 
-    List<String> tabs = new ArrayList<String>(driver.getWindowHandles());
+    List<String> tabs = new ArrayList<String>(getDriver().getWindowHandles());
     Assert.assertEquals(
         tabs.size(),
         3,
@@ -46,8 +46,8 @@ public class TestAmazonAds extends TemplateNoFirstLoad {
   }
 
   private void checkAmazonSlots(String[] slots) {
-    networkTrafficInterceptor.startIntercepting();
-    AdsAmazonObject amazonAds = new AdsAmazonObject(driver, TEST_PAGE.getUrl());
+    getNetworkTrafficInterceptor().startIntercepting();
+    AdsAmazonObject amazonAds = new AdsAmazonObject(getDriver(), TEST_PAGE.getUrl());
     amazonAds.runA9DebugMode();
 
     for (String slotName : slots) {
@@ -19,9 +19,9 @@ public class TestCorrelatorDFP extends TemplateNoFirstLoad {
   @Test(groups = "DFPCorrelatorOasis")
   @NetworkTrafficDump
   public void correlatorIDInQueryStringShouldBeTheSameOasis() {
-    networkTrafficInterceptor.startIntercepting("DFPCorrelator");
+    getNetworkTrafficInterceptor().startIntercepting("DFPCorrelator");
     urlBuilder.getUrlForPage(WIKIA, HOME_PAGE);
-    networkTrafficInterceptor.logDFP(correlatorDesktop);
+    getNetworkTrafficInterceptor().logDFP(correlatorDesktop);
   }
 
   @InBrowser(
@@ -31,8 +31,8 @@ public class TestCorrelatorDFP extends TemplateNoFirstLoad {
   @Test(groups = "DFPCorrelatorMercury")
   @NetworkTrafficDump
   public void correlatorIDInQueryStringShouldBeTheSameMercury() {
-    networkTrafficInterceptor.startIntercepting("DFPCorrelator");
+    getNetworkTrafficInterceptor().startIntercepting("DFPCorrelator");
     urlBuilder.getUrlForPage(WIKIA, HOME_PAGE);
-    networkTrafficInterceptor.logDFP(correlatorMobile);
+    getNetworkTrafficInterceptor().logDFP(correlatorMobile);
   }
 }
@@ -73,7 +73,7 @@ public class TestFloorAdhesion extends TemplateNoFirstLoad {
   public void testFloorAdhesionPresenceOasis() {
     String browser = Configuration.getBrowser();
     AdsFloorAdhesionObject wikiPage =
-        new AdsFloorAdhesionObject(driver, getArticleUrl(ARTICLE_TITLE, URL_TRIGGER));
+        new AdsFloorAdhesionObject(getDriver(), getArticleUrl(ARTICLE_TITLE, URL_TRIGGER));
 
     wikiPage.verifyFloorAdhesionPresent(SLOT_NAME, LINE_ITEM_ID, CREATIVE_ID);
     wikiPage.verifyThereIsNoWikiaBar(browser);
@@ -84,7 +84,7 @@ public class TestFloorAdhesion extends TemplateNoFirstLoad {
   )
   public void testFloorAdhesionCloseButtonOasis() {
     AdsFloorAdhesionObject wikiPage =
-        new AdsFloorAdhesionObject(driver, getArticleUrl(ARTICLE_TITLE, URL_TRIGGER));
+        new AdsFloorAdhesionObject(getDriver(), getArticleUrl(ARTICLE_TITLE, URL_TRIGGER));
     wikiPage.clickFloorAdhesionClose().verifyThereIsNoFloorAdhesion();
   }
 
@@ -98,7 +98,7 @@ public class TestFloorAdhesion extends TemplateNoFirstLoad {
     AdsFloorAdhesionSkinContext skinContext = new AdsFloorAdhesionSkinContext(browser);
 
     AdsFloorAdhesionOldObject wikiPage =
-        new AdsFloorAdhesionOldObject(driver, getArticleUrl(OLD_ARTICLE_TITLE, OLD_URL_TRIGGER), resolution);
+        new AdsFloorAdhesionOldObject(getDriver(), getArticleUrl(OLD_ARTICLE_TITLE, OLD_URL_TRIGGER), resolution);
 
     wikiPage.verifyFloorAdhesionPresent(
         skinContext.getSlotName(),
@@ -112,7 +112,7 @@ public class TestFloorAdhesion extends TemplateNoFirstLoad {
     String browser = Configuration.getBrowser();
 
     AdsFloorAdhesionOldObject wikiPage =
-        new AdsFloorAdhesionOldObject(driver, getArticleUrl(OLD_ARTICLE_TITLE, OLD_URL_TRIGGER), resolution);
+        new AdsFloorAdhesionOldObject(getDriver(), getArticleUrl(OLD_ARTICLE_TITLE, OLD_URL_TRIGGER), resolution);
     AdsFloorAdhesionSkinContext skinContext = new AdsFloorAdhesionSkinContext(browser);
 
     String floorAdhesionModalSelector = skinContext.getModalSelector();
@@ -126,7 +126,7 @@ public class TestFloorAdhesion extends TemplateNoFirstLoad {
 
   private void testOldFloorAdhesionCloseButton(Dimension resolution) {
     AdsFloorAdhesionOldObject wikiPage =
-        new AdsFloorAdhesionOldObject(driver, getArticleUrl(OLD_ARTICLE_TITLE, OLD_URL_TRIGGER), resolution);
+        new AdsFloorAdhesionOldObject(getDriver(), getArticleUrl(OLD_ARTICLE_TITLE, OLD_URL_TRIGGER), resolution);
     wikiPage.clickFloorAdhesionClose().verifyThereIsNoFloorAdhesion();
   }
 
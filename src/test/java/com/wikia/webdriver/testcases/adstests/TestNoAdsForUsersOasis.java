@@ -18,7 +18,7 @@ public class TestNoAdsForUsersOasis extends TemplateNoFirstLoad {
 
   private AdsBaseObject buildAdsObject(String pagePath) {
     String testedPage = urlBuilder.getUrlForPath(WIKI_NAME, pagePath);
-    return new AdsBaseObject(driver, testedPage);
+    return new AdsBaseObject(getDriver(), testedPage);
   }
 
   @Test(groups = "NoAdsForUsersOasis")
@@ -17,7 +17,7 @@ public class TestPremiumAdLayout extends TemplateNoFirstLoad {
       dataProvider = "premiumLayoutPages"
   )
   public void thereIsNoSkyScrapperOrPreFooterOnAdMixLayout(Page page) {
-    AdsBaseObject ads = new AdsBaseObject(driver, PremiumAdLayout.addTurnOnParams(urlBuilder, page));
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), PremiumAdLayout.addTurnOnParams(urlBuilder, page));
 
     Assert.assertFalse(ads.checkSlotOnPageLoaded(AdsContent.LEFT_SKYSCRAPPER_2));
     Assert.assertFalse(ads.checkSlotOnPageLoaded(AdsContent.LEFT_SKYSCRAPPER_3));
@@ -25,7 +25,7 @@ public class TestPremiumAdLayoutFeaturedVideo extends TemplateNoFirstLoad {
           dataProvider = "premiumLayoutPages"
   )
   public void regularFloatingMedrecIsReloadingWithRecirculationModule(Page page) {
-    AdsBaseObject ads = new AdsBaseObject(driver, PremiumAdLayout.addTurnOnParams(urlBuilder, page));
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), PremiumAdLayout.addTurnOnParams(urlBuilder, page));
 
     ads.scrollToPosition(RECIRCULATION_SELECTOR);
     ads.wait.forElementVisible(RECIRCULATION_SELECTOR);
@@ -41,7 +41,7 @@ public class TestPremiumAdLayoutFeaturedVideo extends TemplateNoFirstLoad {
           groups = {"PremiumAdLayout", "PremiumAdLayoutRefreshFMRWithUAP"}
   )
   public void uapFloatingMedrecIsReloadingOnceWithRecirculationModule() {
-    AdsBaseObject ads = new AdsBaseObject(driver, PremiumAdLayout.addTurnOnParams(urlBuilder, AdsDataProvider.UAP_PAGE));
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), PremiumAdLayout.addTurnOnParams(urlBuilder, AdsDataProvider.UAP_PAGE));
 
     ads.scrollToPosition(RECIRCULATION_SELECTOR);
     ads.wait.forElementVisible(RECIRCULATION_SELECTOR);
@@ -76,7 +76,7 @@ public class TestPremiumAdLayoutFeaturedVideo extends TemplateNoFirstLoad {
     return false;
   }
   private void scrollAndWait(Duration duration) {
-    JavascriptActions jsActions = new JavascriptActions(driver);
+    JavascriptActions jsActions = new JavascriptActions(getDriver());
 
     PageObjectLogging.log("User action", String.format("Scroll %d", 200), true);
     jsActions.scrollBy(0, 200);
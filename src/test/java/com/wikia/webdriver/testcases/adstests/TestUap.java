@@ -33,7 +33,7 @@ public class TestUap extends TemplateNoFirstLoad {
   public void adsUapOasis(Page page,
                           List<Map<String, Object>> atfSlots,
                           List<Map<String, Object>> btfSlots) {
-    AdsBaseObject ads = new AdsBaseObject(driver, urlBuilder.getUrlForPage(page), WindowSize.DESKTOP);
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), urlBuilder.getUrlForPage(page), WindowSize.DESKTOP);
     verifySlotsUnblocked(ads, atfSlots);
     verifySlotsBlocked(ads, btfSlots);
     ads.triggerComments();
@@ -55,7 +55,7 @@ public class TestUap extends TemplateNoFirstLoad {
                             List<Map<String, Object>> mobileInContent,
                             List<Map<String, Object>> mobilePrefooter,
                             List<Map<String, Object>> mobileBottomLeaderboard) {
-    AdsBaseObject ads = new AdsBaseObject(driver, urlBuilder.getUrlForPage(page));
+    AdsBaseObject ads = new AdsBaseObject(getDriver(), urlBuilder.getUrlForPage(page));
     verifySlotsUnblocked(ads, mobileTopLeaderboard);
     verifySlotsBlocked(ads, mobileInContent);
     verifySlotsBlocked(ads, mobilePrefooter);
@@ -248,7 +248,7 @@ public class ArticleFeaturesCRUDTestsUser extends NewTestTemplate {
 
     VisualEditModePageObject visualEditMode = new VisualEditModePageObject().open();
     visualEditMode.modifyComponent(Components.PHOTO);
-    PhotoOptionsComponentObject photoOptions = new PhotoOptionsComponentObject(driver);
+    PhotoOptionsComponentObject photoOptions = new PhotoOptionsComponentObject(getDriver());
     photoOptions.setCaption(PageContent.CAPTION2);
     photoOptions.clickAddPhoto();
     visualEditMode.verifyPhoto();
@@ -328,7 +328,7 @@ public class ArticleFeaturesCRUDTestsUser extends NewTestTemplate {
     VisualEditModePageObject visualEditMode = new VisualEditModePageObject().open();
 
     visualEditMode.clickPropertiesTableButton();
-    TableBuilderComponentObject addTable = new TableBuilderComponentObject(driver);
+    TableBuilderComponentObject addTable = new TableBuilderComponentObject(getDriver());
     addTable.typeBorderSize(border + additionalPropertyValue);
     addTable.typeCellSpacing(cellspacing + additionalPropertyValue);
     addTable.typeCellPadding(cellpadding + additionalPropertyValue);
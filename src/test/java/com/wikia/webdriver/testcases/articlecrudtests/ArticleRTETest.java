@@ -328,13 +328,13 @@ public class ArticleRTETest extends NewTestTemplate {
       String tmp2;
       edit.clearSource();
 
-      WebElement e = driver.findElement(By.cssSelector(".cke_source"));
+      WebElement e = getDriver().findElement(By.cssSelector(".cke_source"));
       e.sendKeys(wikitext);
 
       edit.clickOnVisualButton();
       edit.clickOnSourceButton();
 
-      e = driver.findElement(By.cssSelector(".cke_source"));
+      e = getDriver().findElement(By.cssSelector(".cke_source"));
       ;
       if (Assertion.assertStringContains(e.getAttribute("value"), wikitext)) {
         tmp1 = e.getAttribute("value").replace("<", "&lt");
@@ -351,7 +351,7 @@ public class ArticleRTETest extends NewTestTemplate {
 
         PageObjectLogging.log("checking value failed", "should be: <pre>" + tmp2 + "</pre>", false);
         PageObjectLogging
-            .log("checking value failed", "result is: <pre>" + tmp1 + "</pre>", false, driver);
+            .log("checking value failed", "result is: <pre>" + tmp1 + "</pre>", false, getDriver());
       }
     }
 
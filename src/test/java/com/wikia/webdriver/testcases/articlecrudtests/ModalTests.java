@@ -26,7 +26,7 @@ public class ModalTests extends NewTestTemplate {
     VisualEditModePageObject visualEditMode = article.navigateToArticleEditPage();
     GalleryBuilderComponentObject galleryBuilder = visualEditMode.clickGalleryButton();
     // resize window
-    driver.manage().window().setSize(dimension);
+    getDriver().manage().window().setSize(dimension);
     // make sure you can scroll to finish button and the finish button is visible
     Assertion.assertTrue(galleryBuilder.isFinishButtonVisibleOnPage(), errorMessage);
   }
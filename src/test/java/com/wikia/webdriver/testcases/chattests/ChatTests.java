@@ -29,7 +29,7 @@ public class ChatTests extends NewTestTemplate {
   private static final int NUMBER_OF_PRIVATE_MESSAGES = 10;
 
   private final String currentBrowserTab() {
-    return driver.getWindowHandle();
+    return getDriver().getWindowHandle();
   }
 
   private ChatPage openChatForUser(User user) {
@@ -49,7 +49,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
     CommunityHeader communityHeader = new CommunityHeader();
 
     communityHeader.clickWikiActivity();
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:WikiActivity"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:WikiActivity"));
 
     CreateArticleModalComponentObject modal = communityHeader.clickAddNewPage();
     Assert.assertTrue(modal.isCreateNewArticleModalVisible());
@@ -61,10 +61,10 @@ public class CommunityHeaderTests extends NewTestTemplate {
     CommunityHeader communityHeader = new CommunityHeader();
 
     communityHeader.clickWikiActivity();
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:WikiActivity"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:WikiActivity"));
 
     communityHeader.clickAdminDashboard();
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:AdminDashboard"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:AdminDashboard"));
 
     CreateArticleModalComponentObject modal = communityHeader.clickAddNewPage();
     Assert.assertTrue(modal.isCreateNewArticleModalVisible());
@@ -78,31 +78,32 @@ public class CommunityHeaderTests extends NewTestTemplate {
         .openExploreMenu()
         .clickExploreWikiActivityLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:WikiActivity"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:WikiActivity"));
 
     communityHeader
         .openExploreMenu()
         .clickExploreCommunityLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Community"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Community"));
 
     communityHeader
         .openExploreMenu()
         .clickExploreVideosLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Videos"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Videos"));
 
     communityHeader
         .openExploreMenu()
         .clickExploreImagesLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Images"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Images"));
 
     communityHeader
         .openExploreMenu()
         .clickExploreRandomLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().matches(".*\\.wikia\\.com/wiki/(?!Special:Images).*"));
+    Assert.assertTrue(
+        getDriver().getCurrentUrl().matches(".*\\.wikia\\.com/wiki/(?!Special:Images).*"));
 
   }
 
@@ -111,7 +112,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
   public void testDiscussLinkOnWikiWithDiscussionsWithoutForum() {
     new CommunityHeader().clickDiscussLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("wikia.com/d/f"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("wikia.com/d/f"));
   }
 
   @Test(groups = {"CommunityHeaderTests"})
@@ -122,10 +123,10 @@ public class CommunityHeaderTests extends NewTestTemplate {
     communityHeader
         .openExploreMenu()
         .clickExploreForumLink();
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Forum"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Forum"));
 
     communityHeader.clickDiscussLink();
-    Assert.assertTrue(driver.getCurrentUrl().contains("wikia.com/d/f"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("wikia.com/d/f"));
   }
 
   @Test(groups = {"CommunityHeaderTests"})
@@ -133,7 +134,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
   public void testDiscussLinkOnWikiWithNoDiscussionsAndWithForum() {
     new CommunityHeader().clickDiscussLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Forum"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Forum"));
   }
 
   @Test(groups = {"CommunityHeaderTests"})
@@ -58,7 +58,8 @@ public class CreateWikiTestsLoggedInUser extends NewTestTemplate {
     article.closeNewWikiCongratulationsLightBox();
     article.verifyUserLoggedIn(User.USER_CNW.getUserName());
 
-    Assertion.assertTrue(WikiaProperties.isWikiForChildren(driver), "Wiki is not for children");
+    Assertion.assertTrue(WikiaProperties.isWikiForChildren(getDriver()),
+        "Wiki is not for children");
   }
 
   @Test(groups = {"CNW", "CreateNewWikiLoggedIn_003"})
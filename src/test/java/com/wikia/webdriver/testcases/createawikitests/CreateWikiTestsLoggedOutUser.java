@@ -27,7 +27,7 @@ public class CreateWikiTestsLoggedOutUser extends NewTestTemplate {
         cnw1.clickNextToSignIn().navigateToSignIn();
         DetachedSignInPage authModal = new DetachedSignInPage();
         authModal.login(credentials.userName10, credentials.password10);
-        CreateNewWikiPageObjectStep2 cnw2 = new CreateNewWikiPageObjectStep2(driver);
+        CreateNewWikiPageObjectStep2 cnw2 = new CreateNewWikiPageObjectStep2(getDriver());
         cnw2.selectCategory(CreateWikiMessages.WIKI_CATEGORY_ID);
         CreateNewWikiPageObjectStep3 cnw3 = cnw2.submit();
         cnw3.selectThemeByName(CreateWikiMessages.WIKI_THEME);
@@ -97,7 +97,7 @@ public class CategoriesTests extends NewTestTemplate {
     siteId = Utils.excractSiteIdFromWikiName(wikiName);
     CategoryPill.Data category = addCategoryRemotely(siteId, createUniqueCategoryName());
     DiscussionsClient
-      .using(User.STAFF, driver)
+      .using(User.STAFF, getDriver())
       .createPostWithCategory(category.getId(), siteId);
     return category;
   }
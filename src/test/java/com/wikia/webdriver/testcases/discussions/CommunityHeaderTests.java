@@ -49,7 +49,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
         .openExploreMenu()
         .clickExploreWikiActivityLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:WikiActivity"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:WikiActivity"));
 
     new PostsListPage().open();
 
@@ -57,7 +57,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
         .openExploreMenu()
         .clickExploreCommunityLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Community"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Community"));
 
     new PostsListPage().open();
 
@@ -65,7 +65,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
         .openExploreMenu()
         .clickExploreVideosLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Videos"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Videos"));
 
     new PostsListPage().open();
 
@@ -73,7 +73,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
         .openExploreMenu()
         .clickExploreImagesLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().contains("Special:Images"));
+    Assert.assertTrue(getDriver().getCurrentUrl().contains("Special:Images"));
 
     new PostsListPage().open();
 
@@ -81,6 +81,7 @@ public class CommunityHeaderTests extends NewTestTemplate {
         .openExploreMenu()
         .clickExploreRandomLink();
 
-    Assert.assertTrue(driver.getCurrentUrl().matches(".*\\.wikia\\.com/wiki/(?!Special:Images).*"));
+    Assert.assertTrue(
+        getDriver().getCurrentUrl().matches(".*\\.wikia\\.com/wiki/(?!Special:Images).*"));
   }
 }
@@ -171,7 +171,7 @@ public class CreatingPostTests extends NewTestTemplate {
     postsCreator.clickOkButtonInSignInDialog();
     Assertion.assertTrue(postsCreator.click().isSignInDialogVisible());
     postsCreator.clickSignInButtonInSignInDialog();
-    Assertion.assertTrue(driver.getCurrentUrl().contains(MercurySubpages.JOIN_PAGE));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(MercurySubpages.JOIN_PAGE));
   }
 
   private void userOnDesktopMustBeLoggedInToUsePostCreator() {
@@ -180,7 +180,7 @@ public class CreatingPostTests extends NewTestTemplate {
     postsCreator.clickOkButtonInSignInDialog();
     Assertion.assertTrue(postsCreator.click().isSignInDialogVisible());
     postsCreator.clickSignInButtonInSignInDialog();
-    Assertion.assertTrue(driver.getCurrentUrl().contains(MercurySubpages.REGISTER_PAGE));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(MercurySubpages.REGISTER_PAGE));
   }
 
   /**
@@ -239,7 +239,7 @@ public class CreatingPostTests extends NewTestTemplate {
   private PostEntity.Data createNaughtyStringsPostRemotely(User user) {
     String description = FIRST_LINE + ContentLoader.loadWikiTextContent("blns.txt");
     String title = "Naughty strings";
-    return DiscussionsClient.using(user, driver).createCustomPost(siteId, title, description);
+    return DiscussionsClient.using(user, getDriver()).createCustomPost(siteId, title, description);
   }
 
   private PostEntity.Data createWeirdCharactersPostOnWiki(String wiki) {
@@ -248,7 +248,7 @@ public class CreatingPostTests extends NewTestTemplate {
   }
 
   private void cleanUp(PostEntity.Data post) {
-    DiscussionsClient.using(User.STAFF, driver).deletePost(post, siteId);
+    DiscussionsClient.using(User.STAFF, getDriver()).deletePost(post, siteId);
   }
 
   private void assertPostWithWeirdCharactersDisplayedOnPostsListPage(String wiki) {
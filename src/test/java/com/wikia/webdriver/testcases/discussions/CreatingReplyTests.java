@@ -86,11 +86,11 @@ public class CreatingReplyTests extends NewTestTemplate {
     replyCreator.clickOkButtonInSignInDialog();
     Assertion.assertTrue(replyCreator.click().isModalDialogVisible());
     replyCreator.clickSignInButtonInSignInDialog();
-    Assertion.assertTrue(driver.getCurrentUrl().contains(urlFragment));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(urlFragment));
   }
 
   private PostEntity.Data createPostAsUserRemotely() {
-    return DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    return DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
   }
 
   private void assertThatUserCanCreateReply(PostDetailsPage page, ReplyCreator replyCreator) {
@@ -43,7 +43,7 @@ public class DeleteAllPostsByUserTests extends NewTestTemplate {
   private PostEntity.Data setUp(String wikiName) {
     siteId = Utils.excractSiteIdFromWikiName(wikiName);
     return DiscussionsClient
-      .using(userWithPosts, driver)
+      .using(userWithPosts, getDriver())
       .createPostWithUniqueData(siteId);
   }
 
@@ -56,7 +56,7 @@ public class DeleteAllPostsByUserTests extends NewTestTemplate {
    * @param post to be deleted as staff user
    */
   private void cleanUp(PostEntity.Data post) {
-    DiscussionsClient.using(User.STAFF, driver).deletePost(post, this.siteId);
+    DiscussionsClient.using(User.STAFF, getDriver()).deletePost(post, this.siteId);
   }
 
   // GENERAL - no specific user permissions
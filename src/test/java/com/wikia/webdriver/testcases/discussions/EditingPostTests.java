@@ -119,14 +119,14 @@ public class EditingPostTests extends NewTestTemplate {
    */
 
   private PostEntity.Data createPostAsUserRemotely() {
-    return DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    return DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
   }
 
   private PostEntity.Data createPostAsStaffRemotely() {
-    return DiscussionsClient.using(User.STAFF, driver).createPostWithUniqueData();
+    return DiscussionsClient.using(User.STAFF, getDriver()).createPostWithUniqueData();
   }
 
   private PostEntity.Data updatePostAsStaffRemotely(PostEntity.Data data) {
-    return DiscussionsClient.using(User.STAFF, driver).updatePost(data);
+    return DiscussionsClient.using(User.STAFF, getDriver()).updatePost(data);
   }
 }
@@ -211,12 +211,12 @@ public class FollowingPostTests extends NewTestTemplate {
   }
 
   private PostEntity.Data createPostAsUserRemotely() {
-    return DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    return DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
   }
 
   private PostEntity.Data createAndReportPostAsUserRemotely() {
     final PostEntity.Data data = createPostAsUserRemotely();
-    DiscussionsClient.using(User.USER, driver).reportPost(data);
+    DiscussionsClient.using(User.USER, getDriver()).reportPost(data);
     return data;
   }
 }
@@ -29,7 +29,7 @@ public class LayoutTests extends NewTestTemplate {
   private void setUp() {
     String siteId = Utils.excractSiteIdFromWikiName(MercuryWikis.DISCUSSIONS_5);
     existingPost = DiscussionsClient
-      .using(User.USER_4, driver)
+      .using(User.USER_4, getDriver())
       .createPostWithUniqueData(siteId);
   }
 
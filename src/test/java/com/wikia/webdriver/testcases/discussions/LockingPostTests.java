@@ -156,8 +156,9 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.USER)
   @InBrowser(browser = Browser.CHROME, emulator = Emulator.GOOGLE_NEXUS_5)
   public void userOnMobileCanAddReplyUnderUnlockedPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
-    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, driver).lockPost(data)
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
+    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, getDriver()).lockPost(data)
         .unlockPost(data);
 
     PostDetailsPage page = new PostDetailsPage().open(data.getId());
@@ -183,8 +184,9 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.USER)
   @InBrowser(emulator = Emulator.DESKTOP_BREAKPOINT_BIG)
   public void userOnDesktopCanAddReplyUnderUnlockedPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
-    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, driver).lockPost(data)
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
+    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, getDriver()).lockPost(data)
         .unlockPost(data);
 
     PostDetailsPage page = new PostDetailsPage().open(data.getId());
@@ -199,7 +201,8 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.DISCUSSIONS_ADMINISTRATOR)
   @InBrowser(browser = Browser.CHROME, emulator = Emulator.GOOGLE_NEXUS_5)
   public void discussionsAdministratorOnMobileCanLockPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
 
     PostEntity postEntity = lockPost(data);
 
@@ -220,7 +223,8 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.DISCUSSIONS_ADMINISTRATOR)
   @InBrowser(emulator = Emulator.DESKTOP_BREAKPOINT_BIG)
   public void discussionsAdministratorOnDesktopCanLockPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
 
     PostEntity postEntity = lockPost(data);
 
@@ -241,7 +245,8 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.STAFF)
   @InBrowser(browser = Browser.CHROME, emulator = Emulator.GOOGLE_NEXUS_5)
   public void staffUserOnMobileCanLockPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
 
     PostEntity postEntity = lockPost(data);
 
@@ -262,7 +267,8 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.STAFF)
   @InBrowser(emulator = Emulator.DESKTOP_BREAKPOINT_BIG)
   public void staffUserOnDesktopCanLockPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
 
     PostEntity postEntity = lockPost(data);
 
@@ -283,7 +289,8 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.DISCUSSIONS_MODERATOR)
   @InBrowser(browser = Browser.CHROME, emulator = Emulator.GOOGLE_NEXUS_5)
   public void discussionsModeratorOnMobileCanLockPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
 
     PostEntity postEntity = lockPost(data);
 
@@ -304,7 +311,8 @@ public class LockingPostTests extends NewTestTemplate {
   @Execute(asUser = User.DISCUSSIONS_MODERATOR)
   @InBrowser(emulator = Emulator.DESKTOP_BREAKPOINT_BIG)
   public void discussionsModeratorOnDesktopCanLockPostOnPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
 
     PostEntity postEntity = lockPost(data);
 
@@ -322,7 +330,7 @@ public class LockingPostTests extends NewTestTemplate {
   }
 
   private MoreOptionsPopOver findMoreOptionsOnPostDetailsPage() {
-    final PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    final PostEntity.Data data = DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
     final PageWithPosts page = new PostDetailsPage().open(data.getId());
 
     return findMoreOptions(page);
@@ -333,7 +341,8 @@ public class LockingPostTests extends NewTestTemplate {
   }
 
   private MoreOptionsPopOver findMoreOptionsOnPostsListPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
     final PageWithPosts page = new PostsListPage().open();
 
     return findMoreOptions(page, data);
@@ -344,15 +353,16 @@ public class LockingPostTests extends NewTestTemplate {
   }
 
   private MoreOptionsPopOver findMoreOptionsOnUserPostsPage() {
-    final PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    final PostEntity.Data data = DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
     final PageWithPosts page = new UserPostsPage().open(data.getAuthorId());
 
     return findMoreOptions(page, data);
   }
 
   private PostDetailsPage lockPostAsDiscussionsModeratorAndOpenPostDetailsPage() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
-    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, driver).lockPost(data);
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
+    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, getDriver()).lockPost(data);
 
     return new PostDetailsPage().open(data.getId());
   }
@@ -394,22 +404,25 @@ public class LockingPostTests extends NewTestTemplate {
   }
 
   private PostEntity unlockPostLockedByDiscussionsAdministrator() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
-    DiscussionsClient.using(User.DISCUSSIONS_ADMINISTRATOR, driver).lockPost(data);
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
+    DiscussionsClient.using(User.DISCUSSIONS_ADMINISTRATOR, getDriver()).lockPost(data);
 
     return unlockPost(data);
   }
 
   private PostEntity unlockPostLockedByStaff() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
-    DiscussionsClient.using(User.STAFF, driver).lockPost(data);
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
+    DiscussionsClient.using(User.STAFF, getDriver()).lockPost(data);
 
     return unlockPost(data);
   }
 
   private PostEntity unlockPostLockedByDiscussionsModerator() {
-    PostEntity.Data data = DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
-    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, driver).lockPost(data);
+    PostEntity.Data data =
+        DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
+    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, getDriver()).lockPost(data);
 
     return unlockPost(data);
   }
@@ -37,7 +37,7 @@ public class OpenGraphTests extends NewTestTemplate {
 
   private PostEntity.Data setUp() {
     String siteId = Utils.excractSiteIdFromWikiName(MercuryWikis.DISCUSSIONS_2);
-    return DiscussionsClient.using(User.USER_6, driver).createPostWithUniqueData(siteId);
+    return DiscussionsClient.using(User.USER_6, getDriver()).createPostWithUniqueData(siteId);
   }
 
   /**
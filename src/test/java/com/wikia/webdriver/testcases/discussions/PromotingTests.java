@@ -78,6 +78,6 @@ public class PromotingTests extends NewTestTemplate {
   }
 
   private void assertAppPageOpened(String appTitle) {
-    assertTrue(driver.getTitle().contains(appTitle));
+    assertTrue(getDriver().getTitle().contains(appTitle));
   }
 }
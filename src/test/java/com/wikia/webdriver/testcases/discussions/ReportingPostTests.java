@@ -729,26 +729,26 @@ public class ReportingPostTests extends NewTestTemplate {
   }
 
   private PostEntity.Data cretePostRemotelyAsFirstUser() {
-    return DiscussionsClient.using(User.USER, driver).createPostWithUniqueData();
+    return DiscussionsClient.using(User.USER, getDriver()).createPostWithUniqueData();
   }
 
   private PostEntity.Data createAndReportPostRemotelyAsFirstUser() {
-    final DiscussionsClient operations = DiscussionsClient.using(User.USER, driver);
+    final DiscussionsClient operations = DiscussionsClient.using(User.USER, getDriver());
     final PostEntity.Data data = operations.createPostWithUniqueData();
     operations.reportPost(data);
     return data;
   }
 
   private void reportPostRemotelyAsSecondUser(PostEntity.Data data) {
-    DiscussionsClient.using(User.USER_2, driver).reportPost(data);
+    DiscussionsClient.using(User.USER_2, getDriver()).reportPost(data);
   }
 
   private void validatePostRemotelyAsDiscussionsModerator(PostEntity.Data data) {
-    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, driver).validatePost(data);
+    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, getDriver()).validatePost(data);
   }
 
   private void deletePostRemotelyAsDiscussionsModerator(PostEntity.Data data) {
-    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, driver).deletePost(data);
+    DiscussionsClient.using(User.DISCUSSIONS_MODERATOR, getDriver()).deletePost(data);
   }
 
   private PostEntity.Data createAndReportAndDeletePostRemotely() {
@@ -36,7 +36,7 @@ public class SharingTests extends NewTestTemplate {
   private void setUp() {
     String siteId = Utils.excractSiteIdFromWikiName(MercuryWikis.DISCUSSIONS_5);
     existingPost = DiscussionsClient
-      .using(User.USER_4, driver)
+      .using(User.USER_4, getDriver())
       .createPostWithUniqueData(siteId);
   }
 
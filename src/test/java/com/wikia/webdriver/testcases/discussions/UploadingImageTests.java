@@ -55,7 +55,7 @@ public class UploadingImageTests extends NewTestTemplate {
   private PostEntity.Data setUp(String wikiName) {
     String siteId = Utils.excractSiteIdFromWikiName(wikiName);
     return DiscussionsClient
-      .using(User.USER_2, driver)
+      .using(User.USER_2, getDriver())
       .createPostWithUniqueData(siteId);
   }
 
@@ -30,8 +30,8 @@ public class UpvotingTests extends NewTestTemplate {
     User user = User.USER_5;
     String siteId = Utils.excractSiteIdFromWikiName(MercuryWikis.DISCUSSIONS_4);
 
-    existingPost = DiscussionsClient.using(user, driver).createPostWithUniqueData(siteId);
-    DiscussionsClient.using(user, driver).createReplyToPost(siteId, existingPost);
+    existingPost = DiscussionsClient.using(user, getDriver()).createPostWithUniqueData(siteId);
+    DiscussionsClient.using(user, getDriver()).createReplyToPost(siteId, existingPost);
   }
   
   /**
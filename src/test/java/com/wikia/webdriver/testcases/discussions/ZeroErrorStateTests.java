@@ -255,7 +255,7 @@ public class ZeroErrorStateTests extends NewTestTemplate {
   }
 
   private void userSeesProperMessageWhenOpensPostDetailsPageWithoutReplies() {
-    final String postId = DiscussionsClient.using(User.USER, driver)
+    final String postId = DiscussionsClient.using(User.USER, getDriver())
         .createPostWithUniqueData().getId();
 
     final Replies replies = new PostDetailsPage().open(postId).getReplies();
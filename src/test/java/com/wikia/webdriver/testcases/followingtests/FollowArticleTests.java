@@ -31,6 +31,6 @@ public class FollowArticleTests extends NewTestTemplate {
   @Execute(asUser = User.FOLLOW_ARTICLE)
   public void userCanSeeFollowedArticlesOnHisFollowingSpecialPage() {
     new ArticlePageObject().open(ARTICLE_NAME).follow();
-    new SpecialFollowPageObject(driver).open().verifyFollowedArticle(ARTICLE_NAME);
+    new SpecialFollowPageObject(getDriver()).open().verifyFollowedArticle(ARTICLE_NAME);
   }
 }
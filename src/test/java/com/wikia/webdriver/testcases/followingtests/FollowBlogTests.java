@@ -42,7 +42,8 @@ public class FollowBlogTests extends NewTestTemplate {
   @Test(groups = {"FollowBlog", "Follow"}, dependsOnMethods = {"FollowBlog_002_follow"})
   @Execute(asUser = User.USER)
   public void FollowBlog_003_verify() {
-    new SpecialFollowPageObject(driver).open().verifyFollowedBlog(credentials.userName, blogTitle);
+    new SpecialFollowPageObject(getDriver()).open().verifyFollowedBlog(credentials.userName,
+        blogTitle);
   }
 
 }
@@ -35,6 +35,6 @@ public class FollowPhotosTests extends NewTestTemplate {
   @Test(groups = {"FollowPhoto", "Follow"}, dependsOnMethods = {"FollowPhoto_002_follow"})
   @Execute(asUser = User.USER)
   public void FollowPhoto_003_verify() {
-    new SpecialFollowPageObject(driver).open().verifyFollowedImageVideo(imageName);
+    new SpecialFollowPageObject(getDriver()).open().verifyFollowedImageVideo(imageName);
   }
 }
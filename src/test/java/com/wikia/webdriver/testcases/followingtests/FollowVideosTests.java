@@ -35,6 +35,6 @@ public class FollowVideosTests extends NewTestTemplate {
   @Test(groups = {"FollowVideo", "Follow"}, dependsOnMethods = {"FollowVideo_002_follow"})
   @Execute(asUser = User.USER)
   public void FollowVideo_003_verify() {
-    new SpecialFollowPageObject(driver).open().verifyFollowedImageVideo(videoName);
+    new SpecialFollowPageObject(getDriver()).open().verifyFollowedImageVideo(videoName);
   }
 }
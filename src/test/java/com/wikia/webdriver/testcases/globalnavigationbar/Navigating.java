@@ -16,7 +16,7 @@ public class Navigating extends NewTestTemplate {
         .getGlobalNavigation()
         .clickFandomLogo();
 
-    Assertion.assertEquals(driver.getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/"));
+    Assertion.assertEquals(getDriver().getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/"));
   }
 
   @Test(groups = {"gamesHubLinkClickOnEnCommunityOpensGamesHub"})
@@ -25,7 +25,7 @@ public class Navigating extends NewTestTemplate {
         .getGlobalNavigation()
         .clickGamesHubLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/topics/games"));
+    Assertion.assertEquals(getDriver().getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/topics/games"));
   }
 
   @Test(groups = {"moviesHubLinkClickOnEnCommunityOpensMoviesHub"})
@@ -34,7 +34,7 @@ public class Navigating extends NewTestTemplate {
         .getGlobalNavigation()
         .clickMoviesHubLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/topics/movies"));
+    Assertion.assertEquals(getDriver().getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/topics/movies"));
   }
 
   @Test(groups = {"tvHubLinkClickOnEnCommunityOpensTvHub"})
@@ -43,7 +43,7 @@ public class Navigating extends NewTestTemplate {
         .getGlobalNavigation()
         .clickTVHubLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/topics/tv"));
+    Assertion.assertEquals(getDriver().getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/topics/tv"));
   }
 
   @Test(groups = {"communityCentralLinkClickOnDeCommunityOpensDeCommunityCentral"})
@@ -53,7 +53,7 @@ public class Navigating extends NewTestTemplate {
         .getGlobalNavigation()
         .clickCommunityCentralLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(),
+    Assertion.assertEquals(getDriver().getCurrentUrl(),
                            urlBuilder.getUrlForPage("de.community", "/wiki/Community_Deutschland"));
   }
 
@@ -64,7 +64,8 @@ public class Navigating extends NewTestTemplate {
         .openWikisMenu()
         .clickExploreWikisLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(), urlBuilder.getUrlForPage("fandom", "/explore"));
+    Assertion.assertEquals(getDriver().getCurrentUrl(), urlBuilder.getUrlForPage("fandom",
+        "/explore"));
   }
 
   @Test(groups = {"fandomUniversityLinkClickOnEnCommunityOpensFandomUniversity"})
@@ -74,7 +75,7 @@ public class Navigating extends NewTestTemplate {
         .openWikisMenu()
         .clickFandomUniversityLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(),
+    Assertion.assertEquals(getDriver().getCurrentUrl(),
                            urlBuilder.getUrlForPage("community", "/wiki/Fandom_University"));
   }
 
@@ -85,7 +86,7 @@ public class Navigating extends NewTestTemplate {
         .openWikisMenu()
         .clickCommunityCentralLink();
 
-    Assertion.assertEquals(driver.getCurrentUrl(),
+    Assertion.assertEquals(getDriver().getCurrentUrl(),
                            urlBuilder.getUrlForPage("community", "/wiki/Community_Central"));
   }
 }
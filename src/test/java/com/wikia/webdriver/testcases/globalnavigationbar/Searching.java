@@ -33,7 +33,7 @@ public class Searching extends NewTestTemplate {
     SearchPageObject search = homePage.getGlobalNavigation()
         .search(query);
 
-    Assertion.assertStringContains(driver.getCurrentUrl(), expectedSpecialPage);
+    Assertion.assertStringContains(getDriver().getCurrentUrl(), expectedSpecialPage);
     Assertion.assertTrue(search.isResultPresent());
   }
 
@@ -50,7 +50,7 @@ public class Searching extends NewTestTemplate {
     SearchPageObject search = homePage.getGlobalNavigation()
         .search(query);
 
-    Assertion.assertStringContains(driver.getCurrentUrl(), expectedSpecialPage);
+    Assertion.assertStringContains(getDriver().getCurrentUrl(), expectedSpecialPage);
     Assertion.assertTrue(search.isResultPresent());
   }
 
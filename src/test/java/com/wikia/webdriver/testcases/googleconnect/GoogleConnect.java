@@ -13,7 +13,7 @@ public class GoogleConnect extends NewTestTemplate {
 
   @Test
   public void connectedUserCanLogInToWikiaByGoogle() {
-    GoogleConnectPage googleConnectPage = new GoogleConnectPage(driver).open();
+    GoogleConnectPage googleConnectPage = new GoogleConnectPage(getDriver()).open();
 
     googleConnectPage.signInWithGoogleAccount(Configuration.getCredentials().emailQaart4,
                                               Configuration.getCredentials().emailPasswordQaart4);
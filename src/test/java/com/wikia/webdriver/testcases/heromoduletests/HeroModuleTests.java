@@ -27,7 +27,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_001"})
   public void HeroModuleTests_001_VerifyImageVisibilityAfterRefresh() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     String prevMoMSrc = mom.getMoMSrc();
@@ -42,7 +42,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_002"})
   public void HeroModuleTests_002_VerifyImmediateImageVisibility() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     mom.selectFileToUpload(PageContent.FILE);
@@ -53,7 +53,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_003"})
   public void HeroModuleTests_003_VerifyImmediateChangesForDescription() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     mom.clickEditDescriptionLink();
@@ -65,7 +65,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_004"})
   public void HeroModuleTests_004_OnlyAdminsAndStaffCanModify() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff2, credentials.passwordStaff2, wikiURL);
     mom.verifyAdminStaffButtons();
@@ -78,7 +78,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_005"})
   public void HeroModuleTests_005_VerifyImageDiscardDisplaysPreviousState() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     String imgSrc = mom.getMoMSrc();
@@ -91,7 +91,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_006"})
   public void HeroModuleTests_006_VerifyDraggingToRepositionFunctionality() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     mom.selectFileToUpload(PageContent.FILE);
@@ -104,7 +104,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_007"})
   public void HeroModuleTests_007_DeleteDescriptionAndCheckPublishButtonAvailability() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     mom.clickEditDescriptionLink();
@@ -115,7 +115,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_008"})
   public void HeroModuleTests_008_DescriptionFieldDiscardChanges() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     String publishedText = mom.getDescriptionText();
@@ -128,7 +128,7 @@ public class HeroModuleTests extends NewTestTemplate {
 
   @Test(groups = {"HeroModuleTests", "HeroModuleTests_009"})
   public void HeroModuleTests_009_AddDescriptionAndCheckPublishButtonAvailability() {
-    ModularMainPageObject mom = new ModularMainPageObject(driver);
+    ModularMainPageObject mom = new ModularMainPageObject(getDriver());
     mom.openWikiPage(wikiURL);
     mom.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     mom.clickEditDescriptionLink();
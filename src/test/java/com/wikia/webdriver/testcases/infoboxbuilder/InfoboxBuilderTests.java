@@ -421,7 +421,7 @@ public class InfoboxBuilderTests extends NewTestTemplate {
     new Sidebar().clickGoToSourceButton();
 
     Assertion.assertTrue(new TemplateEditPage().isEditAreaDisplayed());
-    Assertion.assertTrue(driver.getCurrentUrl().contains("InfoboxBuilderSavingTemplate"));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains("InfoboxBuilderSavingTemplate"));
   }
 
   @Test(groups = {"InfoboxBuilderTests", "InfoboxBuilder_003"})
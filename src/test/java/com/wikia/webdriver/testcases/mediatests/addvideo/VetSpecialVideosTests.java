@@ -25,7 +25,7 @@ public class VetSpecialVideosTests extends NewTestTemplate {
 
     new DeleteMWVideo(video.getTitle()).call();
 
-    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(driver);
+    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(getDriver());
     specialVideos.openSpecialVideoPage(wikiURL);
     VetAddVideoComponentObject vetAddingVideo = specialVideos.addAVideo();
     vetAddingVideo.addVideoWithoutDetailsByUrl(video.getUrl());
@@ -44,7 +44,7 @@ public class VetSpecialVideosTests extends NewTestTemplate {
   @Test(enabled = false, groups = {"VetTests002"})
   @Execute(asUser = User.USER)
   public void SpecialVideos_002_Library() {
-    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(driver);
+    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(getDriver());
     specialVideos.openSpecialVideoPage(wikiURL);
     VetAddVideoComponentObject vetAddingVideo = specialVideos.addAVideo();
     vetAddingVideo.addVideoByQuery(VideoContent.WIKIA_VIDEO_QUERY, 0);
@@ -60,7 +60,7 @@ public class PlayingVideoTests extends NewTestTemplate {
     String queryString = "provider=" + providerName;
 
     SpecialVideosPageObject specialVideos =
-        new SpecialVideosPageObject(driver).openSpecialVideoPage(wikiURL, queryString);
+        new SpecialVideosPageObject(getDriver()).openSpecialVideoPage(wikiURL, queryString);
     LightboxComponentObject lightbox = specialVideos.openLightboxForGridVideo(itemNumber);
     lightbox.verifyLightboxPopup();
     lightbox.verifyLightboxVideo();
@@ -81,7 +81,7 @@ public class PlayingVideoTests extends NewTestTemplate {
     String queryString = "provider=" + providerName;
 
     SpecialVideosPageObject specialVideos =
-        new SpecialVideosPageObject(driver).openSpecialVideoPage(wikiURL, queryString);
+        new SpecialVideosPageObject(getDriver()).openSpecialVideoPage(wikiURL, queryString);
     LightboxComponentObject lightbox = specialVideos.openLightboxForGridVideo(itemNumber);
     lightbox.verifyLightboxPopup();
     lightbox.verifyLightboxVideo();
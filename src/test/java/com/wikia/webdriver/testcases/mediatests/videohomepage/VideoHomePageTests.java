@@ -12,7 +12,7 @@ public class VideoHomePageTests extends NewTestTemplate {
   @Test(groups = {"VideoHomePage_001", "Media", "VideoHomePageTests", "VideosPage"})
   @Execute(onWikia = URLsContent.VIDEO_TEST_WIKI)
   public void VideoHomePage_001_FeaturedVideoSlider() {
-    VideoHomePageObject videoHomePageObject = new VideoHomePageObject(driver).open();
+    VideoHomePageObject videoHomePageObject = new VideoHomePageObject(getDriver()).open();
     videoHomePageObject.verifyFeaturedSliderInitialized();
     videoHomePageObject.verifyFeaturedSliderSlides(5);
   }
@@ -20,7 +20,7 @@ public class VideoHomePageTests extends NewTestTemplate {
   @Test(groups = {"VideoHomePage_002", "Media", "VideoHomePageTests"})
   @Execute(onWikia = URLsContent.VIDEO_TEST_WIKI)
   public void VideoHomePage_002_LatestVideos() {
-    VideoHomePageObject videoHomePageObject = new VideoHomePageObject(driver).open();
+    VideoHomePageObject videoHomePageObject = new VideoHomePageObject(getDriver()).open();
     videoHomePageObject.verifyLatestVideosRows(3);
   }
 }
@@ -23,7 +23,7 @@ public class VideoPageAdminTests extends NewTestTemplate {
   @Execute(asUser = User.STAFF, onWikia = URLsContent.VIDEO_TEST_WIKI)
   public void VideoPageAdmin_001_AddFeaturedVideo() {
 
-    FeaturedVideoAdminPageObject featuredVideoAdminObject = new FeaturedVideoAdminPageObject(driver).open();
+    FeaturedVideoAdminPageObject featuredVideoAdminObject = new FeaturedVideoAdminPageObject(getDriver()).open();
     List<FeaturedVideoContainer> featuredVideoContainerList = featuredVideoAdminObject.getVideoContainers();
 
     for (FeaturedVideoContainer container : featuredVideoContainerList) {
@@ -44,9 +44,9 @@ public class VideoPageAdminTests extends NewTestTemplate {
     }
 
     // Save the form and navigate back to featured form
-    LatestVideoAdminPageObject latestVideoAdminPageObject = featuredVideoAdminObject.clickSaveFeaturedVideoForm(driver);
+    LatestVideoAdminPageObject latestVideoAdminPageObject = featuredVideoAdminObject.clickSaveFeaturedVideoForm(getDriver());
 
-    featuredVideoAdminObject = latestVideoAdminPageObject.clickFeaturedTab(driver);
+    featuredVideoAdminObject = latestVideoAdminPageObject.clickFeaturedTab(getDriver());
     FeaturedVideoContainer firstContainer = featuredVideoAdminObject.getVideoContainers().stream().findFirst().get();
     firstContainer.scrollToContainer();
     firstContainer.verifyVideoAdded(VideoContent.PREMIUM_VIDEO_NAME2);
@@ -55,6 +55,6 @@ public class VideoPageAdminTests extends NewTestTemplate {
     VetAddVideoComponentObject vetAddingVideoModal = firstContainer.clickAddVideo();
     vetAddingVideoModal.addVideoWithoutDetailsByUrl(VideoContent.PREMIUM_VIDEO_URL);
     firstContainer.verifyVideoAdded(VideoContent.PREMIUM_VIDEO_NAME);
-    featuredVideoAdminObject.clickSaveFeaturedVideoForm(driver);
+    featuredVideoAdminObject.clickSaveFeaturedVideoForm(getDriver());
   }
 }
@@ -19,7 +19,7 @@ public class VideosModuleTests extends NewTestTemplate {
   public void visitorCanSeeVideosModuleOnArticleAndFilePages() {
     new ArticleContent().push(PageContent.ARTICLE_TEXT);
 
-    VideosModuleComponentObject videosModule = new VideosModuleComponentObject(driver);
+    VideosModuleComponentObject videosModule = new VideosModuleComponentObject(getDriver());
     new ArticlePageObject().open();
     videosModule.verifyVideosModuleShowing();
 
@@ -34,7 +34,7 @@ public class VideosModuleTests extends NewTestTemplate {
    */
   @Test(groups = {"VideosModule", "VideosModuleTest_002", "Media"})
   public void VideosModuleTest_002() {
-    VideosModuleComponentObject videosModule = new VideosModuleComponentObject(driver);
+    VideosModuleComponentObject videosModule = new VideosModuleComponentObject(getDriver());
 
     new MainPage().open();
     videosModule.verifyVideosModuleNotShowing();
@@ -52,7 +52,7 @@ public class VideosModuleTests extends NewTestTemplate {
     new ArticleContent().push(PageContent.ARTICLE_TEXT);
 
     new ArticlePageObject().open();
-    new VideosModuleComponentObject(driver).verifyDisplayCount();
+    new VideosModuleComponentObject(getDriver()).verifyDisplayCount();
   }
 
   /**
@@ -63,6 +63,6 @@ public class VideosModuleTests extends NewTestTemplate {
     new ArticleContent().push(PageContent.ARTICLE_TEXT);
 
     new ArticlePageObject().open();
-    new VideosModuleComponentObject(driver).verifyNoDuplicates();
+    new VideosModuleComponentObject(getDriver()).verifyNoDuplicates();
   }
 }
@@ -145,14 +145,14 @@ public class HTMLTitleTests extends NewTestTemplate {
 
       for (String[] testCase : testCases) {
         navigate.toUrl(new Page(testCase[0], testCase[1]).getUrl());
-        new Wait(driver).forElementVisible(By.cssSelector(".side-nav-toggle-2016"));
+        new Wait(getDriver()).forElementVisible(By.cssSelector(".side-nav-toggle-2016"));
         this.pushMetaTagsToFile(out);
 
         if (!originalEnv.equals("prod")) {
           Configuration.setTestValue("env", "prod");
 
           navigate.toUrl(new Page(testCase[0], testCase[1]).getUrl());
-          new Wait(driver).forElementVisible(By.cssSelector(".side-nav-toggle-2016"));
+          new Wait(getDriver()).forElementVisible(By.cssSelector(".side-nav-toggle-2016"));
           this.pushMetaTagsToFile(out2);
 
           Configuration.setTestValue("env", originalEnv);
@@ -166,9 +166,9 @@ public class HTMLTitleTests extends NewTestTemplate {
 
   private void pushMetaTagsToFile(PrintWriter file) {
     file.println("==============================================================================");
-    file.println(driver.getCurrentUrl());
+    file.println(getDriver().getCurrentUrl());
     file.println("==============================================================================");
-    List<WebElement> metaTags =  driver.findElements(
+    List<WebElement> metaTags =  getDriver().findElements(
         By.cssSelector("head meta, head title, head link"));
     ArrayList<String> headData = new ArrayList<>();
 
@@ -81,7 +81,7 @@ public class NavigationMercuryTests extends NavigationTests {
         .openNavigation()
         .clickExploreWikiHeader(Skin.MERCURY);
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(MercurySubpages.MAIN_PAGE));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(MercurySubpages.MAIN_PAGE));
   }
 
   @Test (enabled = false)
@@ -92,7 +92,7 @@ public class NavigationMercuryTests extends NavigationTests {
     Long firstPosition = testPage.scrollToLink(0, 200);
     testPage.clickArticleLink(0);
 
-    driver.navigate().back();
+    getDriver().navigate().back();
 
     boolean isEqualPosition = testPage.isInScrollPosition(firstPosition);
 
@@ -87,6 +87,6 @@ public class NavigationMobileWikiTests extends NavigationTests {
         .openNavigation()
         .clickExploreWikiHeader(Skin.MOBILE_WIKI);
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(MercurySubpages.MAIN_PAGE));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(MercurySubpages.MAIN_PAGE));
   }
 }
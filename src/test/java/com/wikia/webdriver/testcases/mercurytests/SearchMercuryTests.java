@@ -31,7 +31,7 @@ public class SearchMercuryTests extends SearchTests {
         .typeInSearch(SEARCH_PHRASE)
         .clickSearchSuggestion(0, Skin.MERCURY);
 
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.MOBILE_WIKI));
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.MOBILE_WIKI));
     Assertion.assertEquals(
         clickedSuggestion.toLowerCase(),
         new ArticlePage().getHeader().getPageTitle().toLowerCase()
@@ -48,7 +48,7 @@ public class SearchMercuryTests extends SearchTests {
         .getTopBar()
         .typeInDesktopSearchAndSelectSuggestion(SEARCH_PHRASE, 0);
 
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.OASIS));
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.OASIS));
     Assertion.assertEquals(
         clickedSuggestion.toLowerCase(),
         new ArticlePageObject().getArticleName().toLowerCase()
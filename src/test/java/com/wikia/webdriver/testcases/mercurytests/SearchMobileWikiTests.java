@@ -51,7 +51,7 @@ public class SearchMobileWikiTests extends SearchTests {
             .openForQuery(SEARCH_PHRASE)
             .clickSearchResult(0);
 
-    Assertion.assertEquals(driver.getCurrentUrl(), resultLink);
+    Assertion.assertEquals(getDriver().getCurrentUrl(), resultLink);
   }
 
   @Execute(onWikia = MercuryWikis.MERCURY_AUTOMATION_TESTING)
@@ -19,7 +19,7 @@ public class SmartBannerTest extends NewTestTemplate {
   private SmartBanner smartBanner;
 
   private void init() {
-    this.smartBanner = new SmartBanner(driver);
+    this.smartBanner = new SmartBanner(getDriver());
 
     new Navigate().toPageByPath(MercurySubpages.GALLERY);
   }
@@ -29,7 +29,7 @@ public class TopBarTests extends NewTestTemplate {
     Assertion.assertTrue(topBar.isHamburgerIconVisible());
     Assertion.assertTrue(topBar.isSearchIconVisible());
 
-    driver.executeScript("window.scrollTo(100, document.body.scrollHeight)");
+    getDriver().executeScript("window.scrollTo(100, document.body.scrollHeight)");
 
     Assertion.assertTrue(topBar.isNavigationBarVisible());
     Assertion.assertTrue(topBar.isLogoVisible());
@@ -47,7 +47,7 @@ public class ArticlePageTests extends NewTestTemplate {
     new ArticleContent().push(MAIN_PAGE_CONTENT, "Main_Page");
 
     init();
-    ArticlePageObject articlePage = new ArticlePageObject(driver);
+    ArticlePageObject articlePage = new ArticlePageObject(getDriver());
     navigate.toPageByPath("/wiki/Main_Page");
 
     Assertion.assertTrue(articlePage.isWikiaLogoVisible());
@@ -63,7 +63,7 @@ public class ArticlePageTests extends NewTestTemplate {
     new ArticleContent().push(MAIN_PAGE_CONTENT, "Main_Page");
 
     init();
-    ArticlePageObject articlePage = new ArticlePageObject(driver);
+    ArticlePageObject articlePage = new ArticlePageObject(getDriver());
     navigate.toPageByPath("/wiki/Main_Page");
 
     articlePage.clickTopContributor(0);
@@ -77,14 +77,14 @@ public class ArticlePageTests extends NewTestTemplate {
     new ArticleContent().push(GALLERY_CONTENT, "Gallery");
 
     init();
-    ArticlePageObject articlePage = new ArticlePageObject(driver);
+    ArticlePageObject articlePage = new ArticlePageObject(getDriver());
     navigate.toPageByPath("/wiki/LinkedImages");
 
-    String oldUrl = driver.getCurrentUrl();
+    String oldUrl = getDriver().getCurrentUrl();
     articlePage.clickOnImage(0);
     articlePage.waitForPageReload();
 
-    Assertion.assertFalse(driver.getCurrentUrl().equals(oldUrl));
+    Assertion.assertFalse(getDriver().getCurrentUrl().equals(oldUrl));
   }
 
   @Test(groups = "mercury_article_navigateToArticlesWithColonAndQuestionMark")
@@ -93,7 +93,7 @@ public class ArticlePageTests extends NewTestTemplate {
     new ArticleContent().push("Article about question mark [[Colon:colon:colon]]", "Question?mark?question");
 
     init();
-    ArticlePageObject article = new ArticlePageObject(driver);
+    ArticlePageObject article = new ArticlePageObject(getDriver());
 
     String encodedQuestionMarkUrl = "/wiki/Question%3Fmark%3Fquestion";
     String encodedColonUrl = "/wiki/Colon%3Acolon%3Acolon";
@@ -105,12 +105,12 @@ public class ArticlePageTests extends NewTestTemplate {
 
     navigate.toPageByPath(encodedColonUrl);
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(encodedColonUrl));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(encodedColonUrl));
     Assertion.assertTrue(MercurySubpages.COLON.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     navigate.toPageByPath(encodedQuestionMarkUrl);
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(encodedQuestionMarkUrl));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(encodedQuestionMarkUrl));
     Assertion.assertTrue(MercurySubpages.QUESTION_MARK.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     PageObjectLogging.logWarning(
@@ -121,13 +121,13 @@ public class ArticlePageTests extends NewTestTemplate {
     article.clickOnAnchorInContent(0);
     article.waitForPageReload();
 
-    Assertion.assertFalse(driver.getCurrentUrl().contains(encodedColonUrl));
+    Assertion.assertFalse(getDriver().getCurrentUrl().contains(encodedColonUrl));
     Assertion.assertTrue(MercurySubpages.COLON.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     article.clickOnAnchorInContent(0);
     article.waitForPageReload();
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(encodedQuestionMarkUrl));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(encodedQuestionMarkUrl));
     Assertion.assertTrue(MercurySubpages.QUESTION_MARK.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     PageObjectLogging.logWarning("Info", "Accessing article through link in navigation side");
@@ -136,26 +136,26 @@ public class ArticlePageTests extends NewTestTemplate {
     navigation.openSubMenu(3);
     navigation.openPageLink(5);
 
-    Assertion.assertFalse(driver.getCurrentUrl().contains(encodedColonUrl));
+    Assertion.assertFalse(getDriver().getCurrentUrl().contains(encodedColonUrl));
     Assertion.assertTrue(MercurySubpages.COLON.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     topBar.openNavigation();
     navigation.openSubMenu(3);
     navigation.openPageLink(4);
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(encodedQuestionMarkUrl));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(encodedQuestionMarkUrl));
     Assertion.assertTrue(MercurySubpages.QUESTION_MARK.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     PageObjectLogging.logWarning("Info", "Accessing article through link in search result");
 
     topBar.openSearch().navigateToPage(MercurySubpages.COLON.substring(6));
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(encodedColonUrl));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(encodedColonUrl));
     Assertion.assertTrue(MercurySubpages.COLON.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
 
     topBar.openSearch().navigateToPage(MercurySubpages.QUESTION_MARK.substring(6));
 
-    Assertion.assertTrue(driver.getCurrentUrl().contains(encodedQuestionMarkUrl));
+    Assertion.assertTrue(getDriver().getCurrentUrl().contains(encodedQuestionMarkUrl));
     Assertion.assertTrue(MercurySubpages.QUESTION_MARK.toLowerCase().contains(article.getArticleTitle().toLowerCase()));
   }
 }
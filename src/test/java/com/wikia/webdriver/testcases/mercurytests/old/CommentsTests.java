@@ -17,6 +17,8 @@ import com.wikia.webdriver.elements.mercury.old.CommentsPageObject;
 import org.openqa.selenium.By;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+
 @Test(groups = "Mercury_Comments")
 @Execute(onWikia = MercuryWikis.MERCURY_AUTOMATION_TESTING)
 @InBrowser(
@@ -31,12 +33,15 @@ public class CommentsTests extends NewTestTemplate {
   private static final int COMMENT_NUMBER_WITH_VIDEO = 0;
   private static final int COMMENT_NUMBER_WITH_IMAGE = 1;
 
+  // mercury api serving comment pages
+  private static final String COMMENTS_URL_PART = "/article/comments/";
+
   private static final By OASIS_BODY = By.cssSelector("body.skin-oasis");
 
   private CommentsPageObject comments;
 
   private void init() {
-    this.comments = new CommentsPageObject(driver);
+    this.comments = new CommentsPageObject(getDriver());
 
     new Navigate().toPageByPath(MercurySubpages.COMMENTS);
   }
@@ -136,10 +141,12 @@ public class CommentsTests extends NewTestTemplate {
         true
     );
 
+    Wait wait = new Wait(getDriver());
     while (comments.isNextCommentPageButtonDisplayed()) {
       numberOfComments -= comments.getNumberOfAllCommentsOnPage();
+      long cursor = wait.getRequestCursor();
       comments.clickNextCommentPageButton();
-      new Wait(driver).forXMilliseconds(2500);
+      wait.forRequestsSinceOrX(cursor, COMMENTS_URL_PART, Duration.ofMillis(2500));
     }
 
     numberOfComments -= comments.getNumberOfAllCommentsOnPage();
@@ -163,8 +170,9 @@ public class CommentsTests extends NewTestTemplate {
         true
     );
 
+    long cursor = wait.getRequestCursor();
     comments.clickPreviousCommentPageButton();
-    new Wait(driver).forXMilliseconds(2500);
+    wait.forRequestsSinceOrX(cursor, COMMENTS_URL_PART, Duration.ofMillis(2500));
 
     result = !comments.isPreviousCommentPageButtonDisplayed();
     PageObjectLogging.log(
@@ -224,7 +232,7 @@ public class CommentsTests extends NewTestTemplate {
     comments.waitForCommentsToLoad();
     String username = comments.getUserUsername(0);
     comments.clickOnUsername(0);
-    new Wait(driver).forElementVisible(OASIS_BODY);
+    new Wait(getDriver()).forElementVisible(OASIS_BODY);
 
     boolean result = username.equals(comments.getUsernameFromUrl());
     PageObjectLogging.log(
@@ -30,7 +30,7 @@ public class LightboxTests extends NewTestTemplate {
   private LightboxComponentObject lightbox;
 
   private void init() {
-    this.gallery = new GalleryComponentObject(driver);
+    this.gallery = new GalleryComponentObject(getDriver());
     this.lightbox = new LightboxComponentObject();
 
     new Navigate().toPageByPath(MercurySubpages.GALLERY);
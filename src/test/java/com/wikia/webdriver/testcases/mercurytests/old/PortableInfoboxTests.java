@@ -25,8 +25,8 @@ public class PortableInfoboxTests extends NewTestTemplate {
   private Navigate navigate;
 
   private void init() {
-    this.infobox = new PortableInfoboxObject(driver);
-    this.toc = new TableOfContentPageObject(driver);
+    this.infobox = new PortableInfoboxObject(getDriver());
+    this.toc = new TableOfContentPageObject(getDriver());
     this.navigate = new Navigate();
   }
 
@@ -20,9 +20,9 @@ public class RedirectionTests extends NewTestTemplate {
     String navigateUrl = urlBuilder.getUrlForPageWithWWW(MercurySubpages.MAIN_PAGE);
     String expectedUrl = urlBuilder.getUrlForPage(MercurySubpages.MAIN_PAGE);
 
-    driver.get(navigateUrl);
+    getDriver().get(navigateUrl);
 
-    String currentUrl = driver.getCurrentUrl();
+    String currentUrl = getDriver().getCurrentUrl();
     Assertion.assertTrue(currentUrl.contains(expectedUrl) && !currentUrl.contains("www."));
   }
 }
@@ -28,7 +28,7 @@ public class TOCTests extends NewTestTemplate {
   private Navigate navigate;
 
   private void init() {
-    this.toc = new TableOfContentPageObject(driver);
+    this.toc = new TableOfContentPageObject(getDriver());
     this.navigate = new Navigate();
   }
 
@@ -132,7 +132,7 @@ public class TOCTests extends NewTestTemplate {
     init();
     navigate.toPageByPath(MercurySubpages.TOC);
 
-    new ArticlePageObject(driver).clickOnAnchorInContent(0);
+    new ArticlePageObject(getDriver()).clickOnAnchorInContent(0);
 
     boolean result = toc.isUserMovedToSectionByIndex("2");
     PageObjectLogging.log(
@@ -148,7 +148,7 @@ public class TOCTests extends NewTestTemplate {
     init();
     navigate.toPageByPath(MercurySubpages.TOC_WITHOUT_H2);
 
-    ArticlePageObject article = new ArticlePageObject(driver);
+    ArticlePageObject article = new ArticlePageObject(getDriver());
     article.clickOnAnchorInContent(0);
     article.waitForPageReload();
 
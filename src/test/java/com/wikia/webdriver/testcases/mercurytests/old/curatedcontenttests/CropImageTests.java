@@ -44,9 +44,9 @@ public class CropImageTests extends NewTestTemplate {
     this.curatedMainPage = new CuratedMainPagePageObject();
     this.editor = new EditorHomePageObject();
     this.itemForm = new ItemFormPageObject();
-    this.imageModal = new UploadImageModalComponentObject(driver);
-    this.search = new SearchForImagePageObject(driver);
-    this.croppingTool = new CroppingToolPageObject(driver);
+    this.imageModal = new UploadImageModalComponentObject(getDriver());
+    this.search = new SearchForImagePageObject(getDriver());
+    this.croppingTool = new CroppingToolPageObject(getDriver());
     this.navigate = new Navigate();
   }
 
@@ -39,11 +39,11 @@ public class ImageUploadTests extends NewTestTemplate {
 
   private void init() {
     this.curatedMainPage = new CuratedMainPagePageObject();
-    this.crop = new CroppingToolPageObject(driver);
+    this.crop = new CroppingToolPageObject(getDriver());
     this.editor = new EditorHomePageObject();
     this.generator = new ImageGenerator();
     this.itemForm = new ItemFormPageObject();
-    this.upload = new UploadImageModalComponentObject(driver);
+    this.upload = new UploadImageModalComponentObject(getDriver());
     this.navigate = new Navigate();
   }
 
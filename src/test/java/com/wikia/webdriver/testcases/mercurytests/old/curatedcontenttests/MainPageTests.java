@@ -68,10 +68,10 @@ public class MainPageTests extends NewTestTemplate {
     init();
 
     navigate.toPageByPath(MercurySubpages.CC_MAIN_PAGE);
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.MOBILE_WIKI));
-    new ArticlePageObject(driver).isFooterVisible();
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.MOBILE_WIKI));
+    new ArticlePageObject(getDriver()).isFooterVisible();
 
-    boolean result = driver.getCurrentUrl().contains(ROOT_PATH);
+    boolean result = getDriver().getCurrentUrl().contains(ROOT_PATH);
     PageObjectLogging.log(
         "Current URL",
         "is set on " + ROOT_PATH,
@@ -178,7 +178,7 @@ public class MainPageTests extends NewTestTemplate {
     init();
 
     navigate.toPageByPath(MercurySubpages.ECC_MAIN_PAGE);
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.MOBILE_WIKI));
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.MOBILE_WIKI));
 
     boolean result = curatedMainPage.isRevisedArticleTitleVisible();
     PageObjectLogging.log(
@@ -235,7 +235,7 @@ public class MainPageTests extends NewTestTemplate {
     init();
 
     navigate.toPageByPath(MercurySubpages.NTACC_MAIN_PAGE);
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.MOBILE_WIKI));
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.MOBILE_WIKI));
 
     boolean result = !curatedMainPage.isTrendingArticlesVisible();
     PageObjectLogging.log(
@@ -316,7 +316,7 @@ public class MainPageTests extends NewTestTemplate {
     init();
 
     navigate.toPageByPath(MercurySubpages.NTVCC_MAIN_PAGE);
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.MOBILE_WIKI));
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.MOBILE_WIKI));
 
     boolean result = curatedMainPage.isMobileTopLeaderboardVisible();
     PageObjectLogging.log(
@@ -381,7 +381,7 @@ public class MainPageTests extends NewTestTemplate {
     init();
 
     navigate.toPageByPath(MercurySubpages.NTAVCC_MAIN_PAGE);
-    Assertion.assertTrue(new SkinHelper(driver).isSkin(Skin.MOBILE_WIKI));
+    Assertion.assertTrue(new SkinHelper(getDriver()).isSkin(Skin.MOBILE_WIKI));
 
     boolean result = curatedMainPage.isMobileTopLeaderboardVisible();
     PageObjectLogging.log(
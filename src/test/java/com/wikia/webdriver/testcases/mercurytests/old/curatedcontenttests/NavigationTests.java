@@ -32,7 +32,7 @@ public class NavigationTests extends NewTestTemplate {
   private void init() {
     this.curatedContent = new CuratedContentPageObject();
     this.navigate = new Navigate();
-    this.article = new ArticlePageObject(driver);
+    this.article = new ArticlePageObject(getDriver());
   }
 
   @Test(groups = "MercuryCuratedNavigationTest_001")
@@ -44,7 +44,7 @@ public class NavigationTests extends NewTestTemplate {
     curatedContent.clickOnCuratedContentElementByIndex(1);
     curatedContent.waitForPageReload();
 
-    UrlChecker.isPathContainedInCurrentUrl(driver, "/wiki/Category:");
+    UrlChecker.isPathContainedInCurrentUrl(getDriver(), "/wiki/Category:");
   }
 
   @Test(groups = "MercuryCuratedNavigationTest_002")
@@ -62,7 +62,7 @@ public class NavigationTests extends NewTestTemplate {
         .isCuratedContentItemVisibleByIndex(1);
 
     UrlChecker.isPathContainedInCurrentUrl(
-        driver, MercurySubpages.CC_MAIN_PAGE);
+        getDriver(), MercurySubpages.CC_MAIN_PAGE);
   }
 
   @Test(groups = "MercuryCuratedNavigationTest_003")
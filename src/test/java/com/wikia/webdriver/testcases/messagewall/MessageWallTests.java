@@ -27,7 +27,7 @@ public class MessageWallTests extends NewTestTemplate {
 
   @BeforeMethod
   public void mouseMove() {
-    new Actions(driver).moveByOffset(0, 0).perform();
+    new Actions(getDriver()).moveByOffset(0, 0).perform();
   }
 
   @Test(groups = {"MessageWall_001", "MessageWall", "MessageWallTests", "Smoke3"})
@@ -185,7 +185,7 @@ public class MessageWallTests extends NewTestTemplate {
     boolean isUserBlocked = blockListPage.isUserBlocked(User.CONSTANTLY_BLOCKED_USER.getUserName());
     if (!isUserBlocked) {
       blockListPage.loginAs(User.SUS_CHAT_STAFF2);
-      SpecialBlockPage blockPage = new SpecialBlockPage(driver).open();
+      SpecialBlockPage blockPage = new SpecialBlockPage(getDriver()).open();
       blockPage.typeInUserName(User.CONSTANTLY_BLOCKED_USER.getUserName());
       blockPage.typeExpiration("10 year");
       blockPage.typeReason("block QATestsBlockedUser");
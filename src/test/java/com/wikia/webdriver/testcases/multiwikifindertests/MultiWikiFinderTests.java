@@ -17,7 +17,8 @@ public class MultiWikiFinderTests extends NewTestTemplate {
 
   @Test(groups = {"MultiWikiFinder_001", "MultiWikiFinder"})
   public void multiWikiFinderTests_001_notExistingPagename() {
-    SpecialMultiWikiFinderPageObject multiWikiFinder = new SpecialMultiWikiFinderPageObject(driver);
+    SpecialMultiWikiFinderPageObject multiWikiFinder =
+        new SpecialMultiWikiFinderPageObject(getDriver());
     multiWikiFinder.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     multiWikiFinder.openSpecialMultiWikiFinderPage(wikiURL);
     multiWikiFinder.findPageName(multiWikiFinder.getTimeStamp());
@@ -26,7 +27,8 @@ public class MultiWikiFinderTests extends NewTestTemplate {
 
   @Test(groups = {"MultiWikiFinder_002", "MultiWikiFinder"})
   public void multiWikiFinderTests_002_maxAmoutOfLinksOnPage() {
-    SpecialMultiWikiFinderPageObject multiWikiFinder = new SpecialMultiWikiFinderPageObject(driver);
+    SpecialMultiWikiFinderPageObject multiWikiFinder =
+        new SpecialMultiWikiFinderPageObject(getDriver());
     multiWikiFinder.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     multiWikiFinder.openSpecialMultiWikiFinderPage(wikiURL);
     multiWikiFinder.findPageName(pageName);
@@ -37,7 +39,7 @@ public class MultiWikiFinderTests extends NewTestTemplate {
   @Execute(asUser = User.STAFF)
   public void multiwikiFinderTests_003_checkPagination() {
     SpecialMultiWikiFinderPageObject multiWikiFinder =
-        new SpecialMultiWikiFinderPageObject(driver).openSpecialMultiWikiFinderPage(wikiURL);
+        new SpecialMultiWikiFinderPageObject(getDriver()).openSpecialMultiWikiFinderPage(wikiURL);
     multiWikiFinder.findPageName(pageName);
     multiWikiFinder.verifyPagination();
   }
@@ -45,7 +47,8 @@ public class MultiWikiFinderTests extends NewTestTemplate {
   @Test(dataProviderClass = ArticleDataProvider.class, dataProvider = "getPageNames", groups = {
       "MultiWikiFinder_004", "MultiWikiFinder"})
   public void multiWikifinderTests_004_pagenameInPath(String popularPagename) {
-    SpecialMultiWikiFinderPageObject multiWikiFinder = new SpecialMultiWikiFinderPageObject(driver);
+    SpecialMultiWikiFinderPageObject multiWikiFinder =
+        new SpecialMultiWikiFinderPageObject(getDriver());
     multiWikiFinder.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     multiWikiFinder.openSpecialMultiWikiFinderPage(wikiURL);
     multiWikiFinder.findPageName(popularPagename);
@@ -54,7 +57,8 @@ public class MultiWikiFinderTests extends NewTestTemplate {
 
   @Test(groups = {"MultiWikiFinder_005", "MultiWikiFinder"})
   public void multiWikiFinderTests_005_emptyPagename() {
-    SpecialMultiWikiFinderPageObject multiWikiFinder = new SpecialMultiWikiFinderPageObject(driver);
+    SpecialMultiWikiFinderPageObject multiWikiFinder =
+        new SpecialMultiWikiFinderPageObject(getDriver());
     multiWikiFinder.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     multiWikiFinder.openSpecialMultiWikiFinderPage(wikiURL);
     multiWikiFinder.findPageName("");
@@ -61,7 +61,7 @@ public class ForumNotificationsTests extends NewTestTemplate {
   @Execute(asUser = User.USER)
   public void userIsNotifiedWhenRegularAndStaffUsersReplyToHerDiscussion() {
     ForumPage forumMainPage = new ForumPage();
-    NotificationsComponentObject notifications = new NotificationsComponentObject(driver);
+    NotificationsComponentObject notifications = new NotificationsComponentObject(getDriver());
 
     forumMainPage.openForumMainPage(wikiURL);
     notifications.showNotifications();
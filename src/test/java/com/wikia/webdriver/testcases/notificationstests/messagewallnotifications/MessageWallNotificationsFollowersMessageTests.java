@@ -55,7 +55,7 @@ public class MessageWallNotificationsFollowersMessageTests extends NewTestTempla
   public void userIsNotifiedWhenOtherUserWritesMessageOnFollowedMessageWal() {
     WikiBasePageObject base = new WikiBasePageObject();
     base.loginAs(credentials.userName5, credentials.password5, wikiURL);
-    NotificationsComponentObject notifications = new NotificationsComponentObject(driver);
+    NotificationsComponentObject notifications = new NotificationsComponentObject(getDriver());
     notifications.showNotifications();
     notifications.verifyNotification(title, credentials.userName6);
   }
@@ -80,7 +80,7 @@ public class MessageWallNotificationsFollowersResponseTests extends NewTestTempl
  public void userIsNotifiedWhenOtherUserWritesResponseOnFollowedMessageWall() {
     WikiBasePageObject base = new WikiBasePageObject();
     base.loginAs(credentials.userName7, credentials.password7, wikiURL);
-    NotificationsComponentObject notifications = new NotificationsComponentObject(driver);
+    NotificationsComponentObject notifications = new NotificationsComponentObject(getDriver());
     notifications.showNotifications();
     notifications.verifyNotification(title, credentials.userName8);
   }
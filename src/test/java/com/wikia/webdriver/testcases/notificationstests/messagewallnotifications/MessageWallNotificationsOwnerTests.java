@@ -40,7 +40,7 @@ public class MessageWallNotificationsOwnerTests extends NewTestTemplate {
  public void userIsNotifiedWhenOtherUserWritesMessageOnHerMessageWal() {
     WikiBasePageObject base = new WikiBasePageObject();
     base.loginAs(credentials.userName10, credentials.password10, wikiURL);
-    NotificationsComponentObject notifications = new NotificationsComponentObject(driver);
+    NotificationsComponentObject notifications = new NotificationsComponentObject(getDriver());
     notifications.showNotifications();
     notifications.verifyNotification(title, credentials.userName9);
   }
@@ -55,7 +55,7 @@ public class MessageWallNotificationsThreadCreatorTests extends NewTestTemplate
  public void userIsNotifiedWhenOtherUserWritesResponseOnHerMessageWal() {
     WikiBasePageObject base = new WikiBasePageObject();
     base.loginAs(credentials.userName11, credentials.password11, wikiURL);
-    NotificationsComponentObject notifications = new NotificationsComponentObject(driver);
+    NotificationsComponentObject notifications = new NotificationsComponentObject(getDriver());
     notifications.showNotifications();
     notifications.verifyNotification(title, credentials.userName12, "replied to your message");
   }
@@ -81,7 +81,7 @@ public class MessageWallNotificationsThreadParticipantTests extends NewTestTempl
   public void userIsNotifiedWhenOtherUserWritesResponseToHerResponseOnMessageWal() {
     WikiBasePageObject base = new WikiBasePageObject();
     base.loginAs(credentials.userName4, credentials.password4, wikiURL);
-    NotificationsComponentObject notifications = new NotificationsComponentObject(driver);
+    NotificationsComponentObject notifications = new NotificationsComponentObject(getDriver());
     notifications.showNotifications();
     notifications
         .verifyNotification(title, credentials.userName3, "replied to " + credentials.userName3);
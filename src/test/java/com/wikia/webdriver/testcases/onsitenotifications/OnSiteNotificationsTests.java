@@ -158,19 +158,19 @@ public class OnSiteNotificationsTests extends NewTestTemplate {
    */
 
   private PostEntity.Data createPostAs(User user) {
-    return DiscussionsClient.using(user, driver).createPostWithUniqueData(siteId);
+    return DiscussionsClient.using(user, getDriver()).createPostWithUniqueData(siteId);
   }
 
   private ReplyEntityData createReplyToPostAs(PostEntity.Data post, User user) {
-    return DiscussionsClient.using(user, driver).createReplyToPost(siteId, post);
+    return DiscussionsClient.using(user, getDriver()).createReplyToPost(siteId, post);
   }
 
   private void upvotePostAs(PostEntity.Data post, User user) {
-    DiscussionsClient.using(user, driver).upvotePost(siteId, post);
+    DiscussionsClient.using(user, getDriver()).upvotePost(siteId, post);
   }
 
   private void upvoteReplyAs(ReplyEntityData reply, User user) {
-    DiscussionsClient.using(user, driver).upvoteReply(siteId, reply);
+    DiscussionsClient.using(user, getDriver()).upvoteReply(siteId, reply);
   }
 
   private Notification createReplyReturningExpectedNotification(User postAuthor, User replyAuthor) {
@@ -28,7 +28,7 @@ public class CrossWikiSearchTests extends NewTestTemplate {
   @Test(dataProviderClass = CrossWikiSearchProvider.class, dataProvider = "getExactMatchQueries",
       groups = {"CrossWikiSearch_001", "Search", "CrossWikiSearch_1"})
   public void crossWikiSearch_001_exactMatch(String query, String wikiName, String vertical) {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(query);
     search.verifyFirstResultTitle(wikiName);
@@ -41,7 +41,7 @@ public class CrossWikiSearchTests extends NewTestTemplate {
 
   @Test(groups = {"CrossWikiSearch_002", "Search", "CrossWikiSearch_2"})
   public void crossWikiSearch_002_pagination() {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(SearchContent.SEARCH_PHRASE);
     search.navigateToWikiResults();
@@ -72,20 +72,20 @@ public class CrossWikiSearchTests extends NewTestTemplate {
 
   @Test(groups = {"CrossWikiSearch_003", "Search", "CrossWikiSearch_1"})
   public void crossWikiSearch_003_resultClick() {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(SearchContent.SEARCH_PHRASE);
     search.navigateToWikiResults();
     WikiArticleHomePage wikiArticleHomePage = search.openResult(0);
     wikiArticleHomePage.verifyThisIsWikiHomePage();
-    driver.navigate().back();
+    getDriver().navigate().back();
     search.openResult(2);
     wikiArticleHomePage.verifyThisIsWikiHomePage();
   }
 
   @Test(groups = {"CrossWikiSearch_004", "Search", "CrossWikiSearch_2"})
   public void crossWikiSearch_004_noResults() {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(SearchContent.SEARCH_PHRASE_NO_RESULTS);
     search.verifyNoPagination();
@@ -95,7 +95,7 @@ public class CrossWikiSearchTests extends NewTestTemplate {
 
   @Test(groups = {"CrossWikiSearch_005", "Search", "CrossWikiSearch_1"})
   public void crossWikiSearch_005_onePageResult() {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(SearchContent.SEARCH_PHRASE_ONE_PAGE_RESULTS);
     search.verifyNoPagination();
@@ -105,7 +105,7 @@ public class CrossWikiSearchTests extends NewTestTemplate {
   @Test(dataProviderClass = CrossWikiSearchProvider.class, dataProvider = "getPushToTopQueries",
       groups = {"CrossWikiSearch_006", "Search", "CrossWikiSearch_2"})
   public void crossWikiSearch_006_pushToTop(String query, String wikiName) {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(query);
     search.verifyFirstResultTitle(wikiName);
@@ -118,7 +118,7 @@ public class CrossWikiSearchTests extends NewTestTemplate {
   @Test(enabled = false, // MAIN-4498
       groups = {"CrossWikiSearch_007", "Search", "CrossWikiSearch_2"})
   public void crossWikiSearch_007_romanNumbersMatch() {
-    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(driver);
+    CrossWikiSearchPageObject search = new CrossWikiSearchPageObject(getDriver());
     search.goToSearchPage(wikiCorporateURL);
     search.searchFor(SearchContent.SEARCH_PHRASE_ROMAN_NUMBER);
     search.navigateToWikiResults();
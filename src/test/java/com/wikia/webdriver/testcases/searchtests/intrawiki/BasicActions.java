@@ -61,7 +61,7 @@ public class BasicActions extends IntraWiki {
                                                  + "built of 6 or 11 elements depending or what "
                                                  + "pagination link you enter")
   public void pagination() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PAGINATION_RESULTS);
     String firstResult = search.getTitleInnerText();
@@ -77,7 +77,7 @@ public class BasicActions extends IntraWiki {
 
   @Test(groups = {"IntraWikiSearch_003", "Search", "Search4"})
   public void resultsCount() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.verifyResultsCount(SearchContent.RESULTS_PER_PAGE_HIGH);
@@ -87,7 +87,7 @@ public class BasicActions extends IntraWiki {
 
   @Test(groups = {"IntraWikiSearch_004", "Search", "Search1"})
   public void noResults() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_NO_RESULTS_2);
     search.verifyNoResults();
@@ -97,7 +97,7 @@ public class BasicActions extends IntraWiki {
   @RelatedIssue(issueID = "MAIN-7142",
       comment = "Product code defect. No need to test manually")
   public void filtering() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.selectPhotosVideos();
@@ -114,7 +114,7 @@ public class BasicActions extends IntraWiki {
   @RelatedIssue(issueID = "MAIN-7142",
       comment = "Product code defect. No need to test manually")
   public void sortingVideos() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.selectPhotosVideos();
@@ -135,7 +135,7 @@ public class BasicActions extends IntraWiki {
   @RelatedIssue(issueID = "MAIN-7142",
       comment = "Product code defect. No need to test manually")
   public void sortingImages() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.selectPhotosVideos();
@@ -150,7 +150,7 @@ public class BasicActions extends IntraWiki {
 
   @Test(groups = {"IntraWikiSearch_009", "Search", "Search1"})
   public void languageTranslation() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.addQqxUselang();
@@ -161,7 +161,7 @@ public class BasicActions extends IntraWiki {
   @RelatedIssue(issueID = "MAIN-7142",
       comment = "Product code defect. No need to test manually")
   public void selectImagesOrVideos() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.selectPhotosVideos();
@@ -175,7 +175,7 @@ public class BasicActions extends IntraWiki {
   @RelatedIssue(issueID = "MAIN-7142",
       comment = "Product code defect. No need to test manually")
   public void defaultNamespaces() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.clickAdvancedButton();
@@ -184,7 +184,7 @@ public class BasicActions extends IntraWiki {
 
   @Test(groups = {"IntraWikiSearch_012", "Search", "Search4"})
   public void noFileExtensionNeed() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_RESULT_WITH_EXTENSION);
     search.selectPhotosVideos();
@@ -196,11 +196,11 @@ public class BasicActions extends IntraWiki {
   @RelatedIssue(issueID = "MAIN-7142",
       comment = "Product code defect. No need to test manually")
   public void namespaces(String searchPhrase, String namespace) {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(searchPhrase);
     search.selectAllAdvancedOptions();
-    SearchPageObject searchPage = new SearchPageObject(driver);
+    SearchPageObject searchPage = new SearchPageObject(getDriver());
     searchPage.clickSearchButton();
     searchPage.setSearchTab(SearchPageObject.SearchTab.EVERYTHING);
     search.verifyNamespace(namespace);
@@ -208,7 +208,7 @@ public class BasicActions extends IntraWiki {
 
   @Test(groups = {"IntraWikiSearch_014", "Search", "Search2"})
   public void topModule() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.searchFor(SearchContent.SEARCH_PHRASE_RESULTS);
     search.verifyTopModule();
@@ -216,7 +216,7 @@ public class BasicActions extends IntraWiki {
 
   @Test(groups = {"IntraWikiSearch_015", "Search", "Search3"})
   public void communityPushToTopWikiResult() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(communityWiki);
     search.searchForInGlobalNavIfPresent(SearchContent.SEARCH_WIKI);
     search.verifyPushToTopWikiTitle(SearchContent.SEARCH_WIKI);
@@ -14,7 +14,7 @@ public class ExactMatch extends NewTestTemplate {
       groups = {"IntraWikiSearch_001", "IntraWikiSearchExactMatch", "Search"}
   )
   public void IntraWikiSearch_001_exactMatch(String query) {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(wikiURL);
     search.searchFor(query);
     search.verifyFirstResult(query);
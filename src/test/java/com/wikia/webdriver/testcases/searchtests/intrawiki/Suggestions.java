@@ -15,7 +15,7 @@ public class Suggestions extends IntraWiki {
 
   @Test(groups = {"dropDownSuggestions", "IntraWikiSearch", "Search"})
   public void dropDownSuggestions() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(testedWiki);
     search.triggerSuggestions(SearchContent.SEARCH_SUGGESTION_PHRASE);
     search.verifySuggestions(SearchContent.SEARCH_ARTICLE);
@@ -24,7 +24,7 @@ public class Suggestions extends IntraWiki {
 
   @Test(enabled = false, groups = {"searchSuggestionsVisibility", "IntraWikiSearch", "Search"})
   public void searchSuggestionsVisibility() {
-    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(driver);
+    IntraWikiSearchPageObject search = new IntraWikiSearchPageObject(getDriver());
     search.openWikiPage(searchSuggestionsWiki);
     search.verifyNewSuggestionsTextAndImages(SearchContent.SEARCH_PHRASE_NEW_SUGGESTIONS);
   }
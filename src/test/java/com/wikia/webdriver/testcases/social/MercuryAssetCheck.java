@@ -15,8 +15,8 @@ public class MercuryAssetCheck extends NewTestTemplate {
   @Execute(onWikia = "glee")
   public void checkAssetsOnJoin() {
     WikiBasePageObject base = new WikiBasePageObject();
-    networkTrafficInterceptor.startIntercepting("MercurryAssets");
+    getNetworkTrafficInterceptor().startIntercepting("MercurryAssets");
     base.getUrl(urlBuilder.getUrlForWiki(Configuration.getWikiName()) + "join");
-    networkTrafficInterceptor.checkAssetsStatuses(".wikia.com");
+    getNetworkTrafficInterceptor().checkAssetsStatuses(".wikia.com");
   }
 }
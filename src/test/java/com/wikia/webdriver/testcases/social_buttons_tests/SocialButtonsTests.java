@@ -29,7 +29,7 @@ public class SocialButtonsTests extends NewTestTemplate {
     WikiBasePageObject base = new WikiBasePageObject();
     base.loginAs(credentials[0], credentials[1], wikiURL);
     new ArticlePageObject().open();
-    SocialButtonsComponentObject buttons = new SocialButtonsComponentObject(driver);
+    SocialButtonsComponentObject buttons = new SocialButtonsComponentObject(getDriver());
     buttons.verifyShareButtonsPresent();
     String[] currentSocialNetworks = buttons.getShareButtonTitles();
     for (int i = 0; i < expectedSocialNetworks.length; i++) {
@@ -25,7 +25,7 @@ public class EditAccountTests extends NewTestTemplate {
   @Test(groups = {"EditAccountTest_001"})
   @Execute(asUser = User.STAFF)
   public void EditAccount_001_closeAccount() {
-    EditAccount editAccount = new EditAccount(driver).navigateToSpecialEditAccount(testedWiki);
+    EditAccount editAccount = new EditAccount(getDriver()).navigateToSpecialEditAccount(testedWiki);
 
     editAccount.goToAccountManagement(credentials.userNameClosedAccount);
     editAccount.closeAccount(PageContent.CAPTION);
@@ -43,7 +43,7 @@ public class EditAccountTests extends NewTestTemplate {
   @Test(dependsOnMethods = {"EditAccount_001_closeAccount","EditAccount_002_verifyAccountClosed"})
   @Execute(asUser = User.STAFF)
   public void EditAccount_003_reopenAccount() {
-    EditAccount editAccount = new EditAccount(driver).navigateToSpecialEditAccount(testedWiki);
+    EditAccount editAccount = new EditAccount(getDriver()).navigateToSpecialEditAccount(testedWiki);
     editAccount.goToAccountManagement(credentials.userNameClosedAccount);
     editAccount.reopenAccount(credentials.passwordClosedAccount);
     editAccount.verifyAccountReopenedMessage();
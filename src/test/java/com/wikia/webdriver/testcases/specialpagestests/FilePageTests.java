@@ -81,7 +81,7 @@ public class FilePageTests extends NewTestTemplate {
     // Go to Special:Videos to add a video
     YoutubeVideo video = YoutubeVideoProvider.getLatestVideoForQuery("data");
 
-    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(driver);
+    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(getDriver());
     specialVideos.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     specialVideos.openSpecialVideoPage(wikiURL);
 
@@ -112,7 +112,7 @@ public class FilePageTests extends NewTestTemplate {
     YoutubeVideo video = YoutubeVideoProvider.getLatestVideoForQuery("pokemon");
 
     // Go to Special:Videos to add a video
-    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(driver);
+    SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(getDriver());
     specialVideos.loginAs(credentials.userNameStaff, credentials.passwordStaff, wikiURL);
     specialVideos.openSpecialVideoPage(wikiURL);
 
@@ -30,7 +30,7 @@ public class UserAndRights extends NewTestTemplate {
   @Test(groups = {"usersAndRights001"})
   @Execute(asUser = User.STAFF)
   public void staffCanBlockUser() {
-    SpecialBlockPage block = new SpecialBlockPage(driver).open();
+    SpecialBlockPage block = new SpecialBlockPage(getDriver()).open();
     block.deselectAllSelections();
     block.typeInUserName(credentials.userNameBlocked);
     block.selectExpiration("2 hours");
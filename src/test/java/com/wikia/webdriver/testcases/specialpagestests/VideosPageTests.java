@@ -44,7 +44,7 @@ public class VideosPageTests extends NewTestTemplate {
     @Test(groups = {"VideosPage", "VideosPageTest_002", "Media"})
     @RelatedIssue(issueID = "SUS-755")
     public void VideosPageTest_002_deleteVideo_notificationContainsTitle() {
-        SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(driver);
+        SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(getDriver());
         YoutubeVideo video = YoutubeVideoProvider.getLatestVideoForQuery(VIDEO_QUERY);
 
         specialVideos.addVideoViaAjax(video.getUrl());
@@ -78,7 +78,7 @@ public class VideosPageTests extends NewTestTemplate {
     @Test(groups = {"VideosPage", "VideosPageTest_003", "Media"})
     @RelatedIssue(issueID = "SUS-863")
     public void VideosPageTest_003_deleteVideo_removedFromRecentVideos() {
-        SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(driver);
+        SpecialVideosPageObject specialVideos = new SpecialVideosPageObject(getDriver());
         YoutubeVideo video = YoutubeVideoProvider.getLatestVideoForQuery(VIDEO_QUERY);
 
         specialVideos.addVideoViaAjax(video.getUrl());
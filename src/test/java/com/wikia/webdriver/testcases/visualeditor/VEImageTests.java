@@ -79,7 +79,7 @@ public class VEImageTests extends NewTestTemplate {
     veCreatePage = mediaDialog.addExistingMedia(numOfMedia);
     veCreatePage.verifyMedias(numOfMedia);
     veCreatePage.clickPublishButton();
-    new VisualEditorSaveChangesDialog(this.driver).savePage();
+    new VisualEditorSaveChangesDialog(getDriver()).savePage();
     veCreatePage.waitForPageLoad();
 
     ArticlePageObject article = new ArticlePageObject();
@@ -17,7 +17,7 @@ public class WamPageTests extends NewTestTemplate {
 
   @BeforeMethod(alwaysRun = true)
   public void wam_000_setup() {
-    wam = new WamPageObject(driver);
+    wam = new WamPageObject(getDriver());
     wam.openWamPage(wikiCorporateURL);
   }
 